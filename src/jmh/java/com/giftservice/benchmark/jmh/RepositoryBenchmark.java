@@ -0,0 +1,157 @@
+package com.giftservice.benchmark.jmh;
+
+import com.giftservice.GiftServiceApplication;
+import com.giftservice.entity.ConcreteGift;
+import com.giftservice.entity.GiftSuggestion;
+import com.giftservice.enums.*;
+import com.giftservice.repository.ConcreteGiftRepository;
+import com.giftservice.repository.GiftSuggestionRepository;
+import com.giftservice.repository.projection.GiftSuggestionSummary;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repository round trips against PostgreSQL with the Flyway schema: primary key lookups,
+ * criteria pages, summary projections and gift suggestions fetched with their concrete gifts.
+ *
+ * An embedded PostgreSQL server is started per trial. To benchmark against an existing server
+ * instead, e.g. one configured like production, set {@code benchmark.jdbc-url},
+ * {@code benchmark.username} and {@code benchmark.password} through {@code jmh.jvmArgs}.
+ * Its gift suggestion tables are seeded with benchmark data, so they must be empty, unless
+ * {@code benchmark.allow-truncate=true} is set to truncate them first.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(time = 2)
+@Measurement(time = 2)
+@State(Scope.Benchmark)
+public class RepositoryBenchmark {
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20);
+    private static final int CONCRETE_GIFTS_PER_SUGGESTION = 3;
+
+    @Param({"20000"})
+    private int rows;
+
+    private EmbeddedPostgres embeddedPostgres;
+    private ConfigurableApplicationContext context;
+    private GiftSuggestionRepository giftSuggestionRepository;
+    private ConcreteGiftRepository concreteGiftRepository;
+    private List<UUID> ids;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        String jdbcUrl = System.getProperty("benchmark.jdbc-url");
+        String username = System.getProperty("benchmark.username", "postgres");
+        String password = System.getProperty("benchmark.password", "");
+        if (jdbcUrl == null) {
+            embeddedPostgres = EmbeddedPostgres.builder().start();
+            jdbcUrl = embeddedPostgres.getJdbcUrl("postgres", "postgres");
+        }
+
+        context = new SpringApplicationBuilder(GiftServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.profiles.active=prod",
+                        "--spring.datasource.url=" + jdbcUrl,
+                        "--spring.datasource.username=" + username,
+                        "--spring.datasource.password=" + password);
+        giftSuggestionRepository = context.getBean(GiftSuggestionRepository.class);
+        concreteGiftRepository = context.getBean(ConcreteGiftRepository.class);
+
+        try {
+            ids = seedCatalog(context.getBean(JdbcTemplate.class));
+        } catch (RuntimeException e) {
+            tearDown();
+            throw e;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        if (embeddedPostgres != null) {
+            embeddedPostgres.close();
+        }
+    }
+
+    @Benchmark
+    public Optional<GiftSuggestion> findById() {
+        return giftSuggestionRepository.findById(randomId());
+    }
+
+    @Benchmark
+    public Page<GiftSuggestion> findByAdvancedCriteria() {
+        return giftSuggestionRepository.findByAdvancedCriteria(AgeGroup.ADULT, null, null, Occasion.BIRTHDAY,
+                null, null, new BigDecimal("100.00"), FIRST_PAGE);
+    }
+
+    @Benchmark
+    public List<GiftSuggestionSummary> findSummariesWithinBudget() {
+        return giftSuggestionRepository.findSummariesWithinBudget(new BigDecimal("20.00"), new BigDecimal("25.00"));
+    }
+
+    @Benchmark
+    public List<GiftSuggestion> findWithConcreteGiftsByIdIn() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int from = random.nextInt(ids.size() - FIRST_PAGE.getPageSize());
+        return giftSuggestionRepository.findWithConcreteGiftsByIdIn(ids.subList(from, from + FIRST_PAGE.getPageSize()));
+    }
+
+    @Benchmark
+    public List<ConcreteGift> findConcreteGiftsByGiftSuggestionId() {
+        return concreteGiftRepository.findByGiftSuggestionId(randomId());
+    }
+
+    private UUID randomId() {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+
+    private List<UUID> seedCatalog(JdbcTemplate jdbcTemplate) {
+        if (embeddedPostgres != null || Boolean.getBoolean("benchmark.allow-truncate")) {
+            jdbcTemplate.execute("TRUNCATE concrete_gifts, gift_suggestions");
+        } else if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM gift_suggestions) OR EXISTS (SELECT 1 FROM concrete_gifts)",
+                Boolean.class))) {
+            throw new IllegalStateException("The gift suggestion tables of " + System.getProperty("benchmark.jdbc-url")
+                    + " are not empty; set benchmark.allow-truncate=true to truncate them");
+        }
+        jdbcTemplate.execute("SELECT setseed(0.42)");
+        jdbcTemplate.update(
+                "INSERT INTO gift_suggestions (name, description, min_price, max_price, age_group, gender, " +
+                "interest, occasion, relationship, personality_type) " +
+                "SELECT 'Gift ' || i, 'Benchmark gift ' || i, p, p * 2, " +
+                "(ARRAY['BABY','TODDLER','CHILD','TEEN','YOUNG_ADULT','ADULT','SENIOR'])[1 + floor(random() * 7)::int], " +
+                "(ARRAY['MALE','FEMALE','UNISEX','NON_BINARY'])[1 + floor(random() * 4)::int], " +
+                "(ARRAY['SPORTS','MUSIC','READING','COOKING','TECHNOLOGY','TRAVEL','ART','GAMING'])" +
+                "[1 + floor(random() * 8)::int], " +
+                "(ARRAY['BIRTHDAY','WEDDING','ANNIVERSARY','GRADUATION','CHRISTMAS','JUST_BECAUSE'])" +
+                "[1 + floor(random() * 6)::int], " +
+                "(ARRAY['FAMILY','FRIEND','COLLEAGUE','ROMANTIC_PARTNER'])[1 + floor(random() * 4)::int], " +
+                "(ARRAY['EXTROVERT','INTROVERT','CREATIVE','PRACTICAL'])[1 + floor(random() * 4)::int] " +
+                "FROM (SELECT i, round((1 + random() * 499)::numeric, 2) AS p FROM generate_series(1, ?) AS i) AS seed",
+                rows);
+        jdbcTemplate.update(
+                "INSERT INTO concrete_gifts (name, exact_price, vendor_name, available, gift_suggestion_id) " +
+                "SELECT gs.name || ' #' || n, gs.min_price, 'Vendor ' || n, random() < 0.8, gs.id " +
+                "FROM gift_suggestions gs CROSS JOIN generate_series(1, ?) AS n",
+                CONCRETE_GIFTS_PER_SUGGESTION);
+        jdbcTemplate.execute("ANALYZE gift_suggestions");
+        jdbcTemplate.execute("ANALYZE concrete_gifts");
+        return jdbcTemplate.queryForList("SELECT id FROM gift_suggestions ORDER BY id", UUID.class);
+    }
+}
@@ -0,0 +1,129 @@
+package com.giftservice.benchmark.jmh;
+
+import com.giftservice.entity.GiftSuggestion;
+import com.giftservice.enums.*;
+import com.giftservice.repository.GiftSuggestionRepository;
+import com.giftservice.service.cache.GiftSuggestionCacheEvictor;
+import com.giftservice.service.impl.GiftSuggestionServiceImpl;
+import com.giftservice.service.impl.RecommendationServiceImpl;
+import com.giftservice.service.index.GiftSuggestionFacetIndex;
+import com.giftservice.service.recommendation.PrecomputedRecommendations;
+import com.giftservice.service.recommendation.RecipientProfile;
+import com.giftservice.service.recommendation.Recommendation;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Service-level filtering over an in-memory catalog: criteria search and counts answered by the
+ * facet index, and recommendations ranked against it. The repository is a stub returning the
+ * catalog, so the results exclude database round trips.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(time = 1)
+@Measurement(time = 1)
+@State(Scope.Benchmark)
+public class ServiceFilteringBenchmark {
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20);
+
+    @Param({"10000", "100000"})
+    private int catalogSize;
+
+    private GiftSuggestionServiceImpl giftSuggestionService;
+    private RecommendationServiceImpl recommendationService;
+    private RecipientProfile budgetProfile;
+
+    @Setup
+    public void setUp() {
+        Map<UUID, GiftSuggestion> catalog = new LinkedHashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < catalogSize; i++) {
+            GiftSuggestion giftSuggestion = randomGiftSuggestion(random, i);
+            catalog.put(giftSuggestion.getId(), giftSuggestion);
+        }
+
+        // Stub only, so that invocations are not recorded across millions of calls
+        GiftSuggestionRepository repository = mock(GiftSuggestionRepository.class, withSettings().stubOnly());
+        when(repository.findAll()).thenReturn(new ArrayList<>(catalog.values()));
+        when(repository.findAllById(any())).thenAnswer(invocation -> {
+            List<GiftSuggestion> found = new ArrayList<>();
+            for (UUID id : invocation.<Iterable<UUID>>getArgument(0)) {
+                GiftSuggestion giftSuggestion = catalog.get(id);
+                if (giftSuggestion != null) {
+                    found.add(giftSuggestion);
+                }
+            }
+            return found;
+        });
+
+        GiftSuggestionFacetIndex facetIndex = new GiftSuggestionFacetIndex(repository);
+        facetIndex.rebuild();
+        PrecomputedRecommendations precomputedRecommendations = new PrecomputedRecommendations(facetIndex, 1000);
+        giftSuggestionService = new GiftSuggestionServiceImpl(repository, facetIndex,
+                new GiftSuggestionCacheEvictor(new ConcurrentMapCacheManager()), precomputedRecommendations);
+        recommendationService = new RecommendationServiceImpl(repository, facetIndex, precomputedRecommendations,
+                Duration.ofSeconds(1));
+
+        // Profiles with a budget are always ranked, never served from the precomputed rankings
+        budgetProfile = new RecipientProfile(AgeGroup.ADULT, Gender.FEMALE, Interest.READING, Occasion.BIRTHDAY,
+                null, null, new BigDecimal("50.00"));
+    }
+
+    @Benchmark
+    public long countBySingleCriterion() {
+        return giftSuggestionService.countByAdvancedCriteria(AgeGroup.TEEN, null, null, null, null, null, null);
+    }
+
+    @Benchmark
+    public long countByCriteriaAndBudget() {
+        return giftSuggestionService.countByAdvancedCriteria(AgeGroup.ADULT, Gender.FEMALE, Interest.READING,
+                null, null, null, new BigDecimal("50.00"));
+    }
+
+    @Benchmark
+    public Page<GiftSuggestion> findFirstPageByCriteria() {
+        return giftSuggestionService.findByAdvancedCriteria(AgeGroup.ADULT, null, null, Occasion.BIRTHDAY,
+                Relationship.FRIEND, null, new BigDecimal("100.00"), FIRST_PAGE);
+    }
+
+    @Benchmark
+    public List<Recommendation> recommendWithBudget() {
+        return recommendationService.recommend(budgetProfile, 10);
+    }
+
+    private static GiftSuggestion randomGiftSuggestion(Random random, int i) {
+        BigDecimal minPrice = BigDecimal.valueOf(100 + random.nextInt(49_900), 2);
+        GiftSuggestion giftSuggestion = new GiftSuggestion(
+                "Gift " + i,
+                "Benchmark gift " + i,
+                minPrice,
+                minPrice.multiply(BigDecimal.valueOf(2)),
+                pick(random, AgeGroup.values()),
+                pick(random, Gender.values()),
+                pick(random, Interest.values()),
+                pick(random, Occasion.values()),
+                pick(random, Relationship.values()),
+                pick(random, PersonalityType.values())
+        );
+        giftSuggestion.setId(new UUID(random.nextLong(), random.nextLong()));
+        return giftSuggestion;
+    }
+
+    private static <E> E pick(Random random, E[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,93 @@
+package com.giftservice.benchmark.jmh;
+
+import com.giftservice.entity.ConcreteGift;
+import com.giftservice.entity.GiftSuggestion;
+import com.giftservice.enums.*;
+import com.giftservice.service.impl.ConcreteGiftServiceImpl;
+import com.giftservice.validation.PriceRangeValidator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity validation: the price range constraint on its own, full Bean Validation of valid and
+ * invalid gift suggestions, and the price check of a concrete gift against its gift suggestion.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(time = 1)
+@Measurement(time = 1)
+@State(Scope.Benchmark)
+public class ValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private PriceRangeValidator priceRangeValidator;
+    private ConcreteGiftServiceImpl concreteGiftService;
+
+    private GiftSuggestion validGiftSuggestion;
+    private GiftSuggestion invalidGiftSuggestion;
+    private ConcreteGift concreteGift;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        priceRangeValidator = new PriceRangeValidator();
+        // The association check does not touch the repositories or the entity manager
+        concreteGiftService = new ConcreteGiftServiceImpl(null, null, null);
+
+        validGiftSuggestion = giftSuggestion("25.00", "50.00");
+        invalidGiftSuggestion = giftSuggestion("80.00", "50.00");
+        concreteGift = new ConcreteGift("Effective Java", "Java best practices", new BigDecimal("45.99"),
+                "Amazon", validGiftSuggestion);
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public boolean priceRangeValidatorIsValid() {
+        // A valid range never touches the constraint validator context
+        return priceRangeValidator.isValid(validGiftSuggestion, null);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<GiftSuggestion>> validateValidGiftSuggestion() {
+        return validator.validate(validGiftSuggestion);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<GiftSuggestion>> validateInvalidGiftSuggestion() {
+        return validator.validate(invalidGiftSuggestion);
+    }
+
+    @Benchmark
+    public ConcreteGift validateGiftSuggestionAssociation() {
+        concreteGiftService.validateGiftSuggestionAssociation(concreteGift, validGiftSuggestion);
+        return concreteGift;
+    }
+
+    private static GiftSuggestion giftSuggestion(String minPrice, String maxPrice) {
+        return new GiftSuggestion(
+                "Programming Book",
+                "Learn Java programming",
+                new BigDecimal(minPrice),
+                new BigDecimal(maxPrice),
+                AgeGroup.ADULT,
+                Gender.UNISEX,
+                Interest.READING,
+                Occasion.BIRTHDAY,
+                Relationship.FRIEND,
+                PersonalityType.INTELLECTUAL
+        );
+    }
+}
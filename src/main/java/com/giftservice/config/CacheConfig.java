@@ -0,0 +1,57 @@
+package com.giftservice.config;
+
+import com.giftservice.service.cache.GiftSuggestionSnapshotCache;
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Local Caffeine caches for read-only snapshots of rarely changing gift suggestions.
+ * All caches are created up front so that their hit and miss statistics are registered
+ * with the actuator metrics endpoint. The caches hold immutable snapshots, never entities,
+ * and skip loads that overlapped a write, see {@link GiftSuggestionSnapshotCache}.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String GIFT_SUGGESTIONS = "giftSuggestions";
+    public static final String GIFT_SUGGESTIONS_BY_AGE_GROUP = "giftSuggestionsByAgeGroup";
+    public static final String GIFT_SUGGESTIONS_BY_GENDER = "giftSuggestionsByGender";
+    public static final String GIFT_SUGGESTIONS_BY_INTEREST = "giftSuggestionsByInterest";
+    public static final String GIFT_SUGGESTIONS_BY_OCCASION = "giftSuggestionsByOccasion";
+    public static final String GIFT_SUGGESTIONS_BY_RELATIONSHIP = "giftSuggestionsByRelationship";
+    public static final String GIFT_SUGGESTIONS_BY_PERSONALITY_TYPE = "giftSuggestionsByPersonalityType";
+
+    public static final List<String> CACHE_NAMES = List.of(
+            GIFT_SUGGESTIONS,
+            GIFT_SUGGESTIONS_BY_AGE_GROUP,
+            GIFT_SUGGESTIONS_BY_GENDER,
+            GIFT_SUGGESTIONS_BY_INTEREST,
+            GIFT_SUGGESTIONS_BY_OCCASION,
+            GIFT_SUGGESTIONS_BY_RELATIONSHIP,
+            GIFT_SUGGESTIONS_BY_PERSONALITY_TYPE);
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${spring.cache.caffeine.spec:maximumSize=10000,expireAfterWrite=10m,recordStats}") String spec) {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                return new GiftSuggestionSnapshotCache(name, cache);
+            }
+        };
+        caffeineCacheManager.setCaffeineSpec(CaffeineSpec.parse(spec));
+        caffeineCacheManager.setAllowNullValues(false);
+        // Fixes the set of caches; unknown cache names are rejected instead of created on demand
+        caffeineCacheManager.setCacheNames(CACHE_NAMES);
+        return caffeineCacheManager;
+    }
+}
@@ -0,0 +1,81 @@
+package com.giftservice.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sends read-only transactions to read replicas, enabled by setting read-replicas.urls.
+ * Replicas share the credentials and pool settings of the primary data source.
+ *
+ * The application data source is a LazyConnectionDataSourceProxy around the
+ * {@link ReadReplicaRoutingDataSource}, so that the connection is only obtained once the
+ * transaction is known to be read-only. Hibernate releases the connection after each transaction,
+ * so that a request running a read-only and then a write transaction does not write to a replica.
+ */
+@Configuration
+@ConditionalOnExpression("!'${read-replicas.urls:}'.isBlank()")
+public class ReadReplicaConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadReplicaConfig.class);
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReadReplicaRoutingDataSource readReplicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            @Value("${read-replicas.urls}") List<String> urls,
+            @Value("${read-replicas.selection:round-robin}") ReadReplicaRoutingDataSource.Selection selection,
+            @Value("${read-replicas.connection-timeout:2s}") Duration connectionTimeout,
+            @Value("${read-replicas.failover-cooldown:30s}") Duration failoverCooldown,
+            @Value("${read-replicas.read-your-writes-window:0s}") Duration readYourWritesWindow) {
+        List<HikariDataSource> replicas = new ArrayList<>(urls.size());
+        for (int i = 0; i < urls.size(); i++) {
+            HikariConfig replicaConfig = new HikariConfig();
+            primaryDataSource.copyStateTo(replicaConfig);
+            replicaConfig.setPoolName("replica-" + (i + 1));
+            replicaConfig.setJdbcUrl(urls.get(i).trim());
+            // Fail over quickly instead of waiting for the primary's connection timeout
+            replicaConfig.setConnectionTimeout(connectionTimeout.toMillis());
+            // An unreachable replica must not prevent startup
+            replicaConfig.setInitializationFailTimeout(-1);
+            replicas.add(new HikariDataSource(replicaConfig));
+        }
+        logger.info("Routing read-only transactions to {} read replicas by {}", replicas.size(), selection);
+        return new ReadReplicaRoutingDataSource(primaryDataSource, replicas, selection, failoverCooldown,
+                readYourWritesWindow);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadReplicaRoutingDataSource readReplicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readReplicaRoutingDataSource);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
@@ -0,0 +1,173 @@
+package com.giftservice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Routes connections of read-only transactions to read replicas and all other connections to the
+ * primary. Must be wrapped in a LazyConnectionDataSourceProxy, as the transaction manager obtains
+ * its connection before the transaction is marked read-only.
+ *
+ * A replica whose connection attempt fails is skipped for the failover cooldown and the next
+ * replica, or finally the primary, is used instead. With a read-your-writes window, read-only
+ * transactions stay on the primary for that long after any read-write transaction commits, so that
+ * reads following a write are not served stale data by a lagging replica. Connections obtained
+ * outside a transaction, e.g. by health checks or Flyway, go to the primary but do not count as writes.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadReplicaRoutingDataSource.class);
+
+    /**
+     * How a replica is chosen for a read-only transaction.
+     */
+    public enum Selection {
+        /** Replicas in turn */
+        ROUND_ROBIN,
+        /** The replica with the fewest connections in use, ties in turn */
+        LEAST_CONNECTIONS
+    }
+
+    private final HikariDataSource primary;
+    private final List<Replica> replicas;
+    private final Selection selection;
+    private final long failoverCooldownNanos;
+    private final long readYourWritesWindowNanos;
+
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private volatile long lastWriteNanos;
+    private volatile boolean written;
+
+    public ReadReplicaRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicas, Selection selection,
+                                        Duration failoverCooldown, Duration readYourWritesWindow) {
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("At least one read replica is required");
+        }
+        if (failoverCooldown.isNegative() || readYourWritesWindow.isNegative()) {
+            throw new IllegalArgumentException("Failover cooldown and read-your-writes window must not be negative");
+        }
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.selection = selection;
+        this.failoverCooldownNanos = failoverCooldown.toNanos();
+        this.readYourWritesWindowNanos = readYourWritesWindow.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWrite();
+            return primary.getConnection();
+        }
+        if (!withinReadYourWritesWindow()) {
+            for (int attempt = 0; attempt < replicas.size(); attempt++) {
+                Replica replica = selectReplica();
+                if (replica == null) {
+                    break;
+                }
+                try {
+                    return replica.dataSource.getConnection();
+                } catch (SQLException e) {
+                    replica.failedAtNanos = System.nanoTime();
+                    replica.failed = true;
+                    logger.warn("Read replica {} unavailable, skipping it for {} ms: {}", replica.dataSource.getPoolName(),
+                            Duration.ofNanos(failoverCooldownNanos).toMillis(), e.getMessage());
+                }
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    private void recordWrite() {
+        if (readYourWritesWindowNanos == 0 || !TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        // Replication lag starts when the write commits
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                markWritten();
+            }
+        });
+    }
+
+    private void markWritten() {
+        lastWriteNanos = System.nanoTime();
+        written = true;
+    }
+
+    private boolean withinReadYourWritesWindow() {
+        return written && System.nanoTime() - lastWriteNanos < readYourWritesWindowNanos;
+    }
+
+    /**
+     * @return an available replica, or null if all replicas are cooling down after a failure
+     */
+    private Replica selectReplica() {
+        int start = Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+        Replica selected = null;
+        int selectedActiveConnections = Integer.MAX_VALUE;
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (!replica.isAvailable()) {
+                continue;
+            }
+            if (selection == Selection.ROUND_ROBIN) {
+                return replica;
+            }
+            int activeConnections = replica.activeConnections();
+            if (activeConnections < selectedActiveConnections) {
+                selected = replica;
+                selectedActiveConnections = activeConnections;
+            }
+        }
+        return selected;
+    }
+
+    private final class Replica {
+
+        private final HikariDataSource dataSource;
+        private volatile long failedAtNanos;
+        private volatile boolean failed;
+
+        private Replica(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        private boolean isAvailable() {
+            if (failed && System.nanoTime() - failedAtNanos < failoverCooldownNanos) {
+                return false;
+            }
+            failed = false;
+            return true;
+        }
+
+        private int activeConnections() {
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            return pool == null ? 0 : pool.getActiveConnections();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.giftservice.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+/**
+ * Startup report of the opt-in virtual thread execution mode, enabled by the virtual-threads profile.
+ * Spring Boot only switches to virtual threads on Java 21 or later and otherwise silently keeps
+ * platform threads, so a deployment requesting them on an older runtime is logged as a warning.
+ *
+ * Code running on virtual threads must not block while holding a monitor, as that pins the
+ * carrier thread; application code uses java.util.concurrent locks instead of synchronized.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadsConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadsConfig.class);
+
+    @EventListener
+    public void reportThreading(ApplicationReadyEvent event) {
+        if (Threading.VIRTUAL.isActive(event.getApplicationContext().getEnvironment())) {
+            logger.info("Running requests, async tasks and scheduled jobs on virtual threads");
+        } else {
+            logger.warn("Virtual threads requested but not available on Java {}, using platform threads",
+                    Runtime.version().feature());
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.giftservice.controller;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.stream.Collectors;
+
+/**
+ * Maps service layer exceptions to RFC 7807 problem responses.
+ * The services signal invalid input with IllegalArgumentException, and entity validation
+ * on flush raises ConstraintViolationException; both are client errors. Controllers check
+ * that addressed resources exist, so that missing resources are answered with 404 instead.
+ *
+ * IllegalArgumentException is also thrown by code outside the services, so its message is
+ * logged but not returned to the client; validation messages are declared on the entities.
+ */
+@RestControllerAdvice
+public class ApiExceptionHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApiExceptionHandler.class);
+
+    private static final String INVALID_REQUEST = "The request is invalid";
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ProblemDetail handleIllegalArgument(IllegalArgumentException e) {
+        logger.debug("Rejecting request: {}", e.getMessage());
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, INVALID_REQUEST);
+    }
+
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ProblemDetail handleConstraintViolation(ConstraintViolationException e) {
+        logger.debug("Rejecting request: {}", e.getMessage());
+        String detail = e.getConstraintViolations().stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, detail.isEmpty() ? INVALID_REQUEST : detail);
+    }
+}
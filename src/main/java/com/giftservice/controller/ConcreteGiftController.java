@@ -0,0 +1,82 @@
+package com.giftservice.controller;
+
+import com.giftservice.controller.dto.ConcreteGiftRequest;
+import com.giftservice.controller.dto.ConcreteGiftResponse;
+import com.giftservice.controller.dto.PageResponse;
+import com.giftservice.repository.projection.ConcreteGiftSummary;
+import com.giftservice.service.ConcreteGiftService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.util.UUID;
+
+/**
+ * REST endpoints for concrete gifts.
+ * Single concrete gifts support conditional GET with strong ETags; the list endpoint
+ * returns summaries, so that it selects only the columns it shows.
+ */
+@RestController
+@RequestMapping("/api/concrete-gifts")
+public class ConcreteGiftController {
+
+    private final ConcreteGiftService concreteGiftService;
+    private final ConditionalResponses conditionalResponses;
+
+    @Autowired
+    public ConcreteGiftController(ConcreteGiftService concreteGiftService,
+                                  ConditionalResponses conditionalResponses) {
+        this.concreteGiftService = concreteGiftService;
+        this.conditionalResponses = conditionalResponses;
+    }
+
+    @GetMapping
+    public PageResponse<ConcreteGiftSummary> findAll(Pageable pageable) {
+        return PageResponse.from(concreteGiftService.findAllSummaries(pageable));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ConcreteGiftResponse> findById(@PathVariable UUID id, WebRequest request) {
+        return conditionalResponses.get(request,
+                concreteGiftService.findLastModifiedDate(id),
+                () -> concreteGiftService.findById(id).map(ConcreteGiftResponse::from),
+                ConcreteGiftResponse::lastModifiedDate);
+    }
+
+    @PostMapping
+    public ResponseEntity<ConcreteGiftResponse> create(@RequestBody ConcreteGiftRequest request) {
+        ConcreteGiftResponse created = ConcreteGiftResponse.from(concreteGiftService.create(request.toEntity()));
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{id}")
+                .buildAndExpand(created.id())
+                .toUri();
+        return conditionalResponses.withValidators(ResponseEntity.created(location), created.lastModifiedDate())
+                .body(created);
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<ConcreteGiftResponse> update(@PathVariable UUID id,
+                                                       @RequestBody ConcreteGiftRequest request) {
+        if (!concreteGiftService.existsById(id)) {
+            return ResponseEntity.notFound().build();
+        }
+
+        ConcreteGiftResponse response = ConcreteGiftResponse.from(concreteGiftService.update(id, request.toEntity()));
+        return conditionalResponses.withValidators(ResponseEntity.ok(), response.lastModifiedDate())
+                .body(response);
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(@PathVariable UUID id) {
+        if (!concreteGiftService.existsById(id)) {
+            return ResponseEntity.notFound().build();
+        }
+
+        concreteGiftService.deleteById(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,104 @@
+package com.giftservice.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Builds the cache validators and conditional GET responses of single resources.
+ *
+ * The strong ETag and the Last-Modified date are both derived from the last modification date
+ * of the resource. That date is looked up before the resource is loaded, so requests whose
+ * If-None-Match or If-Modified-Since header still matches are answered with 304 Not Modified
+ * without hydrating or serializing the resource.
+ */
+@Component
+class ConditionalResponses {
+
+    private final CacheControl cacheControl;
+
+    @Autowired
+    ConditionalResponses(@Value("${api.cache-control.max-age:PT0S}") Duration maxAge) {
+        // Clients may reuse a response for max-age, and must revalidate it afterwards
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePublic().mustRevalidate();
+    }
+
+    /**
+     * Answer a conditional GET of a single resource.
+     *
+     * @param request the current request
+     * @param lastModifiedDate the last modification date of the resource, or empty if it does not exist
+     * @param loader loads the resource, called only if the client's copy is outdated
+     * @param lastModifiedDateOf the last modification date of a loaded resource
+     * @return 304 if the client's copy is current, 200 with the resource, or 404
+     */
+    <T> ResponseEntity<T> get(WebRequest request, Optional<LocalDateTime> lastModifiedDate,
+                              Supplier<Optional<T>> loader, Function<T, LocalDateTime> lastModifiedDateOf) {
+        if (lastModifiedDate.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        if (request.checkNotModified(eTag(lastModifiedDate.get()), epochMillis(lastModifiedDate.get()))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).build();
+        }
+
+        // The validators are taken from the loaded resource, which may be newer than the date looked up
+        return loader.get()
+                .map(body -> withValidators(ResponseEntity.ok(), lastModifiedDateOf.apply(body)).body(body))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Add the cache validators and Cache-Control header of a resource version to a response.
+     *
+     * @param builder the response builder
+     * @param lastModifiedDate the last modification date of the resource
+     * @return the response builder
+     */
+    <B extends ResponseEntity.HeadersBuilder<B>> B withValidators(B builder, LocalDateTime lastModifiedDate) {
+        return builder
+                .cacheControl(cacheControl)
+                .eTag(eTag(lastModifiedDate))
+                .lastModified(epochMillis(lastModifiedDate));
+    }
+
+    /**
+     * Derive the strong ETag of a resource version from its last modification date.
+     * The date is rounded to the microsecond precision of the database column as the JDBC
+     * driver rounds it, so that the ETag of a freshly written resource equals the one computed
+     * after reading it back.
+     *
+     * @param lastModifiedDate the last modification date
+     * @return the quoted ETag
+     */
+    static String eTag(LocalDateTime lastModifiedDate) {
+        LocalDateTime stored = asStored(lastModifiedDate);
+        long micros = stored.toLocalDate().toEpochDay() * 86_400_000_000L
+                + stored.toLocalTime().toNanoOfDay() / 1_000;
+        return "\"" + Long.toHexString(micros) + "\"";
+    }
+
+    private static long epochMillis(LocalDateTime lastModifiedDate) {
+        // Auditing records local date-times of the server's time zone
+        return asStored(lastModifiedDate).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Round a date to microseconds, half up, as the PostgreSQL JDBC driver does when storing it.
+     */
+    private static LocalDateTime asStored(LocalDateTime dateTime) {
+        return dateTime.plusNanos(500).truncatedTo(ChronoUnit.MICROS);
+    }
+}
@@ -0,0 +1,116 @@
+package com.giftservice.controller;
+
+import com.giftservice.controller.dto.GiftSuggestionRequest;
+import com.giftservice.controller.dto.GiftSuggestionResponse;
+import com.giftservice.controller.dto.PageResponse;
+import com.giftservice.entity.GiftSuggestion;
+import com.giftservice.enums.*;
+import com.giftservice.repository.projection.ConcreteGiftSummary;
+import com.giftservice.repository.projection.GiftSuggestionSummary;
+import com.giftservice.service.ConcreteGiftService;
+import com.giftservice.service.GiftSuggestionService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.util.UUID;
+
+/**
+ * REST endpoints for gift suggestions.
+ * Single gift suggestions support conditional GET with strong ETags; list endpoints
+ * return summaries, so that they select only the columns they show.
+ */
+@RestController
+@RequestMapping("/api/gift-suggestions")
+public class GiftSuggestionController {
+
+    private final GiftSuggestionService giftSuggestionService;
+    private final ConcreteGiftService concreteGiftService;
+    private final ConditionalResponses conditionalResponses;
+
+    @Autowired
+    public GiftSuggestionController(GiftSuggestionService giftSuggestionService,
+                                    ConcreteGiftService concreteGiftService,
+                                    ConditionalResponses conditionalResponses) {
+        this.giftSuggestionService = giftSuggestionService;
+        this.concreteGiftService = concreteGiftService;
+        this.conditionalResponses = conditionalResponses;
+    }
+
+    @GetMapping
+    public PageResponse<GiftSuggestionSummary> findAll(Pageable pageable) {
+        return PageResponse.from(giftSuggestionService.findAllSummaries(pageable));
+    }
+
+    @GetMapping("/search")
+    public PageResponse<GiftSuggestionResponse> search(
+            @RequestParam(required = false) AgeGroup ageGroup,
+            @RequestParam(required = false) Gender gender,
+            @RequestParam(required = false) Interest interest,
+            @RequestParam(required = false) Occasion occasion,
+            @RequestParam(required = false) Relationship relationship,
+            @RequestParam(required = false) PersonalityType personalityType,
+            @RequestParam(required = false) BigDecimal maxBudget,
+            Pageable pageable) {
+        return PageResponse.from(giftSuggestionService.findByAdvancedCriteria(
+                ageGroup, gender, interest, occasion, relationship, personalityType, maxBudget, pageable)
+                .map(GiftSuggestionResponse::from));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<GiftSuggestionResponse> findById(@PathVariable UUID id, WebRequest request) {
+        return conditionalResponses.get(request,
+                giftSuggestionService.findLastModifiedDate(id),
+                () -> giftSuggestionService.findSnapshotById(id).map(GiftSuggestionResponse::from),
+                GiftSuggestionResponse::lastModifiedDate);
+    }
+
+    @GetMapping("/{id}/concrete-gifts")
+    public ResponseEntity<PageResponse<ConcreteGiftSummary>> findConcreteGifts(@PathVariable UUID id,
+                                                                               Pageable pageable) {
+        if (!giftSuggestionService.existsById(id)) {
+            return ResponseEntity.notFound().build();
+        }
+
+        return ResponseEntity.ok(PageResponse.from(concreteGiftService.findSummariesByGiftSuggestionId(id, pageable)));
+    }
+
+    @PostMapping
+    public ResponseEntity<GiftSuggestionResponse> create(@RequestBody GiftSuggestionRequest request) {
+        GiftSuggestionResponse created = GiftSuggestionResponse.from(giftSuggestionService.create(request.toEntity()));
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{id}")
+                .buildAndExpand(created.id())
+                .toUri();
+        return conditionalResponses.withValidators(ResponseEntity.created(location), created.lastModifiedDate())
+                .body(created);
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<GiftSuggestionResponse> update(@PathVariable UUID id,
+                                                         @RequestBody GiftSuggestionRequest request) {
+        if (!giftSuggestionService.existsById(id)) {
+            return ResponseEntity.notFound().build();
+        }
+
+        GiftSuggestion updated = giftSuggestionService.update(id, request.toEntity());
+        GiftSuggestionResponse response = GiftSuggestionResponse.from(updated);
+        return conditionalResponses.withValidators(ResponseEntity.ok(), response.lastModifiedDate())
+                .body(response);
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(@PathVariable UUID id) {
+        if (!giftSuggestionService.existsById(id)) {
+            return ResponseEntity.notFound().build();
+        }
+
+        giftSuggestionService.deleteById(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,38 @@
+package com.giftservice.controller.dto;
+
+import com.giftservice.entity.ConcreteGift;
+import com.giftservice.entity.GiftSuggestion;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Request body for creating or updating a concrete gift.
+ * Validation is left to the service layer, which applies the same rules to all callers.
+ */
+public record ConcreteGiftRequest(
+        String name,
+        String description,
+        BigDecimal exactPrice,
+        String vendorName,
+        String productUrl,
+        String productSku,
+        Boolean available,
+        UUID giftSuggestionId) {
+
+    /**
+     * The gift suggestion is referenced by ID only; the service resolves it.
+     *
+     * @return a new, unsaved concrete gift with the values of this request
+     */
+    public ConcreteGift toEntity() {
+        GiftSuggestion giftSuggestion = null;
+        if (giftSuggestionId != null) {
+            giftSuggestion = new GiftSuggestion();
+            giftSuggestion.setId(giftSuggestionId);
+        }
+
+        return new ConcreteGift(name, description, exactPrice, vendorName,
+                productUrl, productSku, available, giftSuggestion);
+    }
+}
@@ -0,0 +1,48 @@
+package com.giftservice.controller.dto;
+
+import com.giftservice.entity.ConcreteGift;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Response body of a single concrete gift. The gift suggestion is referenced by ID only.
+ */
+public record ConcreteGiftResponse(
+        UUID id,
+        String name,
+        String description,
+        BigDecimal exactPrice,
+        String vendorName,
+        String productUrl,
+        String productSku,
+        boolean available,
+        UUID giftSuggestionId,
+        LocalDateTime createdDate,
+        LocalDateTime lastModifiedDate) {
+
+    /**
+     * Map a concrete gift to its response body without initializing its gift suggestion.
+     * Concrete gifts never modified report their creation date as last modification date.
+     *
+     * @param concreteGift the concrete gift
+     * @return the response body
+     */
+    public static ConcreteGiftResponse from(ConcreteGift concreteGift) {
+        return new ConcreteGiftResponse(
+                concreteGift.getId(),
+                concreteGift.getName(),
+                concreteGift.getDescription(),
+                concreteGift.getExactPrice(),
+                concreteGift.getVendorName(),
+                concreteGift.getProductUrl(),
+                concreteGift.getProductSku(),
+                Boolean.TRUE.equals(concreteGift.getAvailable()),
+                concreteGift.getGiftSuggestion() != null ? concreteGift.getGiftSuggestion().getId() : null,
+                concreteGift.getCreatedDate(),
+                concreteGift.getLastModifiedDate() != null
+                        ? concreteGift.getLastModifiedDate()
+                        : concreteGift.getCreatedDate());
+    }
+}
@@ -0,0 +1,31 @@
+package com.giftservice.controller.dto;
+
+import com.giftservice.entity.GiftSuggestion;
+import com.giftservice.enums.*;
+
+import java.math.BigDecimal;
+
+/**
+ * Request body for creating or updating a gift suggestion.
+ * Validation is left to the service layer, which applies the same rules to all callers.
+ */
+public record GiftSuggestionRequest(
+        String name,
+        String description,
+        BigDecimal minPrice,
+        BigDecimal maxPrice,
+        AgeGroup ageGroup,
+        Gender gender,
+        Interest interest,
+        Occasion occasion,
+        Relationship relationship,
+        PersonalityType personalityType) {
+
+    /**
+     * @return a new, unsaved gift suggestion with the values of this request
+     */
+    public GiftSuggestion toEntity() {
+        return new GiftSuggestion(name, description, minPrice, maxPrice,
+                ageGroup, gender, interest, occasion, relationship, personalityType);
+    }
+}
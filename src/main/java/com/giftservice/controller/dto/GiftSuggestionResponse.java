@@ -0,0 +1,77 @@
+package com.giftservice.controller.dto;
+
+import com.giftservice.entity.GiftSuggestion;
+import com.giftservice.enums.*;
+import com.giftservice.service.GiftSuggestionSnapshot;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Response body of a single gift suggestion, without its concrete gifts.
+ */
+public record GiftSuggestionResponse(
+        UUID id,
+        String name,
+        String description,
+        BigDecimal minPrice,
+        BigDecimal maxPrice,
+        AgeGroup ageGroup,
+        Gender gender,
+        Interest interest,
+        Occasion occasion,
+        Relationship relationship,
+        PersonalityType personalityType,
+        LocalDateTime createdDate,
+        LocalDateTime lastModifiedDate) {
+
+    /**
+     * Map a gift suggestion to its response body.
+     * Gift suggestions never modified report their creation date as last modification date.
+     *
+     * @param giftSuggestion the gift suggestion
+     * @return the response body
+     */
+    public static GiftSuggestionResponse from(GiftSuggestion giftSuggestion) {
+        return new GiftSuggestionResponse(
+                giftSuggestion.getId(),
+                giftSuggestion.getName(),
+                giftSuggestion.getDescription(),
+                giftSuggestion.getMinPrice(),
+                giftSuggestion.getMaxPrice(),
+                giftSuggestion.getAgeGroup(),
+                giftSuggestion.getGender(),
+                giftSuggestion.getInterest(),
+                giftSuggestion.getOccasion(),
+                giftSuggestion.getRelationship(),
+                giftSuggestion.getPersonalityType(),
+                giftSuggestion.getCreatedDate(),
+                giftSuggestion.getLastModifiedDate() != null
+                        ? giftSuggestion.getLastModifiedDate()
+                        : giftSuggestion.getCreatedDate());
+    }
+
+    /**
+     * Map a gift suggestion snapshot to its response body.
+     *
+     * @param snapshot the gift suggestion snapshot
+     * @return the response body
+     */
+    public static GiftSuggestionResponse from(GiftSuggestionSnapshot snapshot) {
+        return new GiftSuggestionResponse(
+                snapshot.id(),
+                snapshot.name(),
+                snapshot.description(),
+                snapshot.minPrice(),
+                snapshot.maxPrice(),
+                snapshot.ageGroup(),
+                snapshot.gender(),
+                snapshot.interest(),
+                snapshot.occasion(),
+                snapshot.relationship(),
+                snapshot.personalityType(),
+                snapshot.createdDate(),
+                snapshot.lastModifiedDate() != null ? snapshot.lastModifiedDate() : snapshot.createdDate());
+    }
+}
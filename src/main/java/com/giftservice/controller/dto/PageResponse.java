@@ -0,0 +1,23 @@
+package com.giftservice.controller.dto;
+
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * Response body of a page of results, with a stable JSON layout independent of {@link Page}.
+ *
+ * @param content the elements of this page
+ * @param page the zero-based page number
+ * @param size the requested page size
+ * @param totalElements the total number of elements
+ * @param totalPages the total number of pages
+ * @param <T> the element type
+ */
+public record PageResponse<T>(List<T> content, int page, int size, long totalElements, int totalPages) {
+
+    public static <T> PageResponse<T> from(Page<T> page) {
+        return new PageResponse<>(page.getContent(), page.getNumber(), page.getSize(),
+                page.getTotalElements(), page.getTotalPages());
+    }
+}
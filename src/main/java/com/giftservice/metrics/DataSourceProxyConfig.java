@@ -0,0 +1,61 @@
+package com.giftservice.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * Routes the application data source through a proxy that observes every executed statement.
+ *
+ * Statements are counted for the {@link StatementCount} API, the giftservice.jdbc.statements
+ * counter and the per-request statement distribution. Lazy associations make N+1 round trips easy
+ * to introduce silently; these counts make them visible in production and testable in integration
+ * tests. Slow statements of repository calls are passed to the {@link SlowQueryRecorder}.
+ */
+@Configuration
+public class DataSourceProxyConfig {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    @Bean
+    static BeanPostProcessor dataSourceProxyPostProcessor(ObjectProvider<MeterRegistry> meterRegistry,
+                                                          ObjectProvider<SlowQueryRecorder> slowQueryRecorder) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // Only the primary data source, so that statements through delegating data sources count once
+                if (DATA_SOURCE_BEAN.equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(beanName, dataSource)
+                            .listener(new StatementCountingListener(meterRegistry))
+                            .afterQuery((execInfo, queryInfoList) -> {
+                                SlowQueryRecorder recorder = slowQueryRecorder.getIfAvailable();
+                                if (recorder != null) {
+                                    recorder.afterQuery(execInfo, queryInfoList);
+                                }
+                            })
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    FilterRegistrationBean<StatementCountFilter> statementCountFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<StatementCountFilter> registration =
+                new FilterRegistrationBean<>(new StatementCountFilter(meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
@@ -0,0 +1,185 @@
+package com.giftservice.metrics;
+
+import com.giftservice.service.pagination.KeysetSlice;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+/**
+ * Times every public method of the gift suggestion and concrete gift services and every
+ * repository query, and records the number of returned rows.
+ *
+ * Meters are tagged with the interface and method, and with the query shape: the names of the
+ * non-null arguments, so that e.g. findByAdvancedCriteria calls filtering by age group and budget
+ * are told apart from those filtering by occasion only. Argument values are never tagged.
+ * Timers and result size summaries publish percentile histograms.
+ *
+ * The aspect is the outermost advice, so service timings include transactions and cache hits as
+ * seen by callers. For repository methods returning a Stream only opening the stream is timed.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class MethodMetricsAspect {
+
+    public static final String SERVICE_TIMER = "giftservice.service.method";
+    public static final String SERVICE_RESULTS = "giftservice.service.method.results";
+    public static final String REPOSITORY_TIMER = "giftservice.repository.query";
+    public static final String REPOSITORY_RESULTS = "giftservice.repository.query.results";
+
+    private static final String NO_FILTERS = "none";
+
+    private static final ThreadLocal<String> CURRENT_REPOSITORY_METHOD = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public MethodMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * *(..)) && (target(com.giftservice.service.GiftSuggestionService) " +
+            "|| target(com.giftservice.service.ConcreteGiftService))")
+    public Object timeServiceMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(joinPoint, SERVICE_TIMER, SERVICE_RESULTS);
+    }
+
+    @Around("!execution(* java.lang.Object.*(..)) && (target(com.giftservice.repository.GiftSuggestionRepository) " +
+            "|| target(com.giftservice.repository.ConcreteGiftRepository))")
+    public Object timeRepositoryQuery(ProceedingJoinPoint joinPoint) throws Throwable {
+        String outerMethod = CURRENT_REPOSITORY_METHOD.get();
+        CURRENT_REPOSITORY_METHOD.set(interfaceName(joinPoint, (MethodSignature) joinPoint.getSignature()) + "." +
+                joinPoint.getSignature().getName());
+        try {
+            return record(joinPoint, REPOSITORY_TIMER, REPOSITORY_RESULTS);
+        } finally {
+            if (outerMethod == null) {
+                CURRENT_REPOSITORY_METHOD.remove();
+            } else {
+                CURRENT_REPOSITORY_METHOD.set(outerMethod);
+            }
+        }
+    }
+
+    /**
+     * Get the repository method running on the current thread, e.g. GiftSuggestionRepository.findAllIds.
+     *
+     * @return the interface and method name, or null outside of repository calls
+     */
+    static String currentRepositoryMethod() {
+        return CURRENT_REPOSITORY_METHOD.get();
+    }
+
+    private Object record(ProceedingJoinPoint joinPoint, String timerName, String resultsName) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        Tags tags = Tags.of(
+                "class", interfaceName(joinPoint, signature),
+                "method", signature.getName(),
+                "shape", shape(signature, joinPoint.getArgs()));
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            Object result = joinPoint.proceed();
+            long size = signature.getReturnType() == void.class ? -1 : resultSize(result);
+            if (size >= 0) {
+                DistributionSummary.builder(resultsName)
+                        .description("Number of rows returned")
+                        .baseUnit("rows")
+                        .tags(tags)
+                        .publishPercentileHistogram()
+                        .maximumExpectedValue(100_000.0)
+                        .register(meterRegistry)
+                        .record(size);
+            }
+            return result;
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(timerName)
+                    .description("Latency of the method call")
+                    .tags(tags)
+                    .tag("exception", exception)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofMillis(1))
+                    .maximumExpectedValue(Duration.ofSeconds(30))
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Get the application interface of the target, so that tags do not depend on proxy or
+     * implementation class names.
+     */
+    private static String interfaceName(ProceedingJoinPoint joinPoint, MethodSignature signature) {
+        for (Class<?> type : joinPoint.getTarget().getClass().getInterfaces()) {
+            if (type.getName().startsWith("com.giftservice.")) {
+                return type.getSimpleName();
+            }
+        }
+        return signature.getDeclaringType().getSimpleName();
+    }
+
+    /**
+     * Get the names of the non-null filter arguments, joined with '+', or "none".
+     * Paging and sorting arguments are not filters and are left out.
+     */
+    static String shape(MethodSignature signature, Object[] args) {
+        String[] names = signature.getParameterNames();
+        StringJoiner shape = new StringJoiner("+");
+        for (int i = 0; i < args.length; i++) {
+            Object arg = args[i];
+            if (arg != null && !(arg instanceof Pageable) && !(arg instanceof Sort)) {
+                shape.add(names != null ? names[i] : "arg" + i);
+            }
+        }
+        return shape.length() == 0 ? NO_FILTERS : shape.toString();
+    }
+
+    /**
+     * Get the number of rows in a result, or -1 for results that are not rows, like counts.
+     */
+    static long resultSize(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof KeysetSlice<?> keysetSlice) {
+            return keysetSlice.content().size();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result instanceof Map<?, ?> map) {
+            return map.size();
+        }
+        if (result.getClass().getPackageName().startsWith("com.giftservice.entity")) {
+            return 1;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,31 @@
+package com.giftservice.metrics;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Actuator endpoint serving the slow repository statements kept by the {@link SlowQueryRecorder},
+ * most recent first, with bind parameters and sampled execution plans. Bind parameters may contain
+ * user data, so the endpoint is not exposed over HTTP by default and must only be exposed to
+ * operators. It is read-only.
+ */
+@Component
+@Endpoint(id = "slowqueries")
+public class SlowQueriesEndpoint {
+
+    private final SlowQueryRecorder slowQueryRecorder;
+
+    @Autowired
+    public SlowQueriesEndpoint(SlowQueryRecorder slowQueryRecorder) {
+        this.slowQueryRecorder = slowQueryRecorder;
+    }
+
+    @ReadOperation
+    public List<SlowQuery> slowQueries() {
+        return slowQueryRecorder.getSlowQueries();
+    }
+}
@@ -0,0 +1,64 @@
+package com.giftservice.metrics;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A slow statement issued by a repository call, as served by the slowqueries actuator endpoint.
+ * The execution plan is captured asynchronously for sampled SELECT statements and is null until
+ * then, or if the statement was not sampled.
+ */
+public final class SlowQuery {
+
+    private final Instant timestamp;
+    private final String repositoryMethod;
+    private final String sql;
+    private final List<String> parameters;
+    private final long durationMillis;
+    private volatile String plan;
+
+    SlowQuery(Instant timestamp, String repositoryMethod, String sql, List<String> parameters, long durationMillis) {
+        this.timestamp = timestamp;
+        this.repositoryMethod = repositoryMethod;
+        this.sql = sql;
+        this.parameters = List.copyOf(parameters);
+        this.durationMillis = durationMillis;
+    }
+
+    public Instant getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * @return the repository interface and method, e.g. GiftSuggestionRepository.findByAdvancedCriteria
+     */
+    public String getRepositoryMethod() {
+        return repositoryMethod;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * @return the bind parameters as index=value, in the order they were set
+     */
+    public List<String> getParameters() {
+        return parameters;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    /**
+     * @return the EXPLAIN (ANALYZE, BUFFERS) output, or null if no plan was captured
+     */
+    public String getPlan() {
+        return plan;
+    }
+
+    void setPlan(String plan) {
+        this.plan = plan;
+    }
+}
@@ -0,0 +1,220 @@
+package com.giftservice.metrics;
+
+import jakarta.annotation.PreDestroy;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.StatementType;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps the most recent slow statements issued by repository calls in a bounded ring buffer,
+ * with their bind parameters, for the slowqueries actuator endpoint.
+ *
+ * A sampled share of slow SELECT statements is run again with EXPLAIN (ANALYZE, BUFFERS) on a
+ * background thread, in a rolled back read-only transaction with a statement timeout, so that
+ * index misses can be diagnosed from the plan. Plans are captured one at a time and dropped when
+ * the capture falls behind, and write statements are never explained, as ANALYZE executes them.
+ * Statements of read-only transactions are explained in a read-only transaction as well, so that
+ * with read replicas they are explained on a replica like the one that ran them, not on the primary.
+ */
+@Component
+public class SlowQueryRecorder implements QueryExecutionListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(SlowQueryRecorder.class);
+
+    private static final int EXPLAIN_QUEUE_CAPACITY = 10;
+
+    private final ObjectProvider<DataSource> dataSource;
+    private final long thresholdMillis;
+    private final int capacity;
+    private final double explainSampleRate;
+    private final Duration explainTimeout;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<SlowQuery> slowQueries;
+    private final ThreadPoolExecutor explainExecutor;
+
+    @Autowired
+    public SlowQueryRecorder(ObjectProvider<DataSource> dataSource,
+                             @Value("${slow-queries.threshold:500ms}") Duration threshold,
+                             @Value("${slow-queries.capacity:100}") int capacity,
+                             @Value("${slow-queries.explain.sample-rate:0}") double explainSampleRate,
+                             @Value("${slow-queries.explain.timeout:10s}") Duration explainTimeout) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Slow query capacity must be positive");
+        }
+        if (explainSampleRate < 0 || explainSampleRate > 1) {
+            throw new IllegalArgumentException("EXPLAIN sample rate must be between 0 and 1");
+        }
+        this.dataSource = dataSource;
+        this.thresholdMillis = threshold.toMillis();
+        this.capacity = capacity;
+        this.explainSampleRate = explainSampleRate;
+        this.explainTimeout = explainTimeout;
+        this.slowQueries = new ArrayDeque<>(capacity);
+        this.explainExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(EXPLAIN_QUEUE_CAPACITY), runnable -> {
+                    Thread thread = new Thread(runnable, "slow-query-explain");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (execInfo.getElapsedTime() < thresholdMillis || queryInfoList.isEmpty()) {
+            return;
+        }
+        String repositoryMethod = MethodMetricsAspect.currentRepositoryMethod();
+        if (repositoryMethod == null) {
+            return;
+        }
+
+        QueryInfo queryInfo = queryInfoList.get(0);
+        List<ParameterSetOperation> parameters = queryInfo.getParametersList().isEmpty()
+                ? List.of()
+                : new ArrayList<>(queryInfo.getParametersList().get(0));
+        SlowQuery slowQuery = new SlowQuery(Instant.now(), repositoryMethod, queryInfo.getQuery(),
+                format(parameters), execInfo.getElapsedTime());
+        logger.warn("Slow query in {} took {} ms: {}", repositoryMethod, execInfo.getElapsedTime(),
+                queryInfo.getQuery());
+        add(slowQuery);
+
+        if (explainSampleRate > 0 && !execInfo.isBatch()
+                && execInfo.getStatementType() != StatementType.CALLABLE
+                && QueryUtils.getQueryType(queryInfo.getQuery()) == QueryType.SELECT
+                && ThreadLocalRandom.current().nextDouble() < explainSampleRate) {
+            boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+            explainExecutor.execute(() -> slowQuery.setPlan(explain(queryInfo.getQuery(), parameters, readOnly)));
+        }
+    }
+
+    /**
+     * Get the recorded slow queries.
+     *
+     * @return the slow queries, most recent first
+     */
+    public List<SlowQuery> getSlowQueries() {
+        lock.lock();
+        try {
+            List<SlowQuery> mostRecentFirst = new ArrayList<>(slowQueries.size());
+            Iterator<SlowQuery> iterator = slowQueries.descendingIterator();
+            while (iterator.hasNext()) {
+                mostRecentFirst.add(iterator.next());
+            }
+            return mostRecentFirst;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove all recorded slow queries.
+     */
+    public void clear() {
+        lock.lock();
+        try {
+            slowQueries.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        explainExecutor.shutdownNow();
+    }
+
+    private void add(SlowQuery slowQuery) {
+        lock.lock();
+        try {
+            if (slowQueries.size() == capacity) {
+                slowQueries.removeFirst();
+            }
+            slowQueries.addLast(slowQuery);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private String explain(String sql, List<ParameterSetOperation> parameters, boolean readOnly) {
+        // Routes the connection like the one of the statement's transaction
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+        try (Connection connection = dataSource.getObject().getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("SET TRANSACTION READ ONLY");
+                    statement.execute("SET LOCAL statement_timeout = " + explainTimeout.toMillis());
+                }
+                try (PreparedStatement statement = connection.prepareStatement("EXPLAIN (ANALYZE, BUFFERS) " + sql)) {
+                    for (ParameterSetOperation parameter : parameters) {
+                        parameter.getMethod().invoke(statement, parameter.getArgs());
+                    }
+                    StringBuilder plan = new StringBuilder();
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        while (resultSet.next()) {
+                            plan.append(resultSet.getString(1)).append('\n');
+                        }
+                    }
+                    return plan.toString();
+                }
+            } finally {
+                connection.rollback();
+            }
+        } catch (SQLException | IllegalAccessException | InvocationTargetException e) {
+            logger.debug("Could not explain slow query: {}", sql, e);
+            return "EXPLAIN failed: " + e.getMessage();
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+    }
+
+    private static List<String> format(List<ParameterSetOperation> parameters) {
+        List<String> formatted = new ArrayList<>(parameters.size());
+        for (ParameterSetOperation parameter : parameters) {
+            Object[] args = parameter.getArgs();
+            if (args == null || args.length == 0) {
+                continue;
+            }
+            Object value = ParameterSetOperation.isSetNullParameterOperation(parameter) || args.length < 2
+                    ? null
+                    : args[1];
+            formatted.add(args[0] + "=" + value);
+        }
+        return formatted;
+    }
+}
@@ -0,0 +1,101 @@
+package com.giftservice.metrics;
+
+import net.ttddyy.dsproxy.QueryType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Counts the JDBC statements executed by the current thread while the count is open.
+ * A JDBC batch is one round trip and counts as one statement.
+ *
+ * Counts can be nested, e.g. a test counting a single service call within a counted request;
+ * every open count of the thread records each statement. Close a count in the thread that
+ * started it, preferably with try-with-resources.
+ */
+public final class StatementCount implements AutoCloseable {
+
+    private static final ThreadLocal<List<StatementCount>> OPEN_COUNTS = new ThreadLocal<>();
+
+    private final long[] statements = new long[QueryType.values().length];
+    private boolean open = true;
+
+    private StatementCount() {
+    }
+
+    /**
+     * Start counting the statements of the current thread.
+     *
+     * @return the count, to be closed when done
+     */
+    public static StatementCount start() {
+        List<StatementCount> openCounts = OPEN_COUNTS.get();
+        if (openCounts == null) {
+            openCounts = new ArrayList<>(2);
+            OPEN_COUNTS.set(openCounts);
+        }
+        StatementCount count = new StatementCount();
+        openCounts.add(count);
+        return count;
+    }
+
+    /**
+     * Record an executed statement in the open counts of the current thread.
+     */
+    static void record(QueryType type) {
+        List<StatementCount> openCounts = OPEN_COUNTS.get();
+        if (openCounts != null) {
+            for (StatementCount count : openCounts) {
+                count.statements[type.ordinal()]++;
+            }
+        }
+    }
+
+    public long getSelects() {
+        return statements[QueryType.SELECT.ordinal()];
+    }
+
+    public long getInserts() {
+        return statements[QueryType.INSERT.ordinal()];
+    }
+
+    public long getUpdates() {
+        return statements[QueryType.UPDATE.ordinal()];
+    }
+
+    public long getDeletes() {
+        return statements[QueryType.DELETE.ordinal()];
+    }
+
+    public long getTotal() {
+        long total = 0;
+        for (long count : statements) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Stop counting. The counted statements remain readable.
+     */
+    @Override
+    public void close() {
+        if (!open) {
+            return;
+        }
+        open = false;
+        List<StatementCount> openCounts = OPEN_COUNTS.get();
+        if (openCounts != null) {
+            openCounts.remove(this);
+            if (openCounts.isEmpty()) {
+                OPEN_COUNTS.remove();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getTotal() + " statements (" + getSelects() + " selects, " + getInserts() + " inserts, " +
+                getUpdates() + " updates, " + getDeletes() + " deletes)";
+    }
+}
@@ -0,0 +1,55 @@
+package com.giftservice.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Counts the statements each HTTP request executes and records them in the
+ * giftservice.http.server.requests.statements distribution, tagged by method and URI template,
+ * so that requests whose round trips grow with their result size stand out.
+ */
+class StatementCountFilter extends OncePerRequestFilter {
+
+    static final String STATEMENTS_SUMMARY = "giftservice.http.server.requests.statements";
+
+    private static final Logger logger = LoggerFactory.getLogger(StatementCountFilter.class);
+
+    private final MeterRegistry meterRegistry;
+
+    StatementCountFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        StatementCount statements = StatementCount.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            statements.close();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+            DistributionSummary.builder(STATEMENTS_SUMMARY)
+                    .description("JDBC statements executed per request")
+                    .baseUnit("statements")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .publishPercentileHistogram()
+                    .maximumExpectedValue(1_000.0)
+                    .register(meterRegistry)
+                    .record(statements.getTotal());
+            logger.debug("{} {} executed {}", request.getMethod(), uri, statements);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.giftservice.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Records every statement executed through the data source in the open {@link StatementCount}s
+ * of the executing thread and in the giftservice.jdbc.statements counter, tagged by statement type.
+ */
+class StatementCountingListener implements QueryExecutionListener {
+
+    static final String STATEMENTS_COUNTER = "giftservice.jdbc.statements";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private volatile Map<QueryType, Counter> counters;
+
+    StatementCountingListener(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        QueryType type = queryInfoList.isEmpty()
+                ? QueryType.OTHER
+                : QueryUtils.getQueryType(queryInfoList.get(0).getQuery());
+        StatementCount.record(type);
+
+        Map<QueryType, Counter> typeCounters = counters();
+        if (typeCounters != null) {
+            typeCounters.get(type).increment();
+        }
+    }
+
+    /**
+     * Get the counters, registered on first use, as the data source is created before the meter registry.
+     */
+    private Map<QueryType, Counter> counters() {
+        Map<QueryType, Counter> typeCounters = counters;
+        if (typeCounters == null) {
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            if (registry == null) {
+                return null;
+            }
+            typeCounters = new EnumMap<>(QueryType.class);
+            for (QueryType type : QueryType.values()) {
+                typeCounters.put(type, Counter.builder(STATEMENTS_COUNTER)
+                        .description("JDBC statements executed, a batch counting as one")
+                        .tag("type", type.name().toLowerCase(Locale.ROOT))
+                        .register(registry));
+            }
+            counters = typeCounters;
+        }
+        return typeCounters;
+    }
+}
@@ -0,0 +1,74 @@
+package com.giftservice.repository;
+
+import com.giftservice.entity.ConcreteGift;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository fragment for set-based writes to concrete gifts that bypass the persistence context.
+ * Statements are executed on the connection of the surrounding transaction.
+ */
+public interface ConcreteGiftBulkRepository {
+
+    /**
+     * Insert concrete gifts or update the existing rows with the same vendor and SKU in a single statement,
+     * relying on the unique index idx_concrete_gifts_vendor_sku. Rows whose stored values already match
+     * are left untouched.
+     *
+     * @param concreteGifts the concrete gifts to upsert; all must have a product SKU and a gift suggestion,
+     *                      and no two may share vendor and SKU
+     * @return the number of inserted and updated rows
+     */
+    UpsertCount upsertByVendorSku(List<ConcreteGift> concreteGifts);
+
+    /**
+     * Apply availability and price deltas to the concrete gifts with the given IDs in a single statement.
+     * Prices outside the price range of the linked gift suggestion are rejected by the statement itself.
+     *
+     * @param deltas the deltas, identified by ID; no two may target the same concrete gift
+     * @return the outcome of each delta, in input order
+     */
+    List<DeltaStatus> applyDeltasById(List<Delta> deltas);
+
+    /**
+     * Apply availability and price deltas to the concrete gifts with the given vendor and SKU in a single statement.
+     * Prices outside the price range of the linked gift suggestion are rejected by the statement itself.
+     *
+     * @param deltas the deltas, identified by vendor and SKU; no two may target the same concrete gift
+     * @return the outcome of each delta, in input order
+     */
+    List<DeltaStatus> applyDeltasByVendorSku(List<Delta> deltas);
+
+    /**
+     * Partial update of a concrete gift. Null values leave the stored value unchanged.
+     *
+     * @param id the ID of the concrete gift, or null when identified by vendor and SKU
+     * @param vendorName the vendor name, or null when identified by ID
+     * @param productSku the product SKU, or null when identified by ID
+     * @param available the new availability status (can be null)
+     * @param exactPrice the new price (can be null)
+     */
+    record Delta(UUID id, String vendorName, String productSku, Boolean available, BigDecimal exactPrice) {
+    }
+
+    /**
+     * Outcome of a single delta.
+     */
+    enum DeltaStatus {
+        UPDATED,
+        UNCHANGED,
+        NOT_FOUND,
+        PRICE_OUT_OF_RANGE
+    }
+
+    /**
+     * Number of rows written by an upsert. Rows that were neither inserted nor updated were unchanged.
+     *
+     * @param inserted the number of inserted rows
+     * @param updated the number of updated rows
+     */
+    record UpsertCount(int inserted, int updated) {
+    }
+}
@@ -0,0 +1,145 @@
+package com.giftservice.repository;
+
+import com.giftservice.entity.ConcreteGift;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JDBC implementation of {@link ConcreteGiftBulkRepository} using PostgreSQL specific statements.
+ */
+class ConcreteGiftBulkRepositoryImpl implements ConcreteGiftBulkRepository {
+
+    private static final String UPSERT_PREFIX = "INSERT INTO concrete_gifts (id, name, description, exact_price, " +
+            "vendor_name, product_url, product_sku, available, gift_suggestion_id, created_date, last_modified_date) " +
+            "VALUES ";
+
+    private static final String UPSERT_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)";
+
+    // The WHERE clause of the conflict target must match the partial unique index.
+    // The update is skipped for rows without changes; xmax is 0 only for freshly inserted rows.
+    private static final String UPSERT_SUFFIX = " ON CONFLICT (vendor_name, product_sku) WHERE product_sku IS NOT NULL " +
+            "DO UPDATE SET name = EXCLUDED.name, description = EXCLUDED.description, " +
+            "exact_price = EXCLUDED.exact_price, product_url = EXCLUDED.product_url, " +
+            "available = EXCLUDED.available, gift_suggestion_id = EXCLUDED.gift_suggestion_id, " +
+            "last_modified_date = EXCLUDED.last_modified_date " +
+            "WHERE (concrete_gifts.name, concrete_gifts.description, concrete_gifts.exact_price, " +
+            "concrete_gifts.product_url, concrete_gifts.available, concrete_gifts.gift_suggestion_id) " +
+            "IS DISTINCT FROM (EXCLUDED.name, EXCLUDED.description, EXCLUDED.exact_price, " +
+            "EXCLUDED.product_url, EXCLUDED.available, EXCLUDED.gift_suggestion_id) " +
+            "RETURNING (xmax = 0) AS inserted";
+
+    // Updates only rows whose values change and whose new price lies within the suggestion's range.
+    // The final SELECT sees the rows as they were before the update and explains skipped deltas.
+    private static final String DELTA_TEMPLATE = "WITH v (row_index, %1$s, available, exact_price) AS (VALUES %2$s), " +
+            "updated AS (" +
+            "UPDATE concrete_gifts cg SET available = COALESCE(v.available, cg.available), " +
+            "exact_price = COALESCE(v.exact_price, cg.exact_price), last_modified_date = CURRENT_TIMESTAMP " +
+            "FROM v, gift_suggestions gs " +
+            "WHERE %3$s AND gs.id = cg.gift_suggestion_id " +
+            "AND (v.exact_price IS NULL OR v.exact_price BETWEEN gs.min_price AND gs.max_price) " +
+            "AND (cg.available, cg.exact_price) IS DISTINCT FROM " +
+            "(COALESCE(v.available, cg.available), COALESCE(v.exact_price, cg.exact_price)) " +
+            "RETURNING v.row_index) " +
+            "SELECT v.row_index, CASE WHEN u.row_index IS NOT NULL THEN 'UPDATED' " +
+            "WHEN cg.id IS NULL THEN 'NOT_FOUND' " +
+            "WHEN v.exact_price NOT BETWEEN gs.min_price AND gs.max_price THEN 'PRICE_OUT_OF_RANGE' " +
+            "ELSE 'UNCHANGED' END AS status " +
+            "FROM v LEFT JOIN updated u ON u.row_index = v.row_index " +
+            "LEFT JOIN concrete_gifts cg ON %3$s " +
+            "LEFT JOIN gift_suggestions gs ON gs.id = cg.gift_suggestion_id";
+
+    private static final String DELTA_BY_ID_ROW =
+            "(CAST(? AS integer), CAST(? AS uuid), CAST(? AS boolean), CAST(? AS numeric))";
+
+    private static final String DELTA_BY_VENDOR_SKU_ROW =
+            "(CAST(? AS integer), CAST(? AS varchar), CAST(? AS varchar), CAST(? AS boolean), CAST(? AS numeric))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    ConcreteGiftBulkRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public UpsertCount upsertByVendorSku(List<ConcreteGift> concreteGifts) {
+        if (concreteGifts.isEmpty()) {
+            return new UpsertCount(0, 0);
+        }
+
+        String sql = UPSERT_PREFIX + String.join(", ", Collections.nCopies(concreteGifts.size(), UPSERT_ROW))
+                + UPSERT_SUFFIX;
+        List<Object> args = new ArrayList<>(concreteGifts.size() * 9);
+        for (ConcreteGift concreteGift : concreteGifts) {
+            // Only used for inserted rows; the ID of an existing row is kept
+            args.add(UUID.randomUUID());
+            args.add(concreteGift.getName());
+            args.add(concreteGift.getDescription());
+            args.add(concreteGift.getExactPrice());
+            args.add(concreteGift.getVendorName());
+            args.add(concreteGift.getProductUrl());
+            args.add(concreteGift.getProductSku());
+            args.add(concreteGift.getAvailable() == null || concreteGift.getAvailable());
+            args.add(concreteGift.getGiftSuggestion().getId());
+        }
+
+        List<Boolean> inserted = jdbcTemplate.query(sql, (rs, rowNum) -> rs.getBoolean("inserted"), args.toArray());
+        int insertedCount = (int) inserted.stream().filter(Boolean::booleanValue).count();
+        return new UpsertCount(insertedCount, inserted.size() - insertedCount);
+    }
+
+    @Override
+    public List<DeltaStatus> applyDeltasById(List<Delta> deltas) {
+        return applyDeltas(deltas, "id", DELTA_BY_ID_ROW, "cg.id = v.id", (ps, index, delta) -> {
+            ps.setObject(index, delta.id());
+            return index + 1;
+        });
+    }
+
+    @Override
+    public List<DeltaStatus> applyDeltasByVendorSku(List<Delta> deltas) {
+        return applyDeltas(deltas, "vendor_name, product_sku", DELTA_BY_VENDOR_SKU_ROW,
+                "cg.vendor_name = v.vendor_name AND cg.product_sku = v.product_sku", (ps, index, delta) -> {
+                    ps.setString(index, delta.vendorName());
+                    ps.setString(index + 1, delta.productSku());
+                    return index + 2;
+                });
+    }
+
+    private List<DeltaStatus> applyDeltas(List<Delta> deltas, String keyColumns, String row, String keyMatch,
+                                          KeyBinder keyBinder) {
+        if (deltas.isEmpty()) {
+            return List.of();
+        }
+
+        String sql = String.format(DELTA_TEMPLATE, keyColumns,
+                String.join(", ", Collections.nCopies(deltas.size(), row)), keyMatch);
+        DeltaStatus[] statuses = new DeltaStatus[deltas.size()];
+        jdbcTemplate.query(sql, ps -> {
+            int index = 1;
+            for (int i = 0; i < deltas.size(); i++) {
+                Delta delta = deltas.get(i);
+                ps.setInt(index++, i);
+                index = keyBinder.bind(ps, index, delta);
+                ps.setObject(index++, delta.available(), Types.BOOLEAN);
+                ps.setBigDecimal(index++, delta.exactPrice());
+            }
+        }, rs -> {
+            statuses[rs.getInt("row_index")] = DeltaStatus.valueOf(rs.getString("status"));
+        });
+        return List.of(statuses);
+    }
+
+    @FunctionalInterface
+    private interface KeyBinder {
+        int bind(PreparedStatement ps, int index, Delta delta) throws SQLException;
+    }
+}
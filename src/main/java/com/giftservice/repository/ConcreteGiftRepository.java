@@ -2,16 +2,30 @@ package com.giftservice.repository;
 
 import com.giftservice.entity.ConcreteGift;
 import com.giftservice.entity.GiftSuggestion;
+import com.giftservice.enums.*;
+import com.giftservice.repository.projection.ConcreteGiftSummary;
+import com.giftservice.repository.projection.GiftSuggestionGiftCount;
+import com.giftservice.repository.projection.VendorSku;
+import com.giftservice.repository.specification.ConcreteGiftSpecifications;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for ConcreteGift entity.
@@ -19,7 +33,8 @@ import java.util.UUID;
  * based on relationships, vendor information, and availability status.
  */
 @Repository
-public interface ConcreteGiftRepository extends JpaRepository<ConcreteGift, UUID> {
+public interface ConcreteGiftRepository extends JpaRepository<ConcreteGift, UUID>,
+        JpaSpecificationExecutor<ConcreteGift>, ConcreteGiftBulkRepository {
 
     /**
      * Find all concrete gifts associated with a specific gift suggestion.
@@ -157,21 +172,18 @@ public interface ConcreteGiftRepository extends JpaRepository<ConcreteGift, UUID
      * @param pageable pagination information
      * @return page of concrete gifts matching the criteria
      */
-    @Query("SELECT cg FROM ConcreteGift cg WHERE " +
-           "(:vendorName IS NULL OR cg.vendorName = :vendorName) AND " +
-           "(:available IS NULL OR cg.available = :available) AND " +
-           "(:minPrice IS NULL OR cg.exactPrice >= :minPrice) AND " +
-           "(:maxPrice IS NULL OR cg.exactPrice <= :maxPrice)")
-    Page<ConcreteGift> findByAdvancedCriteria(
-            @Param("vendorName") String vendorName,
-            @Param("available") Boolean available,
-            @Param("minPrice") BigDecimal minPrice,
-            @Param("maxPrice") BigDecimal maxPrice,
-            Pageable pageable);
+    default Page<ConcreteGift> findByAdvancedCriteria(
+            String vendorName,
+            Boolean available,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Pageable pageable) {
+        return findAll(ConcreteGiftSpecifications.matchesCriteria(
+                null, vendorName, available, minPrice, maxPrice), pageable);
+    }
 
     /**
-     * Find concrete gifts by gift suggestion criteria and price range.
-     * This method joins with GiftSuggestion to filter by both concrete gift and suggestion properties.
+     * Find concrete gifts by gift suggestion and price range.
      *
      * @param giftSuggestionId the gift suggestion ID (can be null)
      * @param available the availability status (can be null)
@@ -180,17 +192,50 @@ public interface ConcreteGiftRepository extends JpaRepository<ConcreteGift, UUID
      * @param pageable pagination information
      * @return page of concrete gifts matching all criteria
      */
-    @Query("SELECT cg FROM ConcreteGift cg WHERE " +
-           "(:giftSuggestionId IS NULL OR cg.giftSuggestion.id = :giftSuggestionId) AND " +
-           "(:available IS NULL OR cg.available = :available) AND " +
-           "(:minPrice IS NULL OR cg.exactPrice >= :minPrice) AND " +
-           "(:maxPrice IS NULL OR cg.exactPrice <= :maxPrice)")
-    Page<ConcreteGift> findBySuggestionAndCriteria(
-            @Param("giftSuggestionId") UUID giftSuggestionId,
-            @Param("available") Boolean available,
-            @Param("minPrice") BigDecimal minPrice,
-            @Param("maxPrice") BigDecimal maxPrice,
-            Pageable pageable);
+    default Page<ConcreteGift> findBySuggestionAndCriteria(
+            UUID giftSuggestionId,
+            Boolean available,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Pageable pageable) {
+        return findAll(ConcreteGiftSpecifications.matchesCriteria(
+                giftSuggestionId, null, available, minPrice, maxPrice), pageable);
+    }
+
+    /**
+     * Find concrete gifts by gift suggestion attributes, vendor, availability and price range.
+     * This method joins with GiftSuggestion to filter by both concrete gift and suggestion properties.
+     *
+     * @param ageGroup the gift suggestion age group (can be null)
+     * @param gender the gift suggestion gender (can be null)
+     * @param interest the gift suggestion interest (can be null)
+     * @param occasion the gift suggestion occasion (can be null)
+     * @param relationship the gift suggestion relationship (can be null)
+     * @param personalityType the gift suggestion personality type (can be null)
+     * @param vendorName the vendor name (can be null)
+     * @param available the availability status (can be null)
+     * @param minPrice the minimum concrete gift price (can be null)
+     * @param maxPrice the maximum concrete gift price (can be null)
+     * @param pageable pagination information
+     * @return page of concrete gifts matching all criteria
+     */
+    default Page<ConcreteGift> findBySuggestionAndCriteria(
+            AgeGroup ageGroup,
+            Gender gender,
+            Interest interest,
+            Occasion occasion,
+            Relationship relationship,
+            PersonalityType personalityType,
+            String vendorName,
+            Boolean available,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Pageable pageable) {
+        return findAll(ConcreteGiftSpecifications
+                .matchesSuggestionCriteria(ageGroup, gender, interest, occasion, relationship, personalityType)
+                .and(ConcreteGiftSpecifications.matchesCriteria(null, vendorName, available, minPrice, maxPrice)),
+                pageable);
+    }
 
     /**
      * Count concrete gifts by vendor and availability.
@@ -199,10 +244,126 @@ public interface ConcreteGiftRepository extends JpaRepository<ConcreteGift, UUID
      * @param available the availability status (can be null)
      * @return count of concrete gifts matching the criteria
      */
-    @Query("SELECT COUNT(cg) FROM ConcreteGift cg WHERE " +
-           "(:vendorName IS NULL OR cg.vendorName = :vendorName) AND " +
-           "(:available IS NULL OR cg.available = :available)")
-    long countByVendorAndAvailable(
-            @Param("vendorName") String vendorName,
-            @Param("available") Boolean available);
-}
\ No newline at end of file
+    default long countByVendorAndAvailable(String vendorName, Boolean available) {
+        return count(ConcreteGiftSpecifications.matchesCriteria(null, vendorName, available, null, null));
+    }
+
+    /**
+     * Count concrete gifts associated with a specific gift suggestion by ID.
+     *
+     * @param giftSuggestionId the UUID of the gift suggestion
+     * @return count of concrete gifts linked to the gift suggestion
+     */
+    long countByGiftSuggestionId(UUID giftSuggestionId);
+
+    /**
+     * Count concrete gifts for several gift suggestions in a single grouped query.
+     * Gift suggestions without concrete gifts are not part of the result.
+     *
+     * @param giftSuggestionIds the UUIDs of the gift suggestions
+     * @return count of concrete gifts per gift suggestion
+     */
+    @Query("SELECT cg.giftSuggestion.id AS giftSuggestionId, COUNT(cg) AS giftCount FROM ConcreteGift cg " +
+           "WHERE cg.giftSuggestion.id IN :giftSuggestionIds GROUP BY cg.giftSuggestion.id")
+    List<GiftSuggestionGiftCount> countGroupedByGiftSuggestionIds(
+            @Param("giftSuggestionIds") Collection<UUID> giftSuggestionIds);
+
+    /**
+     * Find the vendor and SKU pairs already stored for the given SKUs.
+     * Used to detect conflicts with the unique vendor/SKU index before inserting in bulk.
+     *
+     * @param productSkus the product SKUs to look up
+     * @return vendor and SKU pairs of existing concrete gifts
+     */
+    @Query("SELECT cg.vendorName AS vendorName, cg.productSku AS productSku FROM ConcreteGift cg " +
+           "WHERE cg.productSku IN :productSkus")
+    List<VendorSku> findVendorSkusByProductSkuIn(@Param("productSkus") Collection<String> productSkus);
+
+    // Conditional requests
+
+    /**
+     * Find the last modification date of a concrete gift without loading the entity.
+     * Concrete gifts never modified report their creation date.
+     *
+     * @param id the ID of the concrete gift
+     * @return the last modification date, or empty if the concrete gift does not exist
+     */
+    @Query("SELECT COALESCE(cg.lastModifiedDate, cg.createdDate) FROM ConcreteGift cg WHERE cg.id = :id")
+    Optional<LocalDateTime> findLastModifiedDateById(@Param("id") UUID id);
+
+    // Summary projections
+
+    /**
+     * Find summaries of all concrete gifts with pagination.
+     * Only the summary columns are selected and neither concrete gifts nor gift suggestions are loaded.
+     *
+     * @param pageable pagination information
+     * @return page of concrete gift summaries
+     */
+    @Query(value = "SELECT new com.giftservice.repository.projection.ConcreteGiftSummary(" +
+                   "cg.id, cg.name, cg.exactPrice, cg.vendorName, cg.available, cg.giftSuggestion.id) " +
+                   "FROM ConcreteGift cg",
+           countQuery = "SELECT COUNT(cg) FROM ConcreteGift cg")
+    Page<ConcreteGiftSummary> findAllSummaries(Pageable pageable);
+
+    /**
+     * Find summaries of the concrete gifts of a gift suggestion with pagination.
+     * Only the summary columns are selected and neither concrete gifts nor gift suggestions are loaded.
+     *
+     * @param giftSuggestionId the UUID of the gift suggestion
+     * @param pageable pagination information
+     * @return page of concrete gift summaries linked to the gift suggestion
+     */
+    @Query(value = "SELECT new com.giftservice.repository.projection.ConcreteGiftSummary(" +
+                   "cg.id, cg.name, cg.exactPrice, cg.vendorName, cg.available, cg.giftSuggestion.id) " +
+                   "FROM ConcreteGift cg WHERE cg.giftSuggestion.id = :giftSuggestionId",
+           countQuery = "SELECT COUNT(cg) FROM ConcreteGift cg WHERE cg.giftSuggestion.id = :giftSuggestionId")
+    Page<ConcreteGiftSummary> findSummariesByGiftSuggestionId(
+            @Param("giftSuggestionId") UUID giftSuggestionId, Pageable pageable);
+
+    // Keyset pagination
+
+    /**
+     * Find the first slice of concrete gifts ordered by creation date and ID.
+     * No count query is issued.
+     *
+     * @param pageable the slice size, must request the first page without sorting
+     * @return slice of concrete gifts
+     */
+    @Query("SELECT cg FROM ConcreteGift cg ORDER BY cg.createdDate, cg.id")
+    Slice<ConcreteGift> findFirstSliceOrderByCreatedDate(Pageable pageable);
+
+    /**
+     * Find the slice of concrete gifts following the given position, ordered by creation date and ID.
+     * The row value comparison lets the database seek in idx_concrete_gifts_created_date_id
+     * instead of skipping rows, and no count query is issued.
+     *
+     * @param createdDate the creation date of the last element of the previous slice
+     * @param id the ID of the last element of the previous slice
+     * @param pageable the slice size, must request the first page without sorting
+     * @return slice of concrete gifts
+     */
+    @Query("SELECT cg FROM ConcreteGift cg WHERE (cg.createdDate, cg.id) > (:createdDate, :id) " +
+           "ORDER BY cg.createdDate, cg.id")
+    Slice<ConcreteGift> findSliceAfterOrderByCreatedDate(
+            @Param("createdDate") LocalDateTime createdDate,
+            @Param("id") UUID id,
+            Pageable pageable);
+
+    // Streaming export
+
+    /**
+     * Stream all concrete gifts ordered by ID.
+     * The associated gift suggestions are not loaded; only their IDs are available.
+     * Rows are fetched from a database cursor in batches, so the caller must consume the stream
+     * inside a transaction, close it, and clear the persistence context periodically.
+     *
+     * @return stream of all concrete gifts
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT cg FROM ConcreteGift cg ORDER BY cg.id")
+    Stream<ConcreteGift> streamAllOrderById();
+}
@@ -2,16 +2,28 @@ package com.giftservice.repository;
 
 import com.giftservice.entity.GiftSuggestion;
 import com.giftservice.enums.*;
+import com.giftservice.repository.projection.GiftSuggestionSummary;
+import com.giftservice.repository.specification.GiftSuggestionSpecifications;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for GiftSuggestion entity.
@@ -19,7 +31,8 @@ import java.util.UUID;
  * based on various criteria such as enums, price ranges, and combinations thereof.
  */
 @Repository
-public interface GiftSuggestionRepository extends JpaRepository<GiftSuggestion, UUID> {
+public interface GiftSuggestionRepository extends JpaRepository<GiftSuggestion, UUID>,
+        JpaSpecificationExecutor<GiftSuggestion> {
 
     /**
      * Find gift suggestions by age group.
@@ -180,23 +193,46 @@ public interface GiftSuggestionRepository extends JpaRepository<GiftSuggestion,
      * @param pageable pagination information
      * @return page of gift suggestions matching the specified criteria
      */
-    @Query("SELECT gs FROM GiftSuggestion gs WHERE " +
-           "(:ageGroup IS NULL OR gs.ageGroup = :ageGroup) AND " +
-           "(:gender IS NULL OR gs.gender = :gender) AND " +
-           "(:interest IS NULL OR gs.interest = :interest) AND " +
-           "(:occasion IS NULL OR gs.occasion = :occasion) AND " +
-           "(:relationship IS NULL OR gs.relationship = :relationship) AND " +
-           "(:personalityType IS NULL OR gs.personalityType = :personalityType) AND " +
-           "(:maxBudget IS NULL OR gs.minPrice <= :maxBudget)")
-    Page<GiftSuggestion> findByAdvancedCriteria(
-            @Param("ageGroup") AgeGroup ageGroup,
-            @Param("gender") Gender gender,
-            @Param("interest") Interest interest,
-            @Param("occasion") Occasion occasion,
-            @Param("relationship") Relationship relationship,
-            @Param("personalityType") PersonalityType personalityType,
-            @Param("maxBudget") BigDecimal maxBudget,
-            Pageable pageable);
+    default Page<GiftSuggestion> findByAdvancedCriteria(
+            AgeGroup ageGroup,
+            Gender gender,
+            Interest interest,
+            Occasion occasion,
+            Relationship relationship,
+            PersonalityType personalityType,
+            BigDecimal maxBudget,
+            Pageable pageable) {
+        return findAll(GiftSuggestionSpecifications.matchesCriteria(
+                ageGroup, gender, interest, occasion, relationship, personalityType, maxBudget), pageable);
+    }
+
+    /**
+     * Find up to the given number of gift suggestions matching all of the given optional criteria.
+     * Unlike {@link #findByAdvancedCriteria}, the matches are not counted and their order is unspecified.
+     *
+     * @param ageGroup the target age group (can be null)
+     * @param gender the target gender (can be null)
+     * @param interest the target interest (can be null)
+     * @param occasion the target occasion (can be null)
+     * @param relationship the target relationship (can be null)
+     * @param personalityType the target personality type (can be null)
+     * @param maxBudget the maximum budget (can be null for no budget limit)
+     * @param limit the maximum number of gift suggestions to return
+     * @return list of at most limit gift suggestions matching the specified criteria
+     */
+    default List<GiftSuggestion> findFirstByAdvancedCriteria(
+            AgeGroup ageGroup,
+            Gender gender,
+            Interest interest,
+            Occasion occasion,
+            Relationship relationship,
+            PersonalityType personalityType,
+            BigDecimal maxBudget,
+            int limit) {
+        return findBy(GiftSuggestionSpecifications.matchesCriteria(
+                ageGroup, gender, interest, occasion, relationship, personalityType, maxBudget),
+                query -> query.limit(limit).all());
+    }
 
     /**
      * Find gift suggestions by price range with pagination.
@@ -224,20 +260,161 @@ public interface GiftSuggestionRepository extends JpaRepository<GiftSuggestion,
      * @param maxBudget the maximum budget (can be null for no budget limit)
      * @return count of gift suggestions matching the criteria
      */
-    @Query("SELECT COUNT(gs) FROM GiftSuggestion gs WHERE " +
-           "(:ageGroup IS NULL OR gs.ageGroup = :ageGroup) AND " +
-           "(:gender IS NULL OR gs.gender = :gender) AND " +
-           "(:interest IS NULL OR gs.interest = :interest) AND " +
-           "(:occasion IS NULL OR gs.occasion = :occasion) AND " +
-           "(:relationship IS NULL OR gs.relationship = :relationship) AND " +
-           "(:personalityType IS NULL OR gs.personalityType = :personalityType) AND " +
-           "(:maxBudget IS NULL OR gs.minPrice <= :maxBudget)")
-    long countByAdvancedCriteria(
-            @Param("ageGroup") AgeGroup ageGroup,
-            @Param("gender") Gender gender,
-            @Param("interest") Interest interest,
-            @Param("occasion") Occasion occasion,
-            @Param("relationship") Relationship relationship,
-            @Param("personalityType") PersonalityType personalityType,
-            @Param("maxBudget") BigDecimal maxBudget);
-}
\ No newline at end of file
+    default long countByAdvancedCriteria(
+            AgeGroup ageGroup,
+            Gender gender,
+            Interest interest,
+            Occasion occasion,
+            Relationship relationship,
+            PersonalityType personalityType,
+            BigDecimal maxBudget) {
+        return count(GiftSuggestionSpecifications.matchesCriteria(
+                ageGroup, gender, interest, occasion, relationship, personalityType, maxBudget));
+    }
+
+    // Fetch plans including concrete gifts
+
+    /**
+     * Find a gift suggestion by ID together with its concrete gifts in a single query.
+     *
+     * @param id the ID of the gift suggestion
+     * @return the gift suggestion with initialized concrete gifts, if found
+     */
+    @EntityGraph(attributePaths = "concreteGifts")
+    Optional<GiftSuggestion> findWithConcreteGiftsById(UUID id);
+
+    /**
+     * Find gift suggestions by ID together with their concrete gifts in a single query.
+     * The result is in no particular order.
+     *
+     * @param ids the IDs of the gift suggestions
+     * @return the gift suggestions with initialized concrete gifts
+     */
+    @EntityGraph(attributePaths = "concreteGifts")
+    List<GiftSuggestion> findWithConcreteGiftsByIdIn(Collection<UUID> ids);
+
+    /**
+     * Find a page of gift suggestion IDs.
+     * Collection fetches cannot be paginated in the database, so pages of gift suggestions with
+     * their concrete gifts are loaded as a page of IDs followed by {@link #findWithConcreteGiftsByIdIn}.
+     *
+     * @param pageable pagination information
+     * @return page of gift suggestion IDs
+     */
+    @Query(value = "SELECT gs.id FROM GiftSuggestion gs",
+           countQuery = "SELECT COUNT(gs) FROM GiftSuggestion gs")
+    Page<UUID> findAllIds(Pageable pageable);
+
+    /**
+     * Find a slice of the IDs of gift suggestions with at least one available concrete gift, ordered by ID.
+     * No count query is issued.
+     *
+     * @param pageable the slice position and size, must not be sorted
+     * @return slice of gift suggestion IDs
+     */
+    @Query("SELECT gs.id FROM GiftSuggestion gs WHERE EXISTS (" +
+           "SELECT cg.id FROM ConcreteGift cg WHERE cg.giftSuggestion = gs AND cg.available = true) " +
+           "ORDER BY gs.id")
+    Slice<UUID> findIdsWithAvailableConcreteGifts(Pageable pageable);
+
+    // Conditional requests
+
+    /**
+     * Find the last modification date of a gift suggestion without loading the entity.
+     * Gift suggestions never modified report their creation date.
+     *
+     * @param id the ID of the gift suggestion
+     * @return the last modification date, or empty if the gift suggestion does not exist
+     */
+    @Query("SELECT COALESCE(gs.lastModifiedDate, gs.createdDate) FROM GiftSuggestion gs WHERE gs.id = :id")
+    Optional<LocalDateTime> findLastModifiedDateById(@Param("id") UUID id);
+
+    // Summary projections
+
+    /**
+     * Find summaries of all gift suggestions with pagination.
+     * Only the summary columns are selected and no entities are loaded.
+     *
+     * @param pageable pagination information
+     * @return page of gift suggestion summaries
+     */
+    @Query(value = "SELECT new com.giftservice.repository.projection.GiftSuggestionSummary(" +
+                   "gs.id, gs.name, gs.minPrice, gs.maxPrice) FROM GiftSuggestion gs",
+           countQuery = "SELECT COUNT(gs) FROM GiftSuggestion gs")
+    Page<GiftSuggestionSummary> findAllSummaries(Pageable pageable);
+
+    /**
+     * Find summaries of gift suggestions within a specific price range, ordered by minimum price.
+     * Only the summary columns are selected and no entities are loaded.
+     *
+     * @param minBudget the minimum budget
+     * @param maxBudget the maximum budget
+     * @return list of gift suggestion summaries within the specified price range
+     */
+    @Query("SELECT new com.giftservice.repository.projection.GiftSuggestionSummary(" +
+           "gs.id, gs.name, gs.minPrice, gs.maxPrice) FROM GiftSuggestion gs " +
+           "WHERE gs.minPrice <= :maxBudget AND gs.maxPrice >= :minBudget ORDER BY gs.minPrice, gs.id")
+    List<GiftSuggestionSummary> findSummariesWithinBudget(
+            @Param("minBudget") BigDecimal minBudget, @Param("maxBudget") BigDecimal maxBudget);
+
+    // Keyset pagination
+
+    /**
+     * Find the first slice of gift suggestions ordered by creation date and ID.
+     * No count query is issued.
+     *
+     * @param pageable the slice size, must request the first page without sorting
+     * @return slice of gift suggestions
+     */
+    @Query("SELECT gs FROM GiftSuggestion gs ORDER BY gs.createdDate, gs.id")
+    Slice<GiftSuggestion> findFirstSliceOrderByCreatedDate(Pageable pageable);
+
+    /**
+     * Find the slice of gift suggestions following the given position, ordered by creation date and ID.
+     * The row value comparison lets the database seek in idx_gift_suggestions_created_date_id
+     * instead of skipping rows, and no count query is issued.
+     *
+     * @param createdDate the creation date of the last element of the previous slice
+     * @param id the ID of the last element of the previous slice
+     * @param pageable the slice size, must request the first page without sorting
+     * @return slice of gift suggestions
+     */
+    @Query("SELECT gs FROM GiftSuggestion gs WHERE (gs.createdDate, gs.id) > (:createdDate, :id) " +
+           "ORDER BY gs.createdDate, gs.id")
+    Slice<GiftSuggestion> findSliceAfterOrderByCreatedDate(
+            @Param("createdDate") LocalDateTime createdDate,
+            @Param("id") UUID id,
+            Pageable pageable);
+
+    // Streaming export
+
+    /**
+     * Stream all gift suggestions ordered by ID.
+     * Rows are fetched from a database cursor in batches, so the caller must consume the stream
+     * inside a transaction, close it, and clear the persistence context periodically.
+     *
+     * @return stream of all gift suggestions
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT gs FROM GiftSuggestion gs ORDER BY gs.id")
+    Stream<GiftSuggestion> streamAllOrderById();
+
+    /**
+     * Stream all gift suggestions joined with their concrete gifts in a single query.
+     * Each element is a pair of gift suggestion and concrete gift, the concrete gift being null
+     * for gift suggestions without concrete gifts. Rows of the same gift suggestion are adjacent.
+     * Rows are fetched from a database cursor in batches, so the caller must consume the stream
+     * inside a transaction, close it, and clear the persistence context periodically.
+     *
+     * @return stream of gift suggestion and concrete gift pairs
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT gs, cg FROM GiftSuggestion gs LEFT JOIN gs.concreteGifts cg ORDER BY gs.id, cg.id")
+    Stream<Object[]> streamAllWithConcreteGiftsOrderById();
+}
@@ -0,0 +1,19 @@
+package com.giftservice.repository.projection;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Read-only summary of a concrete gift for list views.
+ * Built by a constructor expression, so it is neither managed nor dirty-checked.
+ *
+ * @param id the ID of the concrete gift
+ * @param name the name of the concrete gift
+ * @param exactPrice the price
+ * @param vendorName the name of the vendor
+ * @param available whether the concrete gift is available
+ * @param giftSuggestionId the ID of the gift suggestion the concrete gift belongs to
+ */
+public record ConcreteGiftSummary(UUID id, String name, BigDecimal exactPrice, String vendorName,
+                                  boolean available, UUID giftSuggestionId) {
+}
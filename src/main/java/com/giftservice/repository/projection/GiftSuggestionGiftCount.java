@@ -0,0 +1,19 @@
+package com.giftservice.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * Projection holding the number of concrete gifts linked to a gift suggestion.
+ */
+public interface GiftSuggestionGiftCount {
+
+    /**
+     * @return the ID of the gift suggestion
+     */
+    UUID getGiftSuggestionId();
+
+    /**
+     * @return the number of concrete gifts linked to the gift suggestion
+     */
+    long getGiftCount();
+}
@@ -0,0 +1,16 @@
+package com.giftservice.repository.projection;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Read-only summary of a gift suggestion for list views.
+ * Built by a constructor expression, so it is neither managed nor dirty-checked.
+ *
+ * @param id the ID of the gift suggestion
+ * @param name the name of the gift suggestion
+ * @param minPrice the minimum price
+ * @param maxPrice the maximum price
+ */
+public record GiftSuggestionSummary(UUID id, String name, BigDecimal minPrice, BigDecimal maxPrice) {
+}
@@ -0,0 +1,17 @@
+package com.giftservice.repository.projection;
+
+/**
+ * Projection holding the vendor-specific product identifier of a concrete gift.
+ */
+public interface VendorSku {
+
+    /**
+     * @return the name of the vendor
+     */
+    String getVendorName();
+
+    /**
+     * @return the product SKU assigned by the vendor
+     */
+    String getProductSku();
+}
@@ -0,0 +1,117 @@
+package com.giftservice.repository.specification;
+
+import com.giftservice.entity.ConcreteGift;
+import com.giftservice.entity.GiftSuggestion;
+import com.giftservice.enums.*;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Specifications for querying ConcreteGift entities.
+ * Only the criteria that are actually supplied become predicates, so every combination
+ * of filters produces its own SQL statement that the database can plan against the
+ * matching index instead of a generic catch-all plan.
+ */
+public final class ConcreteGiftSpecifications {
+
+    private ConcreteGiftSpecifications() {
+    }
+
+    /**
+     * Match concrete gifts by multiple optional criteria including price range and availability.
+     *
+     * @param giftSuggestionId the gift suggestion ID (can be null)
+     * @param vendorName the vendor name (can be null)
+     * @param available the availability status (can be null)
+     * @param minPrice the minimum price (can be null)
+     * @param maxPrice the maximum price (can be null)
+     * @return specification containing a predicate for each non-null criterion
+     */
+    public static Specification<ConcreteGift> matchesCriteria(
+            UUID giftSuggestionId,
+            String vendorName,
+            Boolean available,
+            BigDecimal minPrice,
+            BigDecimal maxPrice) {
+
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (giftSuggestionId != null) {
+                predicates.add(criteriaBuilder.equal(root.get("giftSuggestion").get("id"), giftSuggestionId));
+            }
+            if (vendorName != null) {
+                predicates.add(criteriaBuilder.equal(root.get("vendorName"), vendorName));
+            }
+            if (available != null) {
+                predicates.add(criteriaBuilder.equal(root.get("available"), available));
+            }
+            if (minPrice != null) {
+                predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("exactPrice"), minPrice));
+            }
+            if (maxPrice != null) {
+                predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get("exactPrice"), maxPrice));
+            }
+
+            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * Match concrete gifts by the categorization attributes of their gift suggestion.
+     * The gift suggestion is only joined if at least one attribute is supplied.
+     *
+     * @param ageGroup the target age group (can be null)
+     * @param gender the target gender (can be null)
+     * @param interest the target interest (can be null)
+     * @param occasion the target occasion (can be null)
+     * @param relationship the target relationship (can be null)
+     * @param personalityType the target personality type (can be null)
+     * @return specification containing a predicate for each non-null criterion
+     */
+    public static Specification<ConcreteGift> matchesSuggestionCriteria(
+            AgeGroup ageGroup,
+            Gender gender,
+            Interest interest,
+            Occasion occasion,
+            Relationship relationship,
+            PersonalityType personalityType) {
+
+        return (root, query, criteriaBuilder) -> {
+            if (ageGroup == null && gender == null && interest == null && occasion == null
+                    && relationship == null && personalityType == null) {
+                return criteriaBuilder.and();
+            }
+
+            Join<ConcreteGift, GiftSuggestion> giftSuggestion = root.join("giftSuggestion");
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (ageGroup != null) {
+                predicates.add(criteriaBuilder.equal(giftSuggestion.get("ageGroup"), ageGroup));
+            }
+            if (gender != null) {
+                predicates.add(criteriaBuilder.equal(giftSuggestion.get("gender"), gender));
+            }
+            if (interest != null) {
+                predicates.add(criteriaBuilder.equal(giftSuggestion.get("interest"), interest));
+            }
+            if (occasion != null) {
+                predicates.add(criteriaBuilder.equal(giftSuggestion.get("occasion"), occasion));
+            }
+            if (relationship != null) {
+                predicates.add(criteriaBuilder.equal(giftSuggestion.get("relationship"), relationship));
+            }
+            if (personalityType != null) {
+                predicates.add(criteriaBuilder.equal(giftSuggestion.get("personalityType"), personalityType));
+            }
+
+            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
@@ -0,0 +1,72 @@
+package com.giftservice.repository.specification;
+
+import com.giftservice.entity.GiftSuggestion;
+import com.giftservice.enums.*;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Specifications for querying GiftSuggestion entities.
+ * Only the criteria that are actually supplied become predicates, so every combination
+ * of filters produces its own SQL statement that the database can plan against the
+ * matching index instead of a generic catch-all plan.
+ */
+public final class GiftSuggestionSpecifications {
+
+    private GiftSuggestionSpecifications() {
+    }
+
+    /**
+     * Match gift suggestions by multiple optional criteria and budget constraint.
+     *
+     * @param ageGroup the target age group (can be null)
+     * @param gender the target gender (can be null)
+     * @param interest the target interest (can be null)
+     * @param occasion the target occasion (can be null)
+     * @param relationship the target relationship (can be null)
+     * @param personalityType the target personality type (can be null)
+     * @param maxBudget the maximum budget (can be null for no budget limit)
+     * @return specification containing a predicate for each non-null criterion
+     */
+    public static Specification<GiftSuggestion> matchesCriteria(
+            AgeGroup ageGroup,
+            Gender gender,
+            Interest interest,
+            Occasion occasion,
+            Relationship relationship,
+            PersonalityType personalityType,
+            BigDecimal maxBudget) {
+
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (ageGroup != null) {
+                predicates.add(criteriaBuilder.equal(root.get("ageGroup"), ageGroup));
+            }
+            if (gender != null) {
+                predicates.add(criteriaBuilder.equal(root.get("gender"), gender));
+            }
+            if (interest != null) {
+                predicates.add(criteriaBuilder.equal(root.get("interest"), interest));
+            }
+            if (occasion != null) {
+                predicates.add(criteriaBuilder.equal(root.get("occasion"), occasion));
+            }
+            if (relationship != null) {
+                predicates.add(criteriaBuilder.equal(root.get("relationship"), relationship));
+            }
+            if (personalityType != null) {
+                predicates.add(criteriaBuilder.equal(root.get("personalityType"), personalityType));
+            }
+            if (maxBudget != null) {
+                predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get("minPrice"), maxBudget));
+            }
+
+            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
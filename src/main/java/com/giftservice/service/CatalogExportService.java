@@ -0,0 +1,49 @@
+package com.giftservice.service;
+
+import com.giftservice.service.export.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Service interface for exporting the full catalog.
+ * Records are streamed from a database cursor straight to the output stream,
+ * so memory use stays constant regardless of catalog size.
+ * The output stream is flushed but not closed.
+ */
+public interface CatalogExportService {
+
+    /**
+     * Export all gift suggestions.
+     *
+     * @param outputStream the target stream
+     * @param format the output format
+     * @return the number of exported gift suggestions
+     * @throws IOException if writing to the output stream fails
+     * @throws IllegalArgumentException if the output stream or format is null
+     */
+    long exportGiftSuggestions(OutputStream outputStream, ExportFormat format) throws IOException;
+
+    /**
+     * Export all concrete gifts, referencing their gift suggestions by ID.
+     *
+     * @param outputStream the target stream
+     * @param format the output format
+     * @return the number of exported concrete gifts
+     * @throws IOException if writing to the output stream fails
+     * @throws IllegalArgumentException if the output stream or format is null
+     */
+    long exportConcreteGifts(OutputStream outputStream, ExportFormat format) throws IOException;
+
+    /**
+     * Export all gift suggestions together with their concrete gifts.
+     * Both are read with a single joined query, so concrete gifts are not loaded per gift suggestion.
+     *
+     * @param outputStream the target stream
+     * @param format the output format
+     * @return the number of exported gift suggestions
+     * @throws IOException if writing to the output stream fails
+     * @throws IllegalArgumentException if the output stream or format is null
+     */
+    long exportGiftSuggestionsWithConcreteGifts(OutputStream outputStream, ExportFormat format) throws IOException;
+}
@@ -3,11 +3,20 @@ package com.giftservice.service;
 import com.giftservice.entity.ConcreteGift;
 import com.giftservice.entity.GiftSuggestion;
 import com.giftservice.enums.*;
+import com.giftservice.repository.projection.ConcreteGiftSummary;
+import com.giftservice.service.bulk.BulkImportResult;
+import com.giftservice.service.bulk.BulkUpdateResult;
+import com.giftservice.service.bulk.BulkUpsertResult;
+import com.giftservice.service.bulk.ConcreteGiftDelta;
+import com.giftservice.service.pagination.KeysetSlice;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -26,6 +35,43 @@ public interface ConcreteGiftService {
      */
     ConcreteGift create(ConcreteGift concreteGift);
 
+    /**
+     * Create concrete gifts in bulk, e.g. from a vendor feed.
+     * Referenced gift suggestions are loaded once and rows are inserted with JDBC batching.
+     * Invalid rows, rows referencing unknown gift suggestions and rows whose vendor and SKU
+     * already exist are reported as failures without aborting the remaining rows.
+     *
+     * @param concreteGifts the concrete gifts to create
+     * @return the number of created concrete gifts and the rejected rows
+     * @throws IllegalArgumentException if the list is null
+     */
+    BulkImportResult createAll(List<ConcreteGift> concreteGifts);
+
+    /**
+     * Insert concrete gifts or update the existing ones identified by vendor and SKU, e.g. when re-importing
+     * a vendor feed. Each batch is written with a single statement; IDs of the given concrete gifts are ignored.
+     * Invalid rows, rows without SKU, rows referencing unknown gift suggestions and repeated vendor and SKU
+     * pairs are reported as failures without aborting the remaining rows.
+     *
+     * @param concreteGifts the concrete gifts to insert or update
+     * @return the number of inserted, updated and unchanged concrete gifts and the rejected rows
+     * @throws IllegalArgumentException if the list is null
+     */
+    BulkUpsertResult upsertByVendorSku(List<ConcreteGift> concreteGifts);
+
+    /**
+     * Apply availability and price changes to many concrete gifts, e.g. from an hourly stock sync.
+     * Deltas are applied with set-based statements per batch instead of loading each concrete gift.
+     * New prices must lie within the price range of the linked gift suggestion.
+     * Invalid deltas, unknown concrete gifts and out of range prices are reported as failures
+     * without aborting the remaining deltas.
+     *
+     * @param deltas the changes to apply
+     * @return the number of updated and unchanged concrete gifts and the rejected rows
+     * @throws IllegalArgumentException if the list is null
+     */
+    BulkUpdateResult applyDeltas(List<ConcreteGiftDelta> deltas);
+
     /**
      * Find a concrete gift by its ID.
      *
@@ -49,6 +95,26 @@ public interface ConcreteGiftService {
      */
     List<ConcreteGift> findAll();
 
+    /**
+     * Find summaries of all concrete gifts with pagination, for list views.
+     *
+     * @param pageable pagination parameters
+     * @return a page of concrete gift summaries
+     */
+    Page<ConcreteGiftSummary> findAllSummaries(Pageable pageable);
+
+    /**
+     * Find concrete gifts with keyset pagination ordered by creation date.
+     * Unlike {@link #findAll(Pageable)} no count query is issued and the cost of a slice
+     * does not grow with its position.
+     *
+     * @param continuationToken the token of the previous slice, or null for the first slice
+     * @param size the maximum number of concrete gifts to return
+     * @return a slice of concrete gifts with the token for the next slice
+     * @throws IllegalArgumentException if the token is malformed or the size is not positive
+     */
+    KeysetSlice<ConcreteGift> findSlice(String continuationToken, int size);
+
     /**
      * Update an existing concrete gift.
      *
@@ -76,6 +142,15 @@ public interface ConcreteGiftService {
      */
     boolean existsById(UUID id);
 
+    /**
+     * Find the last modification date of a concrete gift without loading it,
+     * so that conditional requests can be answered before the concrete gift is hydrated.
+     *
+     * @param id the ID of the concrete gift
+     * @return an Optional containing the last modification date, or the creation date if never modified
+     */
+    Optional<LocalDateTime> findLastModifiedDate(UUID id);
+
     /**
      * Find all concrete gifts for a specific gift suggestion.
      *
@@ -93,6 +168,15 @@ public interface ConcreteGiftService {
      */
     Page<ConcreteGift> findByGiftSuggestionId(UUID giftSuggestionId, Pageable pageable);
 
+    /**
+     * Find summaries of the concrete gifts for a specific gift suggestion with pagination, for list views.
+     *
+     * @param giftSuggestionId the ID of the gift suggestion
+     * @param pageable pagination parameters
+     * @return a page of concrete gift summaries for the suggestion
+     */
+    Page<ConcreteGiftSummary> findSummariesByGiftSuggestionId(UUID giftSuggestionId, Pageable pageable);
+
     /**
      * Find concrete gifts by vendor name.
      *
@@ -176,6 +260,14 @@ public interface ConcreteGiftService {
      */
     long countByGiftSuggestionId(UUID giftSuggestionId);
 
+    /**
+     * Count concrete gifts for several gift suggestions at once.
+     *
+     * @param giftSuggestionIds the IDs of the gift suggestions
+     * @return count of concrete gifts per gift suggestion ID, zero for suggestions without gifts
+     */
+    Map<UUID, Long> countByGiftSuggestionIds(Collection<UUID> giftSuggestionIds);
+
     /**
      * Validate that a concrete gift can be associated with a gift suggestion.
      *
@@ -2,10 +2,14 @@ package com.giftservice.service;
 
 import com.giftservice.entity.GiftSuggestion;
 import com.giftservice.enums.*;
+import com.giftservice.repository.projection.GiftSuggestionSummary;
+import com.giftservice.service.pagination.KeysetSlice;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -33,6 +37,15 @@ public interface GiftSuggestionService {
      */
     Optional<GiftSuggestion> findById(UUID id);
 
+    /**
+     * Find a read-only snapshot of a gift suggestion by its ID, served from the local cache.
+     * Use {@link #findById} to read or change the gift suggestion entity and its concrete gifts.
+     *
+     * @param id the ID of the gift suggestion
+     * @return an Optional containing the snapshot if found
+     */
+    Optional<GiftSuggestionSnapshot> findSnapshotById(UUID id);
+
     /**
      * Find all gift suggestions with pagination.
      *
@@ -48,6 +61,52 @@ public interface GiftSuggestionService {
      */
     List<GiftSuggestion> findAll();
 
+    /**
+     * Find summaries of all gift suggestions with pagination, for list views.
+     *
+     * @param pageable pagination parameters
+     * @return a page of gift suggestion summaries
+     */
+    Page<GiftSuggestionSummary> findAllSummaries(Pageable pageable);
+
+    /**
+     * Find a gift suggestion by its ID together with its concrete gifts, in a single query.
+     *
+     * @param id the ID of the gift suggestion
+     * @return an Optional containing the gift suggestion with initialized concrete gifts if found
+     */
+    Optional<GiftSuggestion> findByIdWithConcreteGifts(UUID id);
+
+    /**
+     * Find all gift suggestions with pagination together with their concrete gifts.
+     * A page takes a fixed number of queries regardless of its size.
+     *
+     * @param pageable pagination parameters
+     * @return a page of gift suggestions with initialized concrete gifts
+     */
+    Page<GiftSuggestion> findAllWithConcreteGifts(Pageable pageable);
+
+    /**
+     * Find gift suggestions that have available concrete gifts, together with those gifts,
+     * ordered by gift suggestion ID. A slice takes two queries and no count query is issued.
+     *
+     * @param pageable the slice position and size, sorting is not supported
+     * @return a slice of gift suggestions with their available concrete gifts
+     */
+    Slice<GiftSuggestionWithGifts> findWithAvailableGifts(Pageable pageable);
+
+    /**
+     * Find gift suggestions with keyset pagination ordered by creation date.
+     * Unlike {@link #findAll(Pageable)} no count query is issued and the cost of a slice
+     * does not grow with its position.
+     *
+     * @param continuationToken the token of the previous slice, or null for the first slice
+     * @param size the maximum number of gift suggestions to return
+     * @return a slice of gift suggestions with the token for the next slice
+     * @throws IllegalArgumentException if the token is malformed or the size is not positive
+     */
+    KeysetSlice<GiftSuggestion> findSlice(String continuationToken, int size);
+
     /**
      * Update an existing gift suggestion.
      *
@@ -75,6 +134,15 @@ public interface GiftSuggestionService {
      */
     boolean existsById(UUID id);
 
+    /**
+     * Find the last modification date of a gift suggestion without loading it,
+     * so that conditional requests can be answered before the gift suggestion is hydrated.
+     *
+     * @param id the ID of the gift suggestion
+     * @return an Optional containing the last modification date, or the creation date if never modified
+     */
+    Optional<LocalDateTime> findLastModifiedDate(UUID id);
+
     /**
      * Find gift suggestions by age group.
      *
@@ -83,6 +151,14 @@ public interface GiftSuggestionService {
      */
     List<GiftSuggestion> findByAgeGroup(AgeGroup ageGroup);
 
+    /**
+     * Find read-only snapshots of gift suggestions by age group, served from the local cache.
+     *
+     * @param ageGroup the age group to filter by
+     * @return list of snapshots of the matching gift suggestions
+     */
+    List<GiftSuggestionSnapshot> findSnapshotsByAgeGroup(AgeGroup ageGroup);
+
     /**
      * Find gift suggestions by gender.
      *
@@ -91,6 +167,14 @@ public interface GiftSuggestionService {
      */
     List<GiftSuggestion> findByGender(Gender gender);
 
+    /**
+     * Find read-only snapshots of gift suggestions by gender, served from the local cache.
+     *
+     * @param gender the gender to filter by
+     * @return list of snapshots of the matching gift suggestions
+     */
+    List<GiftSuggestionSnapshot> findSnapshotsByGender(Gender gender);
+
     /**
      * Find gift suggestions by interest.
      *
@@ -99,6 +183,14 @@ public interface GiftSuggestionService {
      */
     List<GiftSuggestion> findByInterest(Interest interest);
 
+    /**
+     * Find read-only snapshots of gift suggestions by interest, served from the local cache.
+     *
+     * @param interest the interest to filter by
+     * @return list of snapshots of the matching gift suggestions
+     */
+    List<GiftSuggestionSnapshot> findSnapshotsByInterest(Interest interest);
+
     /**
      * Find gift suggestions by occasion.
      *
@@ -107,6 +199,14 @@ public interface GiftSuggestionService {
      */
     List<GiftSuggestion> findByOccasion(Occasion occasion);
 
+    /**
+     * Find read-only snapshots of gift suggestions by occasion, served from the local cache.
+     *
+     * @param occasion the occasion to filter by
+     * @return list of snapshots of the matching gift suggestions
+     */
+    List<GiftSuggestionSnapshot> findSnapshotsByOccasion(Occasion occasion);
+
     /**
      * Find gift suggestions by relationship.
      *
@@ -115,6 +215,14 @@ public interface GiftSuggestionService {
      */
     List<GiftSuggestion> findByRelationship(Relationship relationship);
 
+    /**
+     * Find read-only snapshots of gift suggestions by relationship, served from the local cache.
+     *
+     * @param relationship the relationship to filter by
+     * @return list of snapshots of the matching gift suggestions
+     */
+    List<GiftSuggestionSnapshot> findSnapshotsByRelationship(Relationship relationship);
+
     /**
      * Find gift suggestions by personality type.
      *
@@ -123,6 +231,14 @@ public interface GiftSuggestionService {
      */
     List<GiftSuggestion> findByPersonalityType(PersonalityType personalityType);
 
+    /**
+     * Find read-only snapshots of gift suggestions by personality type, served from the local cache.
+     *
+     * @param personalityType the personality type to filter by
+     * @return list of snapshots of the matching gift suggestions
+     */
+    List<GiftSuggestionSnapshot> findSnapshotsByPersonalityType(PersonalityType personalityType);
+
     /**
      * Find gift suggestions within a price range.
      *
@@ -132,6 +248,15 @@ public interface GiftSuggestionService {
      */
     List<GiftSuggestion> findByPriceRange(BigDecimal minPrice, BigDecimal maxPrice);
 
+    /**
+     * Find summaries of gift suggestions within a price range, for list views.
+     *
+     * @param minPrice the minimum price
+     * @param maxPrice the maximum price
+     * @return list of matching gift suggestion summaries ordered by minimum price
+     */
+    List<GiftSuggestionSummary> findSummariesByPriceRange(BigDecimal minPrice, BigDecimal maxPrice);
+
     /**
      * Advanced search with multiple optional criteria.
      *
@@ -0,0 +1,65 @@
+package com.giftservice.service;
+
+import com.giftservice.entity.GiftSuggestion;
+import com.giftservice.enums.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Immutable read-only state of a gift suggestion, without its concrete gifts.
+ * Served from the local caches; changes are made through the {@link GiftSuggestion} entity.
+ *
+ * @param id the ID of the gift suggestion
+ * @param name the name
+ * @param description the description
+ * @param minPrice the minimum price
+ * @param maxPrice the maximum price
+ * @param ageGroup the target age group
+ * @param gender the target gender
+ * @param interest the target interest
+ * @param occasion the target occasion
+ * @param relationship the target relationship
+ * @param personalityType the target personality type
+ * @param createdDate the creation date
+ * @param lastModifiedDate the last modification date, null if never modified
+ */
+public record GiftSuggestionSnapshot(
+        UUID id,
+        String name,
+        String description,
+        BigDecimal minPrice,
+        BigDecimal maxPrice,
+        AgeGroup ageGroup,
+        Gender gender,
+        Interest interest,
+        Occasion occasion,
+        Relationship relationship,
+        PersonalityType personalityType,
+        LocalDateTime createdDate,
+        LocalDateTime lastModifiedDate) {
+
+    /**
+     * Capture the current state of a gift suggestion.
+     *
+     * @param giftSuggestion the gift suggestion
+     * @return the snapshot
+     */
+    public static GiftSuggestionSnapshot from(GiftSuggestion giftSuggestion) {
+        return new GiftSuggestionSnapshot(
+                giftSuggestion.getId(),
+                giftSuggestion.getName(),
+                giftSuggestion.getDescription(),
+                giftSuggestion.getMinPrice(),
+                giftSuggestion.getMaxPrice(),
+                giftSuggestion.getAgeGroup(),
+                giftSuggestion.getGender(),
+                giftSuggestion.getInterest(),
+                giftSuggestion.getOccasion(),
+                giftSuggestion.getRelationship(),
+                giftSuggestion.getPersonalityType(),
+                giftSuggestion.getCreatedDate(),
+                giftSuggestion.getLastModifiedDate());
+    }
+}
@@ -0,0 +1,19 @@
+package com.giftservice.service;
+
+import com.giftservice.entity.ConcreteGift;
+import com.giftservice.entity.GiftSuggestion;
+
+import java.util.List;
+
+/**
+ * A gift suggestion together with a selection of its concrete gifts, loaded in the same round trip.
+ *
+ * @param giftSuggestion the gift suggestion
+ * @param concreteGifts the selected concrete gifts of the gift suggestion
+ */
+public record GiftSuggestionWithGifts(GiftSuggestion giftSuggestion, List<ConcreteGift> concreteGifts) {
+
+    public GiftSuggestionWithGifts {
+        concreteGifts = List.copyOf(concreteGifts);
+    }
+}
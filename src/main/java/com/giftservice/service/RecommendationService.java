@@ -0,0 +1,31 @@
+package com.giftservice.service;
+
+import com.giftservice.service.recommendation.RecipientProfile;
+import com.giftservice.service.recommendation.Recommendation;
+
+import java.util.List;
+
+/**
+ * Service interface for ranking gift suggestions for a recipient.
+ * Unlike the exact-match searches of {@link GiftSuggestionService}, every gift suggestion
+ * is scored by how many profile attributes it matches, so partial matches are still returned.
+ */
+public interface RecommendationService {
+
+    /**
+     * The maximum number of recommendations returned by a single request.
+     */
+    int MAX_LIMIT = 100;
+
+    /**
+     * Recommend the gift suggestions best matching a recipient profile.
+     * Ranking is bounded by a latency budget; if it is exceeded, the best matches
+     * among the gift suggestions scored so far are returned. While the ranking index is
+     * unavailable, only gift suggestions matching all attributes of the profile are returned.
+     *
+     * @param profile the recipient profile
+     * @param limit the maximum number of recommendations, between 1 and {@link #MAX_LIMIT}
+     * @return the recommendations in descending score order
+     */
+    List<Recommendation> recommend(RecipientProfile profile, int limit);
+}
@@ -0,0 +1,33 @@
+package com.giftservice.service.bulk;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import.
+ * Rows that fail validation are reported individually and do not prevent the remaining rows from being imported.
+ *
+ * @param created the number of created rows
+ * @param failures the rejected rows in input order
+ */
+public record BulkImportResult(int created, List<RowFailure> failures) {
+
+    public BulkImportResult {
+        failures = List.copyOf(failures);
+    }
+
+    /**
+     * @return true if at least one row was rejected
+     */
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+
+    /**
+     * A rejected input row.
+     *
+     * @param index the zero-based position of the row in the input
+     * @param reason the validation message
+     */
+    public record RowFailure(int index, String reason) {
+    }
+}
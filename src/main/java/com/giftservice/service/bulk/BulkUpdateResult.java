@@ -0,0 +1,27 @@
+package com.giftservice.service.bulk;
+
+import com.giftservice.service.bulk.BulkImportResult.RowFailure;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk partial update.
+ * Rows that fail validation are reported individually and do not prevent the remaining rows from being applied.
+ *
+ * @param updated the number of concrete gifts whose values changed
+ * @param unchanged the number of concrete gifts that already held the given values
+ * @param failures the rejected rows in input order
+ */
+public record BulkUpdateResult(int updated, int unchanged, List<RowFailure> failures) {
+
+    public BulkUpdateResult {
+        failures = List.copyOf(failures);
+    }
+
+    /**
+     * @return true if at least one row was rejected
+     */
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+}
@@ -0,0 +1,28 @@
+package com.giftservice.service.bulk;
+
+import com.giftservice.service.bulk.BulkImportResult.RowFailure;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk upsert.
+ * Rows that fail validation are reported individually and do not prevent the remaining rows from being written.
+ *
+ * @param inserted the number of inserted rows
+ * @param updated the number of existing rows whose values changed
+ * @param unchanged the number of existing rows that already held the given values
+ * @param failures the rejected rows in input order
+ */
+public record BulkUpsertResult(int inserted, int updated, int unchanged, List<RowFailure> failures) {
+
+    public BulkUpsertResult {
+        failures = List.copyOf(failures);
+    }
+
+    /**
+     * @return true if at least one row was rejected
+     */
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+}
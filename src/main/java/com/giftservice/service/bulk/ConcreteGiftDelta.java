@@ -0,0 +1,34 @@
+package com.giftservice.service.bulk;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Availability and price change for a single concrete gift, as sent by vendor stock syncs.
+ * The concrete gift is identified either by ID or by vendor name and SKU.
+ * Null values leave the stored value unchanged.
+ *
+ * @param id the ID of the concrete gift, or null when identified by vendor and SKU
+ * @param vendorName the vendor name, or null when identified by ID
+ * @param productSku the product SKU, or null when identified by ID
+ * @param available the new availability status (can be null)
+ * @param exactPrice the new price (can be null)
+ */
+public record ConcreteGiftDelta(UUID id, String vendorName, String productSku, Boolean available,
+                                BigDecimal exactPrice) {
+
+    /**
+     * Create a delta for the concrete gift with the given ID.
+     */
+    public static ConcreteGiftDelta byId(UUID id, Boolean available, BigDecimal exactPrice) {
+        return new ConcreteGiftDelta(id, null, null, available, exactPrice);
+    }
+
+    /**
+     * Create a delta for the concrete gift with the given vendor and SKU.
+     */
+    public static ConcreteGiftDelta byVendorSku(String vendorName, String productSku, Boolean available,
+                                                BigDecimal exactPrice) {
+        return new ConcreteGiftDelta(null, vendorName, productSku, available, exactPrice);
+    }
+}
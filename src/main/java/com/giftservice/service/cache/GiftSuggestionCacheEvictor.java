@@ -0,0 +1,93 @@
+package com.giftservice.service.cache;
+
+import com.giftservice.config.CacheConfig;
+import com.giftservice.entity.GiftSuggestion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+/**
+ * Evicts exactly the gift suggestion cache entries affected by a write.
+ * These are the entry of the written gift suggestion, the result lists that contain it,
+ * and the result lists for its new categorization values.
+ *
+ * Entries are evicted after the writing transaction commits, or immediately if no transaction
+ * is active. The writing transaction itself bypasses the caches, and loads by concurrent
+ * transactions that overlap the eviction are not kept, see {@link GiftSuggestionSnapshotCache}.
+ */
+@Component
+public class GiftSuggestionCacheEvictor {
+
+    private static final Logger logger = LoggerFactory.getLogger(GiftSuggestionCacheEvictor.class);
+
+    private final CacheManager cacheManager;
+
+    @Autowired
+    public GiftSuggestionCacheEvictor(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * Evict the entries affected by creating, updating or deleting a gift suggestion.
+     *
+     * @param id the ID of the written gift suggestion
+     * @param current the gift suggestion as written, or null if it was deleted
+     */
+    public void evict(UUID id, GiftSuggestion current) {
+        if (id == null) {
+            throw new IllegalArgumentException("ID cannot be null");
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(id, current);
+                }
+            });
+        } else {
+            evictNow(id, current);
+        }
+    }
+
+    private void evictNow(UUID id, GiftSuggestion current) {
+        logger.debug("Evicting cache entries for gift suggestion with ID: {}", id);
+
+        Cache byId = cacheManager.getCache(CacheConfig.GIFT_SUGGESTIONS);
+        if (byId != null) {
+            byId.evictIfPresent(id);
+        }
+
+        evictList(CacheConfig.GIFT_SUGGESTIONS_BY_AGE_GROUP, id, current == null ? null : current.getAgeGroup());
+        evictList(CacheConfig.GIFT_SUGGESTIONS_BY_GENDER, id, current == null ? null : current.getGender());
+        evictList(CacheConfig.GIFT_SUGGESTIONS_BY_INTEREST, id, current == null ? null : current.getInterest());
+        evictList(CacheConfig.GIFT_SUGGESTIONS_BY_OCCASION, id, current == null ? null : current.getOccasion());
+        evictList(CacheConfig.GIFT_SUGGESTIONS_BY_RELATIONSHIP, id,
+                current == null ? null : current.getRelationship());
+        evictList(CacheConfig.GIFT_SUGGESTIONS_BY_PERSONALITY_TYPE, id,
+                current == null ? null : current.getPersonalityType());
+    }
+
+    private void evictList(String cacheName, UUID id, Enum<?> currentValue) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+
+        if (currentValue != null) {
+            cache.evictIfPresent(currentValue);
+        }
+
+        // Lists for previous values are found by content, so callers need not know the old values
+        if (cache instanceof GiftSuggestionSnapshotCache snapshotCache) {
+            snapshotCache.evictListsContaining(id);
+        }
+    }
+}
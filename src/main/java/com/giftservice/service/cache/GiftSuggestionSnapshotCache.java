@@ -0,0 +1,121 @@
+package com.giftservice.service.cache;
+
+import com.giftservice.service.GiftSuggestionSnapshot;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caffeine cache of {@link GiftSuggestionSnapshot}s and lists of them. Snapshots are immutable,
+ * so cached values are shared by all callers; entities are never cached.
+ *
+ * Loaded values are put as soon as they are loaded. Every eviction advances an invalidation
+ * counter, and a value whose load overlapped an eviction is removed again after the put, so that
+ * a reader that loaded the previous state of a concurrently committed write does not cache it.
+ * Read-write transactions bypass the cache to read their own writes and never cache uncommitted state.
+ */
+public class GiftSuggestionSnapshotCache extends CaffeineCache {
+
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public GiftSuggestionSnapshotCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+        super(name, cache, false);
+        this.nativeCache = cache;
+    }
+
+    @Override
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        if (inReadWriteTransaction()) {
+            return load(key, valueLoader);
+        }
+
+        Object cached = nativeCache.getIfPresent(key);
+        if (cached != null) {
+            return (T) cached;
+        }
+
+        long invalidationsBeforeLoad = invalidations.get();
+        T value = load(key, valueLoader);
+        if (value != null) {
+            nativeCache.put(key, value);
+            if (invalidations.get() != invalidationsBeforeLoad) {
+                nativeCache.asMap().remove(key, value);
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, @Nullable Object value) {
+        if (!inReadWriteTransaction()) {
+            super.put(key, value);
+        }
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+        if (inReadWriteTransaction()) {
+            return null;
+        }
+        return super.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        invalidations.incrementAndGet();
+        super.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        invalidations.incrementAndGet();
+        return super.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        invalidations.incrementAndGet();
+        super.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        invalidations.incrementAndGet();
+        return super.invalidate();
+    }
+
+    /**
+     * Evict the cached lists that contain the given gift suggestion.
+     *
+     * @param id the ID of the gift suggestion
+     */
+    public void evictListsContaining(UUID id) {
+        invalidations.incrementAndGet();
+        nativeCache.asMap().values().removeIf(value -> value instanceof List<?> snapshots
+                && snapshots.stream().anyMatch(snapshot -> snapshot instanceof GiftSuggestionSnapshot cached
+                        && Objects.equals(cached.id(), id)));
+    }
+
+    private static <T> T load(Object key, Callable<T> valueLoader) {
+        try {
+            return valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    private static boolean inReadWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+}
@@ -0,0 +1,89 @@
+package com.giftservice.service.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.giftservice.entity.ConcreteGift;
+import com.giftservice.entity.GiftSuggestion;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes catalog records to an output stream one at a time.
+ * Implementations buffer at most a single record, so memory use does not depend on the catalog size.
+ * The underlying output stream is flushed by {@link #finish()} but never closed.
+ */
+public interface CatalogWriter {
+
+    /**
+     * Kind of records written by an export.
+     */
+    enum Content {
+        GIFT_SUGGESTIONS,
+        CONCRETE_GIFTS,
+        GIFT_SUGGESTIONS_WITH_CONCRETE_GIFTS
+    }
+
+    /**
+     * Create a writer for the given format.
+     *
+     * @param format the output format
+     * @param content the kind of records that will be written
+     * @param outputStream the target stream
+     * @param jsonFactory the factory used for JSON output
+     * @return a writer that has already written any header required by the format
+     * @throws IOException if writing the header fails
+     */
+    static CatalogWriter create(ExportFormat format, Content content, OutputStream outputStream,
+                                JsonFactory jsonFactory) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonCatalogWriter(outputStream, jsonFactory);
+            case CSV -> new CsvCatalogWriter(outputStream, content);
+        };
+    }
+
+    /**
+     * Write a gift suggestion without concrete gifts.
+     *
+     * @param giftSuggestion the gift suggestion
+     * @throws IOException if writing fails
+     */
+    void writeGiftSuggestion(GiftSuggestion giftSuggestion) throws IOException;
+
+    /**
+     * Write a concrete gift referencing its gift suggestion by ID.
+     *
+     * @param concreteGift the concrete gift
+     * @throws IOException if writing fails
+     */
+    void writeConcreteGift(ConcreteGift concreteGift) throws IOException;
+
+    /**
+     * Start a gift suggestion whose concrete gifts follow via {@link #writeNestedConcreteGift}.
+     *
+     * @param giftSuggestion the gift suggestion
+     * @throws IOException if writing fails
+     */
+    void startGiftSuggestion(GiftSuggestion giftSuggestion) throws IOException;
+
+    /**
+     * Write a concrete gift of the gift suggestion started last.
+     *
+     * @param concreteGift the concrete gift
+     * @throws IOException if writing fails
+     */
+    void writeNestedConcreteGift(ConcreteGift concreteGift) throws IOException;
+
+    /**
+     * End the gift suggestion started last.
+     *
+     * @throws IOException if writing fails
+     */
+    void endGiftSuggestion() throws IOException;
+
+    /**
+     * Flush all buffered output to the underlying stream.
+     *
+     * @throws IOException if writing fails
+     */
+    void finish() throws IOException;
+}
@@ -0,0 +1,135 @@
+package com.giftservice.service.export;
+
+import com.giftservice.entity.ConcreteGift;
+import com.giftservice.entity.GiftSuggestion;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Writes catalog records as RFC 4180 CSV.
+ * Gift suggestions with concrete gifts are flattened into one row per concrete gift,
+ * repeating the gift suggestion columns; a gift suggestion without concrete gifts
+ * produces a single row with empty concrete gift columns.
+ */
+class CsvCatalogWriter implements CatalogWriter {
+
+    private static final List<String> GIFT_SUGGESTION_COLUMNS = List.of(
+            "id", "name", "description", "minPrice", "maxPrice", "ageGroup", "gender", "interest",
+            "occasion", "relationship", "personalityType", "createdDate", "lastModifiedDate");
+
+    private static final List<String> CONCRETE_GIFT_COLUMNS = List.of(
+            "id", "giftSuggestionId", "name", "description", "exactPrice", "vendorName", "productUrl",
+            "productSku", "available", "createdDate", "lastModifiedDate");
+
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    private final Writer writer;
+
+    private GiftSuggestion currentGiftSuggestion;
+    private boolean currentHasConcreteGifts;
+
+    CsvCatalogWriter(OutputStream outputStream, Content content) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writeHeader(content);
+    }
+
+    @Override
+    public void writeGiftSuggestion(GiftSuggestion giftSuggestion) throws IOException {
+        writeGiftSuggestionFields(giftSuggestion);
+        writer.write(LINE_SEPARATOR);
+    }
+
+    @Override
+    public void writeConcreteGift(ConcreteGift concreteGift) throws IOException {
+        writeConcreteGiftFields(concreteGift);
+        writer.write(LINE_SEPARATOR);
+    }
+
+    @Override
+    public void startGiftSuggestion(GiftSuggestion giftSuggestion) {
+        currentGiftSuggestion = giftSuggestion;
+        currentHasConcreteGifts = false;
+    }
+
+    @Override
+    public void writeNestedConcreteGift(ConcreteGift concreteGift) throws IOException {
+        writeGiftSuggestionFields(currentGiftSuggestion);
+        writer.write(',');
+        writeConcreteGiftFields(concreteGift);
+        writer.write(LINE_SEPARATOR);
+        currentHasConcreteGifts = true;
+    }
+
+    @Override
+    public void endGiftSuggestion() throws IOException {
+        if (!currentHasConcreteGifts) {
+            writeGiftSuggestionFields(currentGiftSuggestion);
+            writer.write(",".repeat(CONCRETE_GIFT_COLUMNS.size()));
+            writer.write(LINE_SEPARATOR);
+        }
+        currentGiftSuggestion = null;
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    private void writeHeader(Content content) throws IOException {
+        switch (content) {
+            case GIFT_SUGGESTIONS -> writeFields(GIFT_SUGGESTION_COLUMNS.toArray());
+            case CONCRETE_GIFTS -> writeFields(CONCRETE_GIFT_COLUMNS.toArray());
+            case GIFT_SUGGESTIONS_WITH_CONCRETE_GIFTS -> {
+                writeFields(GIFT_SUGGESTION_COLUMNS.toArray());
+                writer.write(',');
+                writeFields(CONCRETE_GIFT_COLUMNS.stream().map(column -> "concreteGift." + column).toArray());
+            }
+        }
+        writer.write(LINE_SEPARATOR);
+    }
+
+    private void writeGiftSuggestionFields(GiftSuggestion giftSuggestion) throws IOException {
+        writeFields(giftSuggestion.getId(), giftSuggestion.getName(), giftSuggestion.getDescription(),
+                giftSuggestion.getMinPrice(), giftSuggestion.getMaxPrice(), giftSuggestion.getAgeGroup(),
+                giftSuggestion.getGender(), giftSuggestion.getInterest(), giftSuggestion.getOccasion(),
+                giftSuggestion.getRelationship(), giftSuggestion.getPersonalityType(),
+                giftSuggestion.getCreatedDate(), giftSuggestion.getLastModifiedDate());
+    }
+
+    private void writeConcreteGiftFields(ConcreteGift concreteGift) throws IOException {
+        writeFields(concreteGift.getId(), concreteGift.getGiftSuggestion().getId(), concreteGift.getName(),
+                concreteGift.getDescription(), concreteGift.getExactPrice(), concreteGift.getVendorName(),
+                concreteGift.getProductUrl(), concreteGift.getProductSku(), concreteGift.getAvailable(),
+                concreteGift.getCreatedDate(), concreteGift.getLastModifiedDate());
+    }
+
+    private void writeFields(Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeField(values[i]);
+        }
+    }
+
+    private void writeField(Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
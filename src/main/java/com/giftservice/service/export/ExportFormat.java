@@ -0,0 +1,27 @@
+package com.giftservice.service.export;
+
+/**
+ * Output formats supported by the catalog export.
+ */
+public enum ExportFormat {
+
+    /**
+     * Newline delimited JSON, one record per line.
+     */
+    NDJSON("application/x-ndjson"),
+
+    /**
+     * Comma separated values with a header row, as described in RFC 4180.
+     */
+    CSV("text/csv");
+
+    private final String contentType;
+
+    ExportFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+}
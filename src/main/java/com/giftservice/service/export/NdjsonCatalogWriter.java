@@ -0,0 +1,122 @@
+package com.giftservice.service.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.giftservice.entity.ConcreteGift;
+import com.giftservice.entity.GiftSuggestion;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Writes catalog records as newline delimited JSON.
+ * Concrete gifts of a started gift suggestion are written into its "concreteGifts" array
+ * as they arrive, so a gift suggestion with many concrete gifts is never held in memory.
+ */
+class NdjsonCatalogWriter implements CatalogWriter {
+
+    private final JsonGenerator generator;
+
+    NdjsonCatalogWriter(OutputStream outputStream, JsonFactory jsonFactory) throws IOException {
+        this.generator = jsonFactory.createGenerator(outputStream)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .setRootValueSeparator(null);
+    }
+
+    @Override
+    public void writeGiftSuggestion(GiftSuggestion giftSuggestion) throws IOException {
+        generator.writeStartObject();
+        writeGiftSuggestionFields(giftSuggestion);
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void writeConcreteGift(ConcreteGift concreteGift) throws IOException {
+        generator.writeStartObject();
+        writeString("giftSuggestionId", concreteGift.getGiftSuggestion().getId());
+        writeConcreteGiftFields(concreteGift);
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void startGiftSuggestion(GiftSuggestion giftSuggestion) throws IOException {
+        generator.writeStartObject();
+        writeGiftSuggestionFields(giftSuggestion);
+        generator.writeArrayFieldStart("concreteGifts");
+    }
+
+    @Override
+    public void writeNestedConcreteGift(ConcreteGift concreteGift) throws IOException {
+        generator.writeStartObject();
+        writeConcreteGiftFields(concreteGift);
+        generator.writeEndObject();
+    }
+
+    @Override
+    public void endGiftSuggestion() throws IOException {
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void finish() throws IOException {
+        generator.close();
+    }
+
+    private void writeGiftSuggestionFields(GiftSuggestion giftSuggestion) throws IOException {
+        writeString("id", giftSuggestion.getId());
+        generator.writeStringField("name", giftSuggestion.getName());
+        generator.writeStringField("description", giftSuggestion.getDescription());
+        writeNumber("minPrice", giftSuggestion.getMinPrice());
+        writeNumber("maxPrice", giftSuggestion.getMaxPrice());
+        writeString("ageGroup", giftSuggestion.getAgeGroup());
+        writeString("gender", giftSuggestion.getGender());
+        writeString("interest", giftSuggestion.getInterest());
+        writeString("occasion", giftSuggestion.getOccasion());
+        writeString("relationship", giftSuggestion.getRelationship());
+        writeString("personalityType", giftSuggestion.getPersonalityType());
+        writeDate("createdDate", giftSuggestion.getCreatedDate());
+        writeDate("lastModifiedDate", giftSuggestion.getLastModifiedDate());
+    }
+
+    private void writeConcreteGiftFields(ConcreteGift concreteGift) throws IOException {
+        writeString("id", concreteGift.getId());
+        generator.writeStringField("name", concreteGift.getName());
+        generator.writeStringField("description", concreteGift.getDescription());
+        writeNumber("exactPrice", concreteGift.getExactPrice());
+        generator.writeStringField("vendorName", concreteGift.getVendorName());
+        generator.writeStringField("productUrl", concreteGift.getProductUrl());
+        generator.writeStringField("productSku", concreteGift.getProductSku());
+        generator.writeFieldName("available");
+        if (concreteGift.getAvailable() == null) {
+            generator.writeNull();
+        } else {
+            generator.writeBoolean(concreteGift.getAvailable());
+        }
+        writeDate("createdDate", concreteGift.getCreatedDate());
+        writeDate("lastModifiedDate", concreteGift.getLastModifiedDate());
+    }
+
+    private void writeString(String fieldName, UUID value) throws IOException {
+        generator.writeStringField(fieldName, value == null ? null : value.toString());
+    }
+
+    private void writeString(String fieldName, Enum<?> value) throws IOException {
+        generator.writeStringField(fieldName, value == null ? null : value.name());
+    }
+
+    private void writeNumber(String fieldName, BigDecimal value) throws IOException {
+        generator.writeFieldName(fieldName);
+        generator.writeNumber(value);
+    }
+
+    private void writeDate(String fieldName, LocalDateTime value) throws IOException {
+        generator.writeStringField(fieldName, value == null ? null : value.toString());
+    }
+}
@@ -0,0 +1,149 @@
+package com.giftservice.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.giftservice.entity.ConcreteGift;
+import com.giftservice.entity.GiftSuggestion;
+import com.giftservice.repository.ConcreteGiftRepository;
+import com.giftservice.repository.GiftSuggestionRepository;
+import com.giftservice.service.CatalogExportService;
+import com.giftservice.service.export.CatalogWriter;
+import com.giftservice.service.export.ExportFormat;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of CatalogExportService streaming entities from database cursors.
+ * The persistence context is cleared every {@value #CLEAR_INTERVAL} rows so that
+ * already written entities can be garbage collected.
+ */
+@Service
+@Transactional(readOnly = true)
+public class CatalogExportServiceImpl implements CatalogExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogExportServiceImpl.class);
+
+    static final int CLEAR_INTERVAL = 500;
+
+    private final GiftSuggestionRepository giftSuggestionRepository;
+    private final ConcreteGiftRepository concreteGiftRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public CatalogExportServiceImpl(GiftSuggestionRepository giftSuggestionRepository,
+                                    ConcreteGiftRepository concreteGiftRepository,
+                                    EntityManager entityManager,
+                                    ObjectMapper objectMapper) {
+        this.giftSuggestionRepository = giftSuggestionRepository;
+        this.concreteGiftRepository = concreteGiftRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public long exportGiftSuggestions(OutputStream outputStream, ExportFormat format) throws IOException {
+        validateArguments(outputStream, format);
+        logger.info("Exporting gift suggestions as {}", format);
+
+        CatalogWriter writer = CatalogWriter.create(format, CatalogWriter.Content.GIFT_SUGGESTIONS,
+                outputStream, objectMapper.getFactory());
+        long count = 0;
+        try (Stream<GiftSuggestion> giftSuggestions = giftSuggestionRepository.streamAllOrderById()) {
+            for (Iterator<GiftSuggestion> it = giftSuggestions.iterator(); it.hasNext(); ) {
+                writer.writeGiftSuggestion(it.next());
+                clearPeriodically(++count);
+            }
+        }
+        writer.finish();
+
+        logger.info("Exported {} gift suggestions", count);
+        return count;
+    }
+
+    @Override
+    public long exportConcreteGifts(OutputStream outputStream, ExportFormat format) throws IOException {
+        validateArguments(outputStream, format);
+        logger.info("Exporting concrete gifts as {}", format);
+
+        CatalogWriter writer = CatalogWriter.create(format, CatalogWriter.Content.CONCRETE_GIFTS,
+                outputStream, objectMapper.getFactory());
+        long count = 0;
+        try (Stream<ConcreteGift> concreteGifts = concreteGiftRepository.streamAllOrderById()) {
+            for (Iterator<ConcreteGift> it = concreteGifts.iterator(); it.hasNext(); ) {
+                writer.writeConcreteGift(it.next());
+                clearPeriodically(++count);
+            }
+        }
+        writer.finish();
+
+        logger.info("Exported {} concrete gifts", count);
+        return count;
+    }
+
+    @Override
+    public long exportGiftSuggestionsWithConcreteGifts(OutputStream outputStream, ExportFormat format)
+            throws IOException {
+        validateArguments(outputStream, format);
+        logger.info("Exporting gift suggestions with concrete gifts as {}", format);
+
+        CatalogWriter writer = CatalogWriter.create(format,
+                CatalogWriter.Content.GIFT_SUGGESTIONS_WITH_CONCRETE_GIFTS, outputStream, objectMapper.getFactory());
+        long count = 0;
+        long rows = 0;
+        // Rows of one gift suggestion are adjacent; compare by ID because clearing
+        // the persistence context yields new instances for the same gift suggestion
+        UUID currentId = null;
+        try (Stream<Object[]> pairs = giftSuggestionRepository.streamAllWithConcreteGiftsOrderById()) {
+            for (Iterator<Object[]> it = pairs.iterator(); it.hasNext(); ) {
+                Object[] pair = it.next();
+                GiftSuggestion giftSuggestion = (GiftSuggestion) pair[0];
+                ConcreteGift concreteGift = (ConcreteGift) pair[1];
+
+                if (!giftSuggestion.getId().equals(currentId)) {
+                    if (currentId != null) {
+                        writer.endGiftSuggestion();
+                    }
+                    writer.startGiftSuggestion(giftSuggestion);
+                    currentId = giftSuggestion.getId();
+                    count++;
+                }
+                if (concreteGift != null) {
+                    writer.writeNestedConcreteGift(concreteGift);
+                }
+                clearPeriodically(++rows);
+            }
+        }
+        if (currentId != null) {
+            writer.endGiftSuggestion();
+        }
+        writer.finish();
+
+        logger.info("Exported {} gift suggestions with concrete gifts from {} rows", count, rows);
+        return count;
+    }
+
+    private void clearPeriodically(long rows) {
+        if (rows % CLEAR_INTERVAL == 0) {
+            entityManager.clear();
+        }
+    }
+
+    private void validateArguments(OutputStream outputStream, ExportFormat format) {
+        if (outputStream == null) {
+            throw new IllegalArgumentException("Output stream cannot be null");
+        }
+        if (format == null) {
+            throw new IllegalArgumentException("Export format cannot be null");
+        }
+    }
+}
@@ -3,21 +3,37 @@ package com.giftservice.service.impl;
 import com.giftservice.entity.ConcreteGift;
 import com.giftservice.entity.GiftSuggestion;
 import com.giftservice.enums.*;
+import com.giftservice.repository.ConcreteGiftBulkRepository.Delta;
+import com.giftservice.repository.ConcreteGiftBulkRepository.DeltaStatus;
+import com.giftservice.repository.ConcreteGiftBulkRepository.UpsertCount;
 import com.giftservice.repository.ConcreteGiftRepository;
 import com.giftservice.repository.GiftSuggestionRepository;
+import com.giftservice.repository.projection.ConcreteGiftSummary;
+import com.giftservice.repository.projection.GiftSuggestionGiftCount;
+import com.giftservice.repository.projection.VendorSku;
 import com.giftservice.service.ConcreteGiftService;
+import com.giftservice.service.bulk.BulkImportResult;
+import com.giftservice.service.bulk.BulkImportResult.RowFailure;
+import com.giftservice.service.bulk.BulkUpdateResult;
+import com.giftservice.service.bulk.BulkUpsertResult;
+import com.giftservice.service.bulk.ConcreteGiftDelta;
+import com.giftservice.service.pagination.ContinuationToken;
+import com.giftservice.service.pagination.KeysetSlice;
+import jakarta.persistence.EntityManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
 
 /**
  * Implementation of ConcreteGiftService providing business logic for concrete gift management.
@@ -28,14 +44,23 @@ public class ConcreteGiftServiceImpl implements ConcreteGiftService {
 
     private static final Logger logger = LoggerFactory.getLogger(ConcreteGiftServiceImpl.class);
 
+    /**
+     * Number of rows written per flush in bulk operations; matches hibernate.jdbc.batch_size
+     * and stays well below the PostgreSQL limit on bind parameters for IN lists.
+     */
+    static final int BULK_CHUNK_SIZE = 500;
+
     private final ConcreteGiftRepository concreteGiftRepository;
     private final GiftSuggestionRepository giftSuggestionRepository;
+    private final EntityManager entityManager;
 
     @Autowired
     public ConcreteGiftServiceImpl(ConcreteGiftRepository concreteGiftRepository,
-                                   GiftSuggestionRepository giftSuggestionRepository) {
+                                   GiftSuggestionRepository giftSuggestionRepository,
+                                   EntityManager entityManager) {
         this.concreteGiftRepository = concreteGiftRepository;
         this.giftSuggestionRepository = giftSuggestionRepository;
+        this.entityManager = entityManager;
     }
 
     @Override
@@ -59,6 +84,8 @@ public class ConcreteGiftServiceImpl implements ConcreteGiftService {
                             + concreteGift.getGiftSuggestion().getId()));
             
             validateGiftSuggestionAssociation(concreteGift, giftSuggestion);
+            // Link the managed instance, so that a detached reference is not cascaded on save
+            concreteGift.setGiftSuggestion(giftSuggestion);
         }
         
         ConcreteGift savedConcreteGift = concreteGiftRepository.save(concreteGift);
@@ -67,6 +94,177 @@ public class ConcreteGiftServiceImpl implements ConcreteGiftService {
         return savedConcreteGift;
     }
 
+    @Override
+    public BulkImportResult createAll(List<ConcreteGift> concreteGifts) {
+        if (concreteGifts == null) {
+            throw new IllegalArgumentException("Concrete gifts cannot be null");
+        }
+        
+        logger.info("Bulk creating {} concrete gifts", concreteGifts.size());
+        
+        Map<UUID, GiftSuggestion> giftSuggestions = loadGiftSuggestions(concreteGifts);
+        List<RowFailure> failures = new ArrayList<>();
+        List<Integer> validRows = new ArrayList<>(concreteGifts.size());
+        Set<String> batchVendorSkus = new HashSet<>();
+        
+        for (int i = 0; i < concreteGifts.size(); i++) {
+            ConcreteGift concreteGift = concreteGifts.get(i);
+            try {
+                validateBulkRow(concreteGift, giftSuggestions);
+                if (concreteGift.getId() != null) {
+                    throw new IllegalArgumentException("Concrete gift ID must be null for creation");
+                }
+                if (concreteGift.getProductSku() != null
+                        && !batchVendorSkus.add(vendorSkuKey(concreteGift.getVendorName(), concreteGift.getProductSku()))) {
+                    throw new IllegalArgumentException("Duplicate vendor and SKU in batch: "
+                            + concreteGift.getVendorName() + "/" + concreteGift.getProductSku());
+                }
+                validRows.add(i);
+            } catch (IllegalArgumentException e) {
+                failures.add(new RowFailure(i, e.getMessage()));
+            }
+        }
+        
+        int created = 0;
+        for (int from = 0; from < validRows.size(); from += BULK_CHUNK_SIZE) {
+            List<Integer> chunkRows = validRows.subList(from, Math.min(from + BULK_CHUNK_SIZE, validRows.size()));
+            Set<String> existingVendorSkus = findExistingVendorSkus(concreteGifts, chunkRows);
+            
+            List<ConcreteGift> chunk = new ArrayList<>(chunkRows.size());
+            for (int row : chunkRows) {
+                ConcreteGift concreteGift = concreteGifts.get(row);
+                if (concreteGift.getProductSku() != null && existingVendorSkus.contains(
+                        vendorSkuKey(concreteGift.getVendorName(), concreteGift.getProductSku()))) {
+                    failures.add(new RowFailure(row, "Concrete gift already exists for vendor and SKU: "
+                            + concreteGift.getVendorName() + "/" + concreteGift.getProductSku()));
+                    continue;
+                }
+                // Reference the managed instance so that cascading does not touch detached suggestions
+                concreteGift.setGiftSuggestion(giftSuggestions.get(concreteGift.getGiftSuggestion().getId()));
+                chunk.add(concreteGift);
+            }
+            
+            concreteGiftRepository.saveAll(chunk);
+            entityManager.flush();
+            // Keep the loaded suggestions managed but release the inserted gifts
+            chunk.forEach(entityManager::detach);
+            created += chunk.size();
+        }
+        
+        failures.sort(Comparator.comparingInt(RowFailure::index));
+        logger.info("Bulk created {} concrete gifts, rejected {} rows", created, failures.size());
+        
+        return new BulkImportResult(created, failures);
+    }
+
+    @Override
+    public BulkUpsertResult upsertByVendorSku(List<ConcreteGift> concreteGifts) {
+        if (concreteGifts == null) {
+            throw new IllegalArgumentException("Concrete gifts cannot be null");
+        }
+        
+        logger.info("Bulk upserting {} concrete gifts by vendor and SKU", concreteGifts.size());
+        
+        Map<UUID, GiftSuggestion> giftSuggestions = loadGiftSuggestions(concreteGifts);
+        List<RowFailure> failures = new ArrayList<>();
+        List<ConcreteGift> validRows = new ArrayList<>(concreteGifts.size());
+        Set<String> batchVendorSkus = new HashSet<>();
+        
+        for (int i = 0; i < concreteGifts.size(); i++) {
+            ConcreteGift concreteGift = concreteGifts.get(i);
+            try {
+                validateBulkRow(concreteGift, giftSuggestions);
+                if (concreteGift.getProductSku() == null || concreteGift.getProductSku().trim().isEmpty()) {
+                    throw new IllegalArgumentException("Product SKU is required for upsert");
+                }
+                // A single statement may not update the same row twice
+                if (!batchVendorSkus.add(vendorSkuKey(concreteGift.getVendorName(), concreteGift.getProductSku()))) {
+                    throw new IllegalArgumentException("Duplicate vendor and SKU in batch: "
+                            + concreteGift.getVendorName() + "/" + concreteGift.getProductSku());
+                }
+                validRows.add(concreteGift);
+            } catch (IllegalArgumentException e) {
+                failures.add(new RowFailure(i, e.getMessage()));
+            }
+        }
+        
+        // The upsert bypasses the persistence context, so write pending changes first
+        entityManager.flush();
+        
+        int inserted = 0;
+        int updated = 0;
+        for (int from = 0; from < validRows.size(); from += BULK_CHUNK_SIZE) {
+            UpsertCount count = concreteGiftRepository.upsertByVendorSku(
+                    validRows.subList(from, Math.min(from + BULK_CHUNK_SIZE, validRows.size())));
+            inserted += count.inserted();
+            updated += count.updated();
+        }
+        int unchanged = validRows.size() - inserted - updated;
+        
+        logger.info("Bulk upsert inserted {}, updated {}, left {} unchanged, rejected {} rows",
+                inserted, updated, unchanged, failures.size());
+        
+        return new BulkUpsertResult(inserted, updated, unchanged, failures);
+    }
+
+    @Override
+    public BulkUpdateResult applyDeltas(List<ConcreteGiftDelta> deltas) {
+        if (deltas == null) {
+            throw new IllegalArgumentException("Deltas cannot be null");
+        }
+        
+        logger.info("Applying {} concrete gift deltas", deltas.size());
+        
+        List<RowFailure> failures = new ArrayList<>();
+        List<Integer> byIdRows = new ArrayList<>();
+        List<Integer> byVendorSkuRows = new ArrayList<>();
+        Set<Object> batchKeys = new HashSet<>();
+        
+        for (int i = 0; i < deltas.size(); i++) {
+            ConcreteGiftDelta delta = deltas.get(i);
+            try {
+                validateDelta(delta);
+                Object key = delta.id() != null ? delta.id() : vendorSkuKey(delta.vendorName(), delta.productSku());
+                // A single statement applies at most one delta per concrete gift
+                if (!batchKeys.add(key)) {
+                    throw new IllegalArgumentException("Duplicate concrete gift in batch: " + describe(delta));
+                }
+                (delta.id() != null ? byIdRows : byVendorSkuRows).add(i);
+            } catch (IllegalArgumentException e) {
+                failures.add(new RowFailure(i, e.getMessage()));
+            }
+        }
+        
+        // The deltas bypass the persistence context, so write pending changes first
+        entityManager.flush();
+        
+        DeltaStatus[] statuses = new DeltaStatus[deltas.size()];
+        applyDeltaChunks(deltas, byIdRows, concreteGiftRepository::applyDeltasById, statuses);
+        applyDeltaChunks(deltas, byVendorSkuRows, concreteGiftRepository::applyDeltasByVendorSku, statuses);
+        
+        int updated = 0;
+        int unchanged = 0;
+        for (int i = 0; i < statuses.length; i++) {
+            if (statuses[i] == null) {
+                continue;
+            }
+            switch (statuses[i]) {
+                case UPDATED -> updated++;
+                case UNCHANGED -> unchanged++;
+                case NOT_FOUND -> failures.add(new RowFailure(i, "Concrete gift not found: " + describe(deltas.get(i))));
+                case PRICE_OUT_OF_RANGE -> failures.add(new RowFailure(i, String.format(
+                        "Concrete gift price (%s) is outside the price range of its gift suggestion",
+                        deltas.get(i).exactPrice())));
+            }
+        }
+        
+        failures.sort(Comparator.comparingInt(RowFailure::index));
+        logger.info("Applied deltas: updated {}, left {} unchanged, rejected {} rows",
+                updated, unchanged, failures.size());
+        
+        return new BulkUpdateResult(updated, unchanged, failures);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<ConcreteGift> findById(UUID id) {
@@ -91,6 +289,18 @@ public class ConcreteGiftServiceImpl implements ConcreteGiftService {
         return concreteGiftRepository.findAll(pageable);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ConcreteGiftSummary> findAllSummaries(Pageable pageable) {
+        logger.debug("Finding concrete gift summaries with pagination: {}", pageable);
+        
+        if (pageable == null) {
+            throw new IllegalArgumentException("Pageable cannot be null");
+        }
+        
+        return concreteGiftRepository.findAllSummaries(pageable);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<ConcreteGift> findAll() {
@@ -98,6 +308,33 @@ public class ConcreteGiftServiceImpl implements ConcreteGiftService {
         return concreteGiftRepository.findAll();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetSlice<ConcreteGift> findSlice(String continuationToken, int size) {
+        logger.debug("Finding concrete gifts slice after token: {}", continuationToken);
+        
+        if (size <= 0) {
+            throw new IllegalArgumentException("Size must be positive");
+        }
+        
+        Pageable pageable = PageRequest.of(0, size);
+        Slice<ConcreteGift> slice;
+        if (continuationToken == null) {
+            slice = concreteGiftRepository.findFirstSliceOrderByCreatedDate(pageable);
+        } else {
+            ContinuationToken position = ContinuationToken.decode(continuationToken);
+            slice = concreteGiftRepository.findSliceAfterOrderByCreatedDate(position.createdDate(), position.id(), pageable);
+        }
+        
+        String nextToken = null;
+        if (slice.hasNext()) {
+            ConcreteGift last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            nextToken = new ContinuationToken(last.getCreatedDate(), last.getId()).encode();
+        }
+        
+        return new KeysetSlice<>(slice.getContent(), nextToken);
+    }
+
     @Override
     public ConcreteGift update(UUID id, ConcreteGift concreteGift) {
         logger.info("Updating concrete gift with ID: {}", id);
@@ -116,8 +353,9 @@ public class ConcreteGiftServiceImpl implements ConcreteGiftService {
         validateConcreteGift(concreteGift);
         
         // Validate gift suggestion exists if provided
+        GiftSuggestion giftSuggestion = null;
         if (concreteGift.getGiftSuggestion() != null) {
-            GiftSuggestion giftSuggestion = giftSuggestionRepository.findById(concreteGift.getGiftSuggestion().getId())
+            giftSuggestion = giftSuggestionRepository.findById(concreteGift.getGiftSuggestion().getId())
                     .orElseThrow(() -> new IllegalArgumentException("Gift suggestion not found with ID: " 
                             + concreteGift.getGiftSuggestion().getId()));
             
@@ -132,7 +370,7 @@ public class ConcreteGiftServiceImpl implements ConcreteGiftService {
         existingConcreteGift.setProductUrl(concreteGift.getProductUrl());
         existingConcreteGift.setProductSku(concreteGift.getProductSku());
         existingConcreteGift.setAvailable(concreteGift.getAvailable());
-        existingConcreteGift.setGiftSuggestion(concreteGift.getGiftSuggestion());
+        existingConcreteGift.setGiftSuggestion(giftSuggestion);
         
         ConcreteGift updatedConcreteGift = concreteGiftRepository.save(existingConcreteGift);
         logger.info("Successfully updated concrete gift with ID: {}", id);
@@ -168,6 +406,18 @@ public class ConcreteGiftServiceImpl implements ConcreteGiftService {
         return concreteGiftRepository.existsById(id);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<LocalDateTime> findLastModifiedDate(UUID id) {
+        logger.debug("Finding last modification date of concrete gift with ID: {}", id);
+        
+        if (id == null) {
+            throw new IllegalArgumentException("ID cannot be null");
+        }
+        
+        return concreteGiftRepository.findLastModifiedDateById(id);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<ConcreteGift> findByGiftSuggestionId(UUID giftSuggestionId) {
@@ -200,6 +450,26 @@ public class ConcreteGiftServiceImpl implements ConcreteGiftService {
         return concreteGiftRepository.findByGiftSuggestion(giftSuggestion, pageable);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ConcreteGiftSummary> findSummariesByGiftSuggestionId(UUID giftSuggestionId, Pageable pageable) {
+        logger.debug("Finding concrete gift summaries by gift suggestion ID with pagination: {}", giftSuggestionId);
+        
+        if (giftSuggestionId == null) {
+            throw new IllegalArgumentException("Gift suggestion ID cannot be null");
+        }
+        
+        if (pageable == null) {
+            throw new IllegalArgumentException("Pageable cannot be null");
+        }
+        
+        if (!giftSuggestionRepository.existsById(giftSuggestionId)) {
+            throw new IllegalArgumentException("Gift suggestion not found with ID: " + giftSuggestionId);
+        }
+        
+        return concreteGiftRepository.findSummariesByGiftSuggestionId(giftSuggestionId, pageable);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<ConcreteGift> findByVendorName(String vendorName) {
@@ -277,7 +547,8 @@ public class ConcreteGiftServiceImpl implements ConcreteGiftService {
         }
         
         return concreteGiftRepository.findBySuggestionAndCriteria(
-                null, available, minPrice, maxPrice, pageable);
+                ageGroup, gender, interest, occasion, relationship, personalityType,
+                vendorName, available, minPrice, maxPrice, pageable);
     }
 
     @Override
@@ -289,7 +560,34 @@ public class ConcreteGiftServiceImpl implements ConcreteGiftService {
             throw new IllegalArgumentException("Gift suggestion ID cannot be null");
         }
         
-        return concreteGiftRepository.findByGiftSuggestionId(giftSuggestionId).size();
+        return concreteGiftRepository.countByGiftSuggestionId(giftSuggestionId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<UUID, Long> countByGiftSuggestionIds(Collection<UUID> giftSuggestionIds) {
+        logger.debug("Counting concrete gifts for {} gift suggestions", 
+                giftSuggestionIds != null ? giftSuggestionIds.size() : null);
+        
+        if (giftSuggestionIds == null) {
+            throw new IllegalArgumentException("Gift suggestion IDs cannot be null");
+        }
+        
+        Map<UUID, Long> counts = new LinkedHashMap<>();
+        for (UUID giftSuggestionId : giftSuggestionIds) {
+            if (giftSuggestionId == null) {
+                throw new IllegalArgumentException("Gift suggestion ID cannot be null");
+            }
+            counts.put(giftSuggestionId, 0L);
+        }
+        
+        if (!counts.isEmpty()) {
+            for (GiftSuggestionGiftCount count : concreteGiftRepository.countGroupedByGiftSuggestionIds(counts.keySet())) {
+                counts.put(count.getGiftSuggestionId(), count.getGiftCount());
+            }
+        }
+        
+        return counts;
     }
 
     @Override
@@ -322,6 +620,124 @@ public class ConcreteGiftServiceImpl implements ConcreteGiftService {
         logger.debug("Gift suggestion association validation passed");
     }
 
+    /**
+     * Load all gift suggestions referenced by the given concrete gifts, a chunk of IDs per query.
+     */
+    private Map<UUID, GiftSuggestion> loadGiftSuggestions(List<ConcreteGift> concreteGifts) {
+        List<UUID> ids = concreteGifts.stream()
+                .filter(concreteGift -> concreteGift != null && concreteGift.getGiftSuggestion() != null)
+                .map(concreteGift -> concreteGift.getGiftSuggestion().getId())
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        
+        Map<UUID, GiftSuggestion> giftSuggestions = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += BULK_CHUNK_SIZE) {
+            for (GiftSuggestion giftSuggestion : giftSuggestionRepository.findAllById(
+                    ids.subList(from, Math.min(from + BULK_CHUNK_SIZE, ids.size())))) {
+                giftSuggestions.put(giftSuggestion.getId(), giftSuggestion);
+            }
+        }
+        return giftSuggestions;
+    }
+
+    /**
+     * Validates a single row of a bulk creation against the preloaded gift suggestions.
+     *
+     * @throws IllegalArgumentException if validation fails
+     */
+    private void validateBulkRow(ConcreteGift concreteGift, Map<UUID, GiftSuggestion> giftSuggestions) {
+        if (concreteGift == null) {
+            throw new IllegalArgumentException("Concrete gift cannot be null");
+        }
+        
+        validateConcreteGift(concreteGift);
+        
+        if (concreteGift.getGiftSuggestion() == null || concreteGift.getGiftSuggestion().getId() == null) {
+            throw new IllegalArgumentException("Gift suggestion is required");
+        }
+        
+        GiftSuggestion giftSuggestion = giftSuggestions.get(concreteGift.getGiftSuggestion().getId());
+        if (giftSuggestion == null) {
+            throw new IllegalArgumentException("Gift suggestion not found with ID: "
+                    + concreteGift.getGiftSuggestion().getId());
+        }
+        
+        validateGiftSuggestionAssociation(concreteGift, giftSuggestion);
+    }
+
+    private Set<String> findExistingVendorSkus(List<ConcreteGift> concreteGifts, List<Integer> rows) {
+        Set<String> productSkus = new HashSet<>();
+        for (int row : rows) {
+            if (concreteGifts.get(row).getProductSku() != null) {
+                productSkus.add(concreteGifts.get(row).getProductSku());
+            }
+        }
+        if (productSkus.isEmpty()) {
+            return Set.of();
+        }
+        
+        Set<String> existing = new HashSet<>();
+        for (VendorSku vendorSku : concreteGiftRepository.findVendorSkusByProductSkuIn(productSkus)) {
+            existing.add(vendorSkuKey(vendorSku.getVendorName(), vendorSku.getProductSku()));
+        }
+        return existing;
+    }
+
+    private void applyDeltaChunks(List<ConcreteGiftDelta> deltas, List<Integer> rows,
+                                  Function<List<Delta>, List<DeltaStatus>> statement, DeltaStatus[] statuses) {
+        for (int from = 0; from < rows.size(); from += BULK_CHUNK_SIZE) {
+            List<Integer> chunkRows = rows.subList(from, Math.min(from + BULK_CHUNK_SIZE, rows.size()));
+            List<Delta> chunk = new ArrayList<>(chunkRows.size());
+            for (int row : chunkRows) {
+                ConcreteGiftDelta delta = deltas.get(row);
+                chunk.add(new Delta(delta.id(), delta.vendorName(), delta.productSku(),
+                        delta.available(), delta.exactPrice()));
+            }
+            
+            List<DeltaStatus> chunkStatuses = statement.apply(chunk);
+            for (int i = 0; i < chunkRows.size(); i++) {
+                statuses[chunkRows.get(i)] = chunkStatuses.get(i);
+            }
+        }
+    }
+
+    /**
+     * Validates a delta of a bulk partial update.
+     *
+     * @throws IllegalArgumentException if validation fails
+     */
+    private void validateDelta(ConcreteGiftDelta delta) {
+        if (delta == null) {
+            throw new IllegalArgumentException("Delta cannot be null");
+        }
+        
+        boolean byVendorSku = delta.vendorName() != null || delta.productSku() != null;
+        if (delta.id() != null && byVendorSku) {
+            throw new IllegalArgumentException("Delta must identify the concrete gift either by ID or by vendor and SKU");
+        }
+        
+        if (delta.id() == null && (delta.vendorName() == null || delta.productSku() == null)) {
+            throw new IllegalArgumentException("Delta must identify the concrete gift by ID or by vendor and SKU");
+        }
+        
+        if (delta.available() == null && delta.exactPrice() == null) {
+            throw new IllegalArgumentException("Delta must change availability or price");
+        }
+        
+        if (delta.exactPrice() != null && delta.exactPrice().signum() <= 0) {
+            throw new IllegalArgumentException("Price must be positive");
+        }
+    }
+
+    private static String describe(ConcreteGiftDelta delta) {
+        return delta.id() != null ? "ID " + delta.id() : delta.vendorName() + "/" + delta.productSku();
+    }
+
+    private static String vendorSkuKey(String vendorName, String productSku) {
+        return vendorName + '\u0000' + productSku;
+    }
+
     /**
      * Validates a concrete gift for business rules.
      *
@@ -341,7 +757,7 @@ public class ConcreteGiftServiceImpl implements ConcreteGiftService {
             throw new IllegalArgumentException("Price cannot be null");
         }
         
-        if (concreteGift.getExactPrice().compareTo(BigDecimal.ZERO) <= 0) {
+        if (concreteGift.getExactPrice().signum() <= 0) {
             throw new IllegalArgumentException("Price must be positive");
         }
         
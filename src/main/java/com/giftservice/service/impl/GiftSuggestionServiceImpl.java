@@ -1,21 +1,37 @@
 package com.giftservice.service.impl;
 
+import com.giftservice.entity.ConcreteGift;
 import com.giftservice.entity.GiftSuggestion;
 import com.giftservice.enums.*;
+import com.giftservice.config.CacheConfig;
 import com.giftservice.repository.GiftSuggestionRepository;
+import com.giftservice.repository.projection.GiftSuggestionSummary;
 import com.giftservice.service.GiftSuggestionService;
+import com.giftservice.service.GiftSuggestionSnapshot;
+import com.giftservice.service.GiftSuggestionWithGifts;
+import com.giftservice.service.cache.GiftSuggestionCacheEvictor;
+import com.giftservice.service.pagination.ContinuationToken;
+import com.giftservice.service.pagination.KeysetSlice;
+import com.giftservice.service.index.GiftSuggestionFacetIndex;
+import com.giftservice.service.recommendation.PrecomputedRecommendations;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of GiftSuggestionService providing business logic for gift suggestion management.
@@ -26,11 +42,26 @@ public class GiftSuggestionServiceImpl implements GiftSuggestionService {
 
     private static final Logger logger = LoggerFactory.getLogger(GiftSuggestionServiceImpl.class);
 
+    /**
+     * Maximum number of IDs from the facet index that are loaded by ID;
+     * larger results are read with the equivalent database query.
+     */
+    static final int MAX_ID_LOOKUP = 1000;
+
     private final GiftSuggestionRepository giftSuggestionRepository;
+    private final GiftSuggestionFacetIndex facetIndex;
+    private final GiftSuggestionCacheEvictor cacheEvictor;
+    private final PrecomputedRecommendations precomputedRecommendations;
 
     @Autowired
-    public GiftSuggestionServiceImpl(GiftSuggestionRepository giftSuggestionRepository) {
+    public GiftSuggestionServiceImpl(GiftSuggestionRepository giftSuggestionRepository,
+                                     GiftSuggestionFacetIndex facetIndex,
+                                     GiftSuggestionCacheEvictor cacheEvictor,
+                                     PrecomputedRecommendations precomputedRecommendations) {
         this.giftSuggestionRepository = giftSuggestionRepository;
+        this.facetIndex = facetIndex;
+        this.cacheEvictor = cacheEvictor;
+        this.precomputedRecommendations = precomputedRecommendations;
     }
 
     @Override
@@ -48,6 +79,9 @@ public class GiftSuggestionServiceImpl implements GiftSuggestionService {
         validateGiftSuggestion(giftSuggestion);
         
         GiftSuggestion savedGiftSuggestion = giftSuggestionRepository.save(giftSuggestion);
+        facetIndex.recordWrite(savedGiftSuggestion);
+        cacheEvictor.evict(savedGiftSuggestion.getId(), savedGiftSuggestion);
+        precomputedRecommendations.recordWrite(savedGiftSuggestion);
         logger.info("Successfully created gift suggestion with ID: {}", savedGiftSuggestion.getId());
         
         return savedGiftSuggestion;
@@ -65,6 +99,19 @@ public class GiftSuggestionServiceImpl implements GiftSuggestionService {
         return giftSuggestionRepository.findById(id);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.GIFT_SUGGESTIONS, sync = true)
+    public Optional<GiftSuggestionSnapshot> findSnapshotById(UUID id) {
+        logger.debug("Finding gift suggestion snapshot by ID: {}", id);
+        
+        if (id == null) {
+            throw new IllegalArgumentException("ID cannot be null");
+        }
+        
+        return giftSuggestionRepository.findById(id).map(GiftSuggestionSnapshot::from);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Page<GiftSuggestion> findAll(Pageable pageable) {
@@ -77,6 +124,18 @@ public class GiftSuggestionServiceImpl implements GiftSuggestionService {
         return giftSuggestionRepository.findAll(pageable);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Page<GiftSuggestionSummary> findAllSummaries(Pageable pageable) {
+        logger.debug("Finding gift suggestion summaries with pagination: {}", pageable);
+        
+        if (pageable == null) {
+            throw new IllegalArgumentException("Pageable cannot be null");
+        }
+        
+        return giftSuggestionRepository.findAllSummaries(pageable);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<GiftSuggestion> findAll() {
@@ -84,6 +143,83 @@ public class GiftSuggestionServiceImpl implements GiftSuggestionService {
         return giftSuggestionRepository.findAll();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<GiftSuggestion> findByIdWithConcreteGifts(UUID id) {
+        logger.debug("Finding gift suggestion with concrete gifts by ID: {}", id);
+        
+        if (id == null) {
+            throw new IllegalArgumentException("ID cannot be null");
+        }
+        
+        return giftSuggestionRepository.findWithConcreteGiftsById(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<GiftSuggestion> findAllWithConcreteGifts(Pageable pageable) {
+        logger.debug("Finding gift suggestions with concrete gifts with pagination: {}", pageable);
+        
+        if (pageable == null) {
+            throw new IllegalArgumentException("Pageable cannot be null");
+        }
+        
+        Page<UUID> ids = giftSuggestionRepository.findAllIds(pageable);
+        return new PageImpl<>(findAllByIdInOrder(ids.getContent(), giftSuggestionRepository::findWithConcreteGiftsByIdIn),
+                pageable, ids.getTotalElements());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<GiftSuggestionWithGifts> findWithAvailableGifts(Pageable pageable) {
+        logger.debug("Finding gift suggestions with available concrete gifts: {}", pageable);
+        
+        if (pageable == null) {
+            throw new IllegalArgumentException("Pageable cannot be null");
+        }
+        
+        if (pageable.getSort().isSorted()) {
+            throw new IllegalArgumentException("Gift suggestions with available gifts are ordered by ID, sorting is not supported");
+        }
+        
+        Slice<UUID> ids = giftSuggestionRepository.findIdsWithAvailableConcreteGifts(pageable);
+        List<GiftSuggestionWithGifts> content = findAllByIdInOrder(ids.getContent(),
+                giftSuggestionRepository::findWithConcreteGiftsByIdIn).stream()
+                .map(giftSuggestion -> new GiftSuggestionWithGifts(giftSuggestion,
+                        giftSuggestion.getConcreteGifts().stream()
+                                .filter(ConcreteGift::getAvailable)
+                                .toList()))
+                .toList();
+        return new SliceImpl<>(content, pageable, ids.hasNext());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetSlice<GiftSuggestion> findSlice(String continuationToken, int size) {
+        logger.debug("Finding gift suggestions slice after token: {}", continuationToken);
+        
+        if (size <= 0) {
+            throw new IllegalArgumentException("Size must be positive");
+        }
+        
+        Pageable pageable = PageRequest.of(0, size);
+        Slice<GiftSuggestion> slice;
+        if (continuationToken == null) {
+            slice = giftSuggestionRepository.findFirstSliceOrderByCreatedDate(pageable);
+        } else {
+            ContinuationToken position = ContinuationToken.decode(continuationToken);
+            slice = giftSuggestionRepository.findSliceAfterOrderByCreatedDate(position.createdDate(), position.id(), pageable);
+        }
+        
+        String nextToken = null;
+        if (slice.hasNext()) {
+            GiftSuggestion last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            nextToken = new ContinuationToken(last.getCreatedDate(), last.getId()).encode();
+        }
+        
+        return new KeysetSlice<>(slice.getContent(), nextToken);
+    }
+
     @Override
     public GiftSuggestion update(UUID id, GiftSuggestion giftSuggestion) {
         logger.info("Updating gift suggestion with ID: {}", id);
@@ -114,6 +250,9 @@ public class GiftSuggestionServiceImpl implements GiftSuggestionService {
         existingGiftSuggestion.setPersonalityType(giftSuggestion.getPersonalityType());
         
         GiftSuggestion updatedGiftSuggestion = giftSuggestionRepository.save(existingGiftSuggestion);
+        facetIndex.recordWrite(updatedGiftSuggestion);
+        cacheEvictor.evict(id, updatedGiftSuggestion);
+        precomputedRecommendations.recordWrite(updatedGiftSuggestion);
         logger.info("Successfully updated gift suggestion with ID: {}", id);
         
         return updatedGiftSuggestion;
@@ -132,6 +271,9 @@ public class GiftSuggestionServiceImpl implements GiftSuggestionService {
         }
         
         giftSuggestionRepository.deleteById(id);
+        facetIndex.recordDelete(id);
+        cacheEvictor.evict(id, null);
+        precomputedRecommendations.recordDelete(id);
         logger.info("Successfully deleted gift suggestion with ID: {}", id);
     }
 
@@ -147,6 +289,18 @@ public class GiftSuggestionServiceImpl implements GiftSuggestionService {
         return giftSuggestionRepository.existsById(id);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<LocalDateTime> findLastModifiedDate(UUID id) {
+        logger.debug("Finding last modification date of gift suggestion with ID: {}", id);
+        
+        if (id == null) {
+            throw new IllegalArgumentException("ID cannot be null");
+        }
+        
+        return giftSuggestionRepository.findLastModifiedDateById(id);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<GiftSuggestion> findByAgeGroup(AgeGroup ageGroup) {
@@ -159,6 +313,19 @@ public class GiftSuggestionServiceImpl implements GiftSuggestionService {
         return giftSuggestionRepository.findByAgeGroup(ageGroup);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.GIFT_SUGGESTIONS_BY_AGE_GROUP, sync = true)
+    public List<GiftSuggestionSnapshot> findSnapshotsByAgeGroup(AgeGroup ageGroup) {
+        logger.debug("Finding gift suggestion snapshots by age group: {}", ageGroup);
+        
+        if (ageGroup == null) {
+            throw new IllegalArgumentException("Age group cannot be null");
+        }
+        
+        return snapshotsOf(giftSuggestionRepository.findByAgeGroup(ageGroup));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<GiftSuggestion> findByGender(Gender gender) {
@@ -171,6 +338,19 @@ public class GiftSuggestionServiceImpl implements GiftSuggestionService {
         return giftSuggestionRepository.findByGender(gender);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.GIFT_SUGGESTIONS_BY_GENDER, sync = true)
+    public List<GiftSuggestionSnapshot> findSnapshotsByGender(Gender gender) {
+        logger.debug("Finding gift suggestion snapshots by gender: {}", gender);
+        
+        if (gender == null) {
+            throw new IllegalArgumentException("Gender cannot be null");
+        }
+        
+        return snapshotsOf(giftSuggestionRepository.findByGender(gender));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<GiftSuggestion> findByInterest(Interest interest) {
@@ -183,6 +363,19 @@ public class GiftSuggestionServiceImpl implements GiftSuggestionService {
         return giftSuggestionRepository.findByInterest(interest);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.GIFT_SUGGESTIONS_BY_INTEREST, sync = true)
+    public List<GiftSuggestionSnapshot> findSnapshotsByInterest(Interest interest) {
+        logger.debug("Finding gift suggestion snapshots by interest: {}", interest);
+        
+        if (interest == null) {
+            throw new IllegalArgumentException("Interest cannot be null");
+        }
+        
+        return snapshotsOf(giftSuggestionRepository.findByInterest(interest));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<GiftSuggestion> findByOccasion(Occasion occasion) {
@@ -195,6 +388,19 @@ public class GiftSuggestionServiceImpl implements GiftSuggestionService {
         return giftSuggestionRepository.findByOccasion(occasion);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.GIFT_SUGGESTIONS_BY_OCCASION, sync = true)
+    public List<GiftSuggestionSnapshot> findSnapshotsByOccasion(Occasion occasion) {
+        logger.debug("Finding gift suggestion snapshots by occasion: {}", occasion);
+        
+        if (occasion == null) {
+            throw new IllegalArgumentException("Occasion cannot be null");
+        }
+        
+        return snapshotsOf(giftSuggestionRepository.findByOccasion(occasion));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<GiftSuggestion> findByRelationship(Relationship relationship) {
@@ -207,6 +413,19 @@ public class GiftSuggestionServiceImpl implements GiftSuggestionService {
         return giftSuggestionRepository.findByRelationship(relationship);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.GIFT_SUGGESTIONS_BY_RELATIONSHIP, sync = true)
+    public List<GiftSuggestionSnapshot> findSnapshotsByRelationship(Relationship relationship) {
+        logger.debug("Finding gift suggestion snapshots by relationship: {}", relationship);
+        
+        if (relationship == null) {
+            throw new IllegalArgumentException("Relationship cannot be null");
+        }
+        
+        return snapshotsOf(giftSuggestionRepository.findByRelationship(relationship));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<GiftSuggestion> findByPersonalityType(PersonalityType personalityType) {
@@ -219,6 +438,19 @@ public class GiftSuggestionServiceImpl implements GiftSuggestionService {
         return giftSuggestionRepository.findByPersonalityType(personalityType);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.GIFT_SUGGESTIONS_BY_PERSONALITY_TYPE, sync = true)
+    public List<GiftSuggestionSnapshot> findSnapshotsByPersonalityType(PersonalityType personalityType) {
+        logger.debug("Finding gift suggestion snapshots by personality type: {}", personalityType);
+        
+        if (personalityType == null) {
+            throw new IllegalArgumentException("Personality type cannot be null");
+        }
+        
+        return snapshotsOf(giftSuggestionRepository.findByPersonalityType(personalityType));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<GiftSuggestion> findByPriceRange(BigDecimal minPrice, BigDecimal maxPrice) {
@@ -232,9 +464,32 @@ public class GiftSuggestionServiceImpl implements GiftSuggestionService {
             throw new IllegalArgumentException("Minimum price cannot be greater than maximum price");
         }
         
+        if (facetIndex.isUsable()) {
+            List<UUID> ids = facetIndex.findIdsByPriceRange(minPrice, maxPrice);
+            if (ids.size() <= MAX_ID_LOOKUP) {
+                return findAllByIdInOrder(ids);
+            }
+        }
+        
         return giftSuggestionRepository.findGiftsWithinBudget(minPrice, maxPrice);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<GiftSuggestionSummary> findSummariesByPriceRange(BigDecimal minPrice, BigDecimal maxPrice) {
+        logger.debug("Finding gift suggestion summaries by price range: {} - {}", minPrice, maxPrice);
+        
+        if (minPrice == null || maxPrice == null) {
+            throw new IllegalArgumentException("Price range bounds cannot be null");
+        }
+        
+        if (minPrice.compareTo(maxPrice) > 0) {
+            throw new IllegalArgumentException("Minimum price cannot be greater than maximum price");
+        }
+        
+        return giftSuggestionRepository.findSummariesWithinBudget(minPrice, maxPrice);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Page<GiftSuggestion> findByAdvancedCriteria(
@@ -253,6 +508,15 @@ public class GiftSuggestionServiceImpl implements GiftSuggestionService {
             throw new IllegalArgumentException("Pageable cannot be null");
         }
         
+        if (facetIndex.isUsable() && pageable.getSort().isUnsorted()) {
+            Page<UUID> ids = facetIndex.findIds(
+                    ageGroup, gender, interest, occasion, relationship, personalityType, maxBudget, pageable);
+            // Unpaged or very large pages are left to the database query
+            if (ids.getNumberOfElements() <= MAX_ID_LOOKUP) {
+                return new PageImpl<>(findAllByIdInOrder(ids.getContent()), pageable, ids.getTotalElements());
+            }
+        }
+        
         return giftSuggestionRepository.findByAdvancedCriteria(
                 ageGroup, gender, interest, occasion, relationship, personalityType, maxBudget, pageable);
     }
@@ -270,10 +534,54 @@ public class GiftSuggestionServiceImpl implements GiftSuggestionService {
         
         logger.debug("Counting gift suggestions by advanced criteria");
         
+        if (facetIndex.isUsable()) {
+            return facetIndex.count(ageGroup, gender, interest, occasion, relationship, personalityType, maxBudget);
+        }
+        
         return giftSuggestionRepository.countByAdvancedCriteria(
                 ageGroup, gender, interest, occasion, relationship, personalityType, maxBudget);
     }
 
+    private static List<GiftSuggestionSnapshot> snapshotsOf(List<GiftSuggestion> giftSuggestions) {
+        return giftSuggestions.stream().map(GiftSuggestionSnapshot::from).toList();
+    }
+
+    /**
+     * Loads gift suggestions by ID, preserving the order of the given IDs.
+     *
+     * @param ids the IDs to load
+     * @return the gift suggestions that still exist, in the order of the given IDs
+     */
+    private List<GiftSuggestion> findAllByIdInOrder(List<UUID> ids) {
+        return findAllByIdInOrder(ids, giftSuggestionRepository::findAllById);
+    }
+
+    /**
+     * Loads gift suggestions by ID with the given finder, preserving the order of the given IDs.
+     *
+     * @param ids the IDs to load
+     * @param finder loads the gift suggestions with the given IDs in any order
+     * @return the gift suggestions that still exist, in the order of the given IDs
+     */
+    private List<GiftSuggestion> findAllByIdInOrder(List<UUID> ids,
+                                                    Function<List<UUID>, List<GiftSuggestion>> finder) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        
+        Map<UUID, GiftSuggestion> giftSuggestionsById = finder.apply(ids).stream()
+                .collect(Collectors.toMap(GiftSuggestion::getId, Function.identity()));
+        
+        List<GiftSuggestion> result = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            GiftSuggestion giftSuggestion = giftSuggestionsById.get(id);
+            if (giftSuggestion != null) {
+                result.add(giftSuggestion);
+            }
+        }
+        return result;
+    }
+
     /**
      * Validates a gift suggestion for business rules.
      *
@@ -297,11 +605,11 @@ public class GiftSuggestionServiceImpl implements GiftSuggestionService {
             throw new IllegalArgumentException("Maximum price cannot be null");
         }
         
-        if (giftSuggestion.getMinPrice().compareTo(BigDecimal.ZERO) < 0) {
+        if (giftSuggestion.getMinPrice().signum() < 0) {
             throw new IllegalArgumentException("Minimum price cannot be negative");
         }
         
-        if (giftSuggestion.getMaxPrice().compareTo(BigDecimal.ZERO) <= 0) {
+        if (giftSuggestion.getMaxPrice().signum() <= 0) {
             throw new IllegalArgumentException("Maximum price must be positive");
         }
         
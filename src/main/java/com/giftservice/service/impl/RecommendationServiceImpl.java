@@ -0,0 +1,138 @@
+package com.giftservice.service.impl;
+
+import com.giftservice.entity.GiftSuggestion;
+import com.giftservice.repository.GiftSuggestionRepository;
+import com.giftservice.service.RecommendationService;
+import com.giftservice.service.index.FacetScores;
+import com.giftservice.service.index.GiftSuggestionFacetIndex;
+import com.giftservice.service.index.PriceCents;
+import com.giftservice.service.recommendation.PrecomputedRecommendations;
+import com.giftservice.service.recommendation.ProfileKey;
+import com.giftservice.service.recommendation.RecipientProfile;
+import com.giftservice.service.recommendation.Recommendation;
+import com.giftservice.service.recommendation.RecommendationWeights;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of RecommendationService.
+ * Serves frequently requested profiles from precomputed rankings, ranks the in-memory
+ * facet index for all other profiles, and loads only the top gift suggestions from the database.
+ * While the index is not usable, e.g. while it is built after startup, only a bounded number
+ * of gift suggestions matching all attributes of the profile is loaded and ranked instead.
+ */
+@Service
+@Transactional(readOnly = true)
+public class RecommendationServiceImpl implements RecommendationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecommendationServiceImpl.class);
+
+    private final GiftSuggestionRepository giftSuggestionRepository;
+    private final GiftSuggestionFacetIndex facetIndex;
+    private final PrecomputedRecommendations precomputedRecommendations;
+    private final Duration latencyBudget;
+
+    @Autowired
+    public RecommendationServiceImpl(GiftSuggestionRepository giftSuggestionRepository,
+                                     GiftSuggestionFacetIndex facetIndex,
+                                     PrecomputedRecommendations precomputedRecommendations,
+                                     @Value("${recommendation.latency-budget:50ms}") Duration latencyBudget) {
+        this.giftSuggestionRepository = giftSuggestionRepository;
+        this.facetIndex = facetIndex;
+        this.precomputedRecommendations = precomputedRecommendations;
+        this.latencyBudget = latencyBudget;
+    }
+
+    @Override
+    public List<Recommendation> recommend(RecipientProfile profile, int limit) {
+        logger.debug("Recommending up to {} gift suggestions for profile: {}", limit, profile);
+        
+        if (profile == null) {
+            throw new IllegalArgumentException("Recipient profile cannot be null");
+        }
+        
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        
+        if (profile.budget() != null && profile.budget().signum() < 0) {
+            throw new IllegalArgumentException("Budget cannot be negative");
+        }
+        
+        if (!facetIndex.isUsable()) {
+            return rankExactMatches(profile, limit);
+        }
+        
+        if (PrecomputedRecommendations.isPrecomputable(profile)) {
+            long key = ProfileKey.of(profile);
+            precomputedRecommendations.recordRequest(key);
+            Optional<List<GiftSuggestionFacetIndex.ScoredId>> precomputed = precomputedRecommendations.find(key, limit);
+            if (precomputed.isPresent()) {
+                return loadInOrder(precomputed.get());
+            }
+        }
+        
+        FacetScores scores = RecommendationWeights.DEFAULT.facetScores(profile);
+        GiftSuggestionFacetIndex.Ranking ranking =
+                facetIndex.rank(scores, limit, System.nanoTime() + latencyBudget.toNanos());
+        if (!ranking.complete()) {
+            logger.warn("Recommendation latency budget of {} exceeded, returning partial ranking", latencyBudget);
+        }
+        
+        return loadInOrder(ranking.entries());
+    }
+
+    private List<Recommendation> rankExactMatches(RecipientProfile profile, int limit) {
+        logger.debug("Facet index not usable, returning only exact matches from the database");
+        
+        FacetScores scores = RecommendationWeights.DEFAULT.facetScores(profile);
+        return giftSuggestionRepository.findFirstByAdvancedCriteria(profile.ageGroup(), profile.gender(),
+                        profile.interest(), profile.occasion(), profile.relationship(), profile.personalityType(),
+                        profile.budget(), limit).stream()
+                .map(giftSuggestion -> new Recommendation(giftSuggestion, scores.score(
+                        giftSuggestion.getAgeGroup().ordinal(),
+                        giftSuggestion.getGender().ordinal(),
+                        giftSuggestion.getInterest().ordinal(),
+                        giftSuggestion.getOccasion().ordinal(),
+                        giftSuggestion.getRelationship().ordinal(),
+                        giftSuggestion.getPersonalityType().ordinal(),
+                        PriceCents.of(giftSuggestion.getMinPrice()))))
+                .sorted(Comparator.comparingDouble(Recommendation::score).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Load the ranked gift suggestions, keeping the ranking order.
+     *
+     * @param entries the ranked IDs
+     * @return the recommendations for the gift suggestions that still exist
+     */
+    private List<Recommendation> loadInOrder(List<GiftSuggestionFacetIndex.ScoredId> entries) {
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+        
+        List<UUID> ids = entries.stream().map(GiftSuggestionFacetIndex.ScoredId::id).toList();
+        Map<UUID, GiftSuggestion> giftSuggestionsById = giftSuggestionRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(GiftSuggestion::getId, Function.identity()));
+        
+        List<Recommendation> result = new ArrayList<>(entries.size());
+        for (GiftSuggestionFacetIndex.ScoredId entry : entries) {
+            GiftSuggestion giftSuggestion = giftSuggestionsById.get(entry.id());
+            if (giftSuggestion != null) {
+                result.add(new Recommendation(giftSuggestion, entry.score()));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,85 @@
+package com.giftservice.service.index;
+
+import com.giftservice.enums.*;
+
+import java.math.BigDecimal;
+
+/**
+ * Score contributions used to rank index entries.
+ * Each facet maps the ordinal of an enum value to the score an entry with that value earns.
+ * The budget earns its full weight when the minimum price fits and a share proportional
+ * to budget / minimum price otherwise.
+ */
+public final class FacetScores {
+
+    private final double[] ageGroupScores;
+    private final double[] genderScores;
+    private final double[] interestScores;
+    private final double[] occasionScores;
+    private final double[] relationshipScores;
+    private final double[] personalityTypeScores;
+    private final boolean hasBudget;
+    private final long budgetCents;
+    private final double exactBudgetCents;
+    private final double budgetScore;
+
+    /**
+     * Create score contributions. Each array must have one entry per value of its enum.
+     *
+     * @param ageGroupScores scores by age group ordinal
+     * @param genderScores scores by gender ordinal
+     * @param interestScores scores by interest ordinal
+     * @param occasionScores scores by occasion ordinal
+     * @param relationshipScores scores by relationship ordinal
+     * @param personalityTypeScores scores by personality type ordinal
+     * @param budget the budget to score minimum prices against (can be null for no budget)
+     * @param budgetScore the score of a minimum price within the budget
+     */
+    public FacetScores(double[] ageGroupScores, double[] genderScores, double[] interestScores,
+                       double[] occasionScores, double[] relationshipScores, double[] personalityTypeScores,
+                       BigDecimal budget, double budgetScore) {
+        this.ageGroupScores = copy(ageGroupScores, AgeGroup.values().length);
+        this.genderScores = copy(genderScores, Gender.values().length);
+        this.interestScores = copy(interestScores, Interest.values().length);
+        this.occasionScores = copy(occasionScores, Occasion.values().length);
+        this.relationshipScores = copy(relationshipScores, Relationship.values().length);
+        this.personalityTypeScores = copy(personalityTypeScores, PersonalityType.values().length);
+        this.hasBudget = budget != null;
+        this.budgetCents = hasBudget ? PriceCents.floorOf(budget) : 0;
+        this.exactBudgetCents = hasBudget ? budget.movePointRight(2).doubleValue() : 0;
+        this.budgetScore = budgetScore;
+    }
+
+    /**
+     * Score an entry by the ordinals of its categorization values and its minimum price.
+     *
+     * @param minPriceCents the minimum price of the entry in cents, see {@link PriceCents#of}
+     * @return the sum of the matching contributions
+     */
+    public double score(int ageGroup, int gender, int interest, int occasion, int relationship,
+                        int personalityType, long minPriceCents) {
+        double score = ageGroupScores[ageGroup]
+                + genderScores[gender]
+                + interestScores[interest]
+                + occasionScores[occasion]
+                + relationshipScores[relationship]
+                + personalityTypeScores[personalityType];
+
+        if (hasBudget) {
+            if (minPriceCents <= budgetCents) {
+                score += budgetScore;
+            } else {
+                score += budgetScore * exactBudgetCents / minPriceCents;
+            }
+        }
+
+        return score;
+    }
+
+    private static double[] copy(double[] scores, int length) {
+        if (scores == null || scores.length != length) {
+            throw new IllegalArgumentException("Scores must have one entry per enum value");
+        }
+        return scores.clone();
+    }
+}
@@ -0,0 +1,613 @@
+package com.giftservice.service.index;
+
+import com.giftservice.entity.GiftSuggestion;
+import com.giftservice.enums.*;
+import com.giftservice.repository.GiftSuggestionRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory facet index over all gift suggestions.
+ * Keeps one bitset per value of each categorization enum so that the optional-criteria
+ * searches can be answered by AND-ing bitsets instead of issuing a catch-all query.
+ * The value ordinals of every entry are kept as well, so that all entries can be ranked
+ * against a profile in a single pass. Prices are kept in cents, and budget queries are
+ * answered by a price interval index. Slots written since the interval index was built are
+ * checked directly, and once there are more than a few of them the index is rebuilt on a
+ * background thread, so that neither writes nor budget queries wait for it to be sorted.
+ *
+ * The index is built when the application is ready and maintained by the service layer.
+ * Writes are applied after the surrounding transaction commits; until then the writing
+ * transaction is reported as not usable so that it reads its own changes from the database.
+ */
+@Component
+public class GiftSuggestionFacetIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(GiftSuggestionFacetIndex.class);
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    // The deadline is checked once per 256 scored entries
+    private static final int DEADLINE_CHECK_MASK = 0xFF;
+
+    // Written slots checked directly by budget queries before the price index is rebuilt
+    static final int PRICE_INDEX_DELTA_LIMIT = 256;
+
+    private final GiftSuggestionRepository giftSuggestionRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final BitSet[] ageGroupBits = newBitSets(AgeGroup.values().length);
+    private final BitSet[] genderBits = newBitSets(Gender.values().length);
+    private final BitSet[] interestBits = newBitSets(Interest.values().length);
+    private final BitSet[] occasionBits = newBitSets(Occasion.values().length);
+    private final BitSet[] relationshipBits = newBitSets(Relationship.values().length);
+    private final BitSet[] personalityTypeBits = newBitSets(PersonalityType.values().length);
+
+    private final BitSet liveSlots = new BitSet();
+    private final Map<UUID, Integer> slotsById = new HashMap<>();
+    private UUID[] ids = new UUID[INITIAL_CAPACITY];
+    private long[] minPrices = new long[INITIAL_CAPACITY];
+    private long[] maxPrices = new long[INITIAL_CAPACITY];
+    private byte[] ageGroups = new byte[INITIAL_CAPACITY];
+    private byte[] genders = new byte[INITIAL_CAPACITY];
+    private byte[] interests = new byte[INITIAL_CAPACITY];
+    private byte[] occasions = new byte[INITIAL_CAPACITY];
+    private byte[] relationships = new byte[INITIAL_CAPACITY];
+    private byte[] personalityTypes = new byte[INITIAL_CAPACITY];
+
+    // The price index, the slots written since it was built, and the slots written since the
+    // running background rebuild copied the prices, null if none is running; guarded by the lock
+    private PriceIntervalIndex priceIndex = PriceIntervalIndex.build(new BitSet(), new long[0], new long[0]);
+    private BitSet priceIndexDelta = new BitSet();
+    private int priceIndexDeltaSize;
+    private BitSet rebuildingPriceIndexDelta;
+    private final AtomicBoolean priceIndexRebuildScheduled = new AtomicBoolean();
+    private final ThreadPoolExecutor priceIndexExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "price-index-rebuild");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private volatile boolean ready;
+
+    // Changes applied while a rebuild reads its snapshot, null otherwise; guarded by the write lock
+    private List<Runnable> changesDuringRebuild;
+
+    @Autowired
+    public GiftSuggestionFacetIndex(GiftSuggestionRepository giftSuggestionRepository) {
+        this.giftSuggestionRepository = giftSuggestionRepository;
+    }
+
+    /**
+     * Build the index from the database once the application has started.
+     * The snapshot is read in a read-write transaction so that it comes from the primary database.
+     * Requests are already being served while it is read, so writes committed in the meantime
+     * are replayed on top of the snapshot.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rebuild() {
+        logger.info("Building gift suggestion facet index");
+
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List<GiftSuggestion> giftSuggestions;
+        try {
+            giftSuggestions = giftSuggestionRepository.findAll();
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                changesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            clear();
+            for (GiftSuggestion giftSuggestion : giftSuggestions) {
+                put(giftSuggestion);
+            }
+            changesDuringRebuild.forEach(Runnable::run);
+            installPriceIndex(PriceIntervalIndex.build(liveSlots, minPrices, maxPrices), new BitSet());
+            logger.info("Gift suggestion facet index built with {} entries, {} concurrent changes replayed",
+                    slotsById.size(), changesDuringRebuild.size());
+            changesDuringRebuild = null;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        priceIndexExecutor.shutdownNow();
+    }
+
+    /**
+     * Check whether queries may be answered from the index.
+     * The index is not usable before it has been built, nor inside a transaction
+     * that has written gift suggestions which are not yet committed.
+     *
+     * @return true if the index reflects the state visible to the caller
+     */
+    public boolean isUsable() {
+        return ready && !TransactionSynchronizationManager.hasResource(this);
+    }
+
+    /**
+     * Record a created or updated gift suggestion.
+     * The change is applied after the current transaction commits, or immediately
+     * if no transaction is active.
+     *
+     * @param giftSuggestion the persisted gift suggestion
+     */
+    public void recordWrite(GiftSuggestion giftSuggestion) {
+        if (giftSuggestion == null || giftSuggestion.getId() == null) {
+            throw new IllegalArgumentException("Gift suggestion must be persisted before indexing");
+        }
+
+        afterCommit(() -> put(giftSuggestion));
+    }
+
+    /**
+     * Record a deleted gift suggestion.
+     * The change is applied after the current transaction commits, or immediately
+     * if no transaction is active.
+     *
+     * @param id the ID of the deleted gift suggestion
+     */
+    public void recordDelete(UUID id) {
+        if (id == null) {
+            throw new IllegalArgumentException("ID cannot be null");
+        }
+
+        afterCommit(() -> remove(id));
+    }
+
+    /**
+     * Find the IDs of gift suggestions matching the given optional criteria.
+     *
+     * @param ageGroup the target age group (can be null)
+     * @param gender the target gender (can be null)
+     * @param interest the target interest (can be null)
+     * @param occasion the target occasion (can be null)
+     * @param relationship the target relationship (can be null)
+     * @param personalityType the target personality type (can be null)
+     * @param maxBudget the maximum budget (can be null for no budget limit)
+     * @param pageable pagination information, sorting is not supported; unpaged returns all matches
+     * @return page of matching gift suggestion IDs
+     */
+    public Page<UUID> findIds(AgeGroup ageGroup, Gender gender, Interest interest, Occasion occasion,
+                              Relationship relationship, PersonalityType personalityType,
+                              BigDecimal maxBudget, Pageable pageable) {
+        if (pageable.getSort().isSorted()) {
+            throw new IllegalArgumentException("Facet index does not support sorted queries");
+        }
+
+        lock.readLock().lock();
+        try {
+            BitSet matches = match(ageGroup, gender, interest, occasion, relationship, personalityType, maxBudget);
+            int total = matches.cardinality();
+
+            // An unpaged request returns all matches
+            long offset = pageable.isPaged() ? pageable.getOffset() : 0;
+            int pageSize = pageable.isPaged() ? pageable.getPageSize() : total;
+
+            List<UUID> content = new ArrayList<>(Math.min(pageSize, total));
+            if (offset < total) {
+                int slot = matches.nextSetBit(0);
+                for (long skipped = 0; skipped < offset; skipped++) {
+                    slot = matches.nextSetBit(slot + 1);
+                }
+                while (slot >= 0 && content.size() < pageSize) {
+                    content.add(ids[slot]);
+                    slot = matches.nextSetBit(slot + 1);
+                }
+            }
+
+            return new PageImpl<>(content, pageable, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Find the IDs of gift suggestions whose price range overlaps the given budget range.
+     *
+     * @param minBudget the lower bound of the budget
+     * @param maxBudget the upper bound of the budget
+     * @return the IDs of gift suggestions with minimum price &lt;= maxBudget and maximum price &gt;= minBudget
+     */
+    public List<UUID> findIdsByPriceRange(BigDecimal minBudget, BigDecimal maxBudget) {
+        lock.readLock().lock();
+        try {
+            long minCents = PriceCents.ceilingOf(minBudget);
+            long maxCents = PriceCents.floorOf(maxBudget);
+            BitSet matches = new BitSet();
+            priceIndex.collectOverlapping(minCents, maxCents, matches);
+            matches.andNot(priceIndexDelta);
+            for (int slot = priceIndexDelta.nextSetBit(0); slot >= 0; slot = priceIndexDelta.nextSetBit(slot + 1)) {
+                if (liveSlots.get(slot) && minPrices[slot] <= maxCents && maxPrices[slot] >= minCents) {
+                    matches.set(slot);
+                }
+            }
+
+            List<UUID> result = new ArrayList<>(matches.cardinality());
+            for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+                result.add(ids[slot]);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Count gift suggestions matching the given optional criteria.
+     *
+     * @param ageGroup the target age group (can be null)
+     * @param gender the target gender (can be null)
+     * @param interest the target interest (can be null)
+     * @param occasion the target occasion (can be null)
+     * @param relationship the target relationship (can be null)
+     * @param personalityType the target personality type (can be null)
+     * @param maxBudget the maximum budget (can be null for no budget limit)
+     * @return count of matching gift suggestions
+     */
+    public long count(AgeGroup ageGroup, Gender gender, Interest interest, Occasion occasion,
+                      Relationship relationship, PersonalityType personalityType, BigDecimal maxBudget) {
+        lock.readLock().lock();
+        try {
+            return match(ageGroup, gender, interest, occasion, relationship, personalityType, maxBudget)
+                    .cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rank all entries by the given score contributions and keep the highest scoring ones.
+     * Entries with equal scores keep their index order. If the deadline passes before all
+     * entries have been scored, the best entries scored so far are returned.
+     *
+     * @param scores the score contributions of the ranking profile
+     * @param limit the maximum number of entries to return
+     * @param deadlineNanos the {@link System#nanoTime()} value after which scanning stops
+     * @return the highest scoring entries in descending score order
+     */
+    public Ranking rank(FacetScores scores, int limit, long deadlineNanos) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+
+        // Min-heap of the best entries so far, the head is the entry to be replaced next
+        PriorityQueue<ScoredSlot> best = new PriorityQueue<>(limit + 1,
+                Comparator.comparingDouble(ScoredSlot::score)
+                        .thenComparing(Comparator.comparingInt(ScoredSlot::slot).reversed()));
+        boolean complete = true;
+
+        lock.readLock().lock();
+        try {
+            int scanned = 0;
+            for (int slot = liveSlots.nextSetBit(0); slot >= 0; slot = liveSlots.nextSetBit(slot + 1)) {
+                if ((++scanned & DEADLINE_CHECK_MASK) == 0 && System.nanoTime() - deadlineNanos > 0) {
+                    complete = false;
+                    break;
+                }
+
+                double score = scores.score(ageGroups[slot], genders[slot], interests[slot], occasions[slot],
+                        relationships[slot], personalityTypes[slot], minPrices[slot]);
+                if (best.size() < limit) {
+                    best.add(new ScoredSlot(slot, score));
+                } else if (score > best.peek().score()) {
+                    best.poll();
+                    best.add(new ScoredSlot(slot, score));
+                }
+            }
+
+            ScoredId[] ranked = new ScoredId[best.size()];
+            for (int i = ranked.length - 1; i >= 0; i--) {
+                ScoredSlot scoredSlot = best.poll();
+                ranked[i] = new ScoredId(ids[scoredSlot.slot()], scoredSlot.score());
+            }
+            return new Ranking(List.of(ranked), complete);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Get the number of indexed gift suggestions.
+     *
+     * @return the number of entries in the index
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the number of slots written since the price index was built
+     */
+    int priceIndexDeltaSize() {
+        lock.readLock().lock();
+        try {
+            return priceIndexDeltaSize;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private BitSet match(AgeGroup ageGroup, Gender gender, Interest interest, Occasion occasion,
+                         Relationship relationship, PersonalityType personalityType, BigDecimal maxBudget) {
+        BitSet result = (BitSet) liveSlots.clone();
+        and(result, ageGroupBits, ageGroup);
+        and(result, genderBits, gender);
+        and(result, interestBits, interest);
+        and(result, occasionBits, occasion);
+        and(result, relationshipBits, relationship);
+        and(result, personalityTypeBits, personalityType);
+
+        if (maxBudget != null) {
+            long budgetCents = PriceCents.floorOf(maxBudget);
+            BitSet affordable = new BitSet(liveSlots.length());
+            priceIndex.collectAffordable(budgetCents, affordable);
+            affordable.andNot(priceIndexDelta);
+            for (int slot = priceIndexDelta.nextSetBit(0); slot >= 0; slot = priceIndexDelta.nextSetBit(slot + 1)) {
+                if (minPrices[slot] <= budgetCents) {
+                    affordable.set(slot);
+                }
+            }
+            result.and(affordable);
+        }
+
+        return result;
+    }
+
+    /**
+     * Record a slot whose price range changed since the price index was built.
+     * Called with the write lock held.
+     */
+    private void markPriceChanged(int slot) {
+        if (!priceIndexDelta.get(slot)) {
+            priceIndexDelta.set(slot);
+            priceIndexDeltaSize++;
+        }
+        if (rebuildingPriceIndexDelta != null) {
+            rebuildingPriceIndexDelta.set(slot);
+        }
+        if (priceIndexDeltaSize > PRICE_INDEX_DELTA_LIMIT && priceIndexRebuildScheduled.compareAndSet(false, true)) {
+            priceIndexExecutor.execute(this::rebuildPriceIndex);
+        }
+    }
+
+    /**
+     * Rebuild the price index from a copy of the prices, so that the lock is only held to copy
+     * the prices and to install the new index. Slots written in the meantime remain in the delta.
+     */
+    private void rebuildPriceIndex() {
+        BitSet builtSlots;
+        long[] builtMinPrices;
+        long[] builtMaxPrices;
+        BitSet delta = new BitSet();
+        lock.readLock().lock();
+        try {
+            priceIndexRebuildScheduled.set(false);
+            if (priceIndexDeltaSize <= PRICE_INDEX_DELTA_LIMIT) {
+                return;
+            }
+            builtSlots = (BitSet) liveSlots.clone();
+            builtMinPrices = Arrays.copyOf(minPrices, builtSlots.length());
+            builtMaxPrices = Arrays.copyOf(maxPrices, builtSlots.length());
+            rebuildingPriceIndexDelta = delta;
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        PriceIntervalIndex index = PriceIntervalIndex.build(builtSlots, builtMinPrices, builtMaxPrices);
+
+        lock.writeLock().lock();
+        try {
+            // A full rebuild in the meantime has installed a newer index
+            if (rebuildingPriceIndexDelta == delta) {
+                installPriceIndex(index, delta);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Install a price index. Called with the write lock held.
+     *
+     * @param index the price index
+     * @param delta the slots written since the prices of the index were read
+     */
+    private void installPriceIndex(PriceIntervalIndex index, BitSet delta) {
+        priceIndex = index;
+        priceIndexDelta = delta;
+        priceIndexDeltaSize = delta.cardinality();
+        rebuildingPriceIndexDelta = null;
+    }
+
+    private void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyAll(List.of(change));
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Runnable> pendingChanges = (List<Runnable>) TransactionSynchronizationManager.getResource(this);
+        if (pendingChanges == null) {
+            List<Runnable> changes = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, changes);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyAll(changes);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(GiftSuggestionFacetIndex.this);
+                }
+            });
+            pendingChanges = changes;
+        }
+        pendingChanges.add(change);
+    }
+
+    private void applyAll(List<Runnable> changes) {
+        lock.writeLock().lock();
+        try {
+            changes.forEach(Runnable::run);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.addAll(changes);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void put(GiftSuggestion giftSuggestion) {
+        Integer existingSlot = slotsById.get(giftSuggestion.getId());
+        int slot;
+        if (existingSlot != null) {
+            slot = existingSlot;
+            clearSlot(slot);
+        } else {
+            slot = liveSlots.nextClearBit(0);
+            ensureCapacity(slot + 1);
+            slotsById.put(giftSuggestion.getId(), slot);
+        }
+
+        ids[slot] = giftSuggestion.getId();
+        minPrices[slot] = PriceCents.of(giftSuggestion.getMinPrice());
+        maxPrices[slot] = PriceCents.of(giftSuggestion.getMaxPrice());
+        ageGroups[slot] = (byte) giftSuggestion.getAgeGroup().ordinal();
+        genders[slot] = (byte) giftSuggestion.getGender().ordinal();
+        interests[slot] = (byte) giftSuggestion.getInterest().ordinal();
+        occasions[slot] = (byte) giftSuggestion.getOccasion().ordinal();
+        relationships[slot] = (byte) giftSuggestion.getRelationship().ordinal();
+        personalityTypes[slot] = (byte) giftSuggestion.getPersonalityType().ordinal();
+        liveSlots.set(slot);
+        markPriceChanged(slot);
+        ageGroupBits[giftSuggestion.getAgeGroup().ordinal()].set(slot);
+        genderBits[giftSuggestion.getGender().ordinal()].set(slot);
+        interestBits[giftSuggestion.getInterest().ordinal()].set(slot);
+        occasionBits[giftSuggestion.getOccasion().ordinal()].set(slot);
+        relationshipBits[giftSuggestion.getRelationship().ordinal()].set(slot);
+        personalityTypeBits[giftSuggestion.getPersonalityType().ordinal()].set(slot);
+    }
+
+    private void remove(UUID id) {
+        Integer slot = slotsById.remove(id);
+        if (slot != null) {
+            clearSlot(slot);
+            ids[slot] = null;
+        }
+    }
+
+    private void clearSlot(int slot) {
+        liveSlots.clear(slot);
+        markPriceChanged(slot);
+        for (BitSet[] facet : List.of(ageGroupBits, genderBits, interestBits,
+                occasionBits, relationshipBits, personalityTypeBits)) {
+            for (BitSet bits : facet) {
+                bits.clear(slot);
+            }
+        }
+    }
+
+    private void clear() {
+        for (BitSet[] facet : List.of(ageGroupBits, genderBits, interestBits,
+                occasionBits, relationshipBits, personalityTypeBits)) {
+            for (BitSet bits : facet) {
+                bits.clear();
+            }
+        }
+        liveSlots.clear();
+        slotsById.clear();
+        Arrays.fill(ids, null);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > ids.length) {
+            int newCapacity = Math.max(capacity, ids.length * 2);
+            ids = Arrays.copyOf(ids, newCapacity);
+            minPrices = Arrays.copyOf(minPrices, newCapacity);
+            maxPrices = Arrays.copyOf(maxPrices, newCapacity);
+            ageGroups = Arrays.copyOf(ageGroups, newCapacity);
+            genders = Arrays.copyOf(genders, newCapacity);
+            interests = Arrays.copyOf(interests, newCapacity);
+            occasions = Arrays.copyOf(occasions, newCapacity);
+            relationships = Arrays.copyOf(relationships, newCapacity);
+            personalityTypes = Arrays.copyOf(personalityTypes, newCapacity);
+        }
+    }
+
+    private static void and(BitSet result, BitSet[] facet, Enum<?> value) {
+        if (value != null) {
+            result.and(facet[value.ordinal()]);
+        }
+    }
+
+    /**
+     * The highest scoring entries of a ranking.
+     *
+     * @param entries the entries in descending score order
+     * @param complete false if the deadline passed before all entries were scored
+     */
+    public record Ranking(List<ScoredId> entries, boolean complete) {
+    }
+
+    /**
+     * A ranked gift suggestion ID with its score.
+     */
+    public record ScoredId(UUID id, double score) {
+    }
+
+    private record ScoredSlot(int slot, double score) {
+    }
+
+    private static BitSet[] newBitSets(int count) {
+        BitSet[] bitSets = new BitSet[count];
+        for (int i = 0; i < count; i++) {
+            bitSets[i] = new BitSet();
+        }
+        return bitSets;
+    }
+}
@@ -0,0 +1,217 @@
+package com.giftservice.service.index;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing hash map with primitive long keys, so that lookups neither box keys
+ * nor allocate entries. Null values are not supported; an empty slot is one without value.
+ *
+ * Not thread-safe; callers guard concurrent access themselves.
+ *
+ * @param <V> the value type
+ */
+public final class LongObjectHashMap<V> {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+    private Object[] values;
+    private int size;
+    private int mask;
+
+    public LongObjectHashMap() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * Create a map that holds the expected number of entries without resizing.
+     *
+     * @param expectedSize the expected number of entries
+     */
+    public LongObjectHashMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size cannot be negative");
+        }
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Get the value of a key.
+     *
+     * @param key the key
+     * @return the value, or null if the key is not present
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        for (int slot = slot(key); values[slot] != null; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return (V) values[slot];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Associate a value with a key.
+     *
+     * @param key the key
+     * @param value the value, not null
+     * @return the previous value, or null if the key was not present
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null");
+        }
+
+        int slot = slot(key);
+        for (; values[slot] != null; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                V previous = (V) values[slot];
+                values[slot] = value;
+                return previous;
+            }
+        }
+
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > keys.length / 2) {
+            rehash(keys.length * 2);
+        }
+        return null;
+    }
+
+    /**
+     * Remove a key.
+     *
+     * @param key the key
+     * @return the removed value, or null if the key was not present
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        for (int slot = slot(key); values[slot] != null; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                V previous = (V) values[slot];
+                removeSlot(slot);
+                return previous;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Remove all entries matching the predicate.
+     *
+     * @param filter the predicate selecting entries to remove
+     * @return the number of removed entries
+     */
+    @SuppressWarnings("unchecked")
+    public int removeIf(EntryPredicate<? super V> filter) {
+        int removed = 0;
+        int slot = 0;
+        while (slot < values.length) {
+            // Removal shifts later entries into this slot, so the slot is examined again
+            if (values[slot] != null && filter.test(keys[slot], (V) values[slot])) {
+                removeSlot(slot);
+                removed++;
+            } else {
+                slot++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Call the consumer for every entry, in no particular order.
+     * The map must not be modified by the consumer.
+     *
+     * @param consumer the entry consumer
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(EntryConsumer<? super V> consumer) {
+        for (int slot = 0; slot < values.length; slot++) {
+            if (values[slot] != null) {
+                consumer.accept(keys[slot], (V) values[slot]);
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * Consumer of map entries with a primitive key.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+        void accept(long key, V value);
+    }
+
+    /**
+     * Predicate on map entries with a primitive key.
+     */
+    @FunctionalInterface
+    public interface EntryPredicate<V> {
+        boolean test(long key, V value);
+    }
+
+    private void removeSlot(int slot) {
+        // Backward shift deletion keeps probe sequences intact without tombstones
+        int gap = slot;
+        for (int next = (gap + 1) & mask; values[next] != null; next = (next + 1) & mask) {
+            int home = slot(keys[next]);
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+        }
+        values[gap] = null;
+        size--;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                int slot = slot(oldKeys[i]);
+                while (values[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+    }
+
+    private int slot(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity / 2 < expectedSize) {
+            capacity *= 2;
+        }
+        return capacity;
+    }
+}
@@ -0,0 +1,90 @@
+package com.giftservice.service.index;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+/**
+ * Conversions between prices and whole cents.
+ * Prices are persisted as numeric(10,2), so every stored price is an exact number of cents
+ * and compares as a primitive long in the in-memory indexes.
+ *
+ * Prices are rounded half up like PostgreSQL rounds them into the column. Budget bounds are
+ * rounded towards the matching side, so that a cents comparison against a bound selects
+ * the same prices as the {@link BigDecimal} comparison. Bounds beyond the range of a long
+ * saturate, as no stored price lies beyond them.
+ */
+public final class PriceCents {
+
+    private static final int SCALE = 2;
+
+    private PriceCents() {
+    }
+
+    /**
+     * Convert a price to cents as it is stored.
+     *
+     * @param price the price
+     * @return the price in cents
+     * @throws IllegalArgumentException if the price does not fit into a long
+     */
+    public static long of(BigDecimal price) {
+        return toCents(price, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Convert an upper budget bound to cents.
+     * A price in cents is at most the bound exactly if it is at most the result.
+     *
+     * @param bound the upper bound
+     * @return the bound rounded down to cents, saturated to the range of a long
+     */
+    public static long floorOf(BigDecimal bound) {
+        return toSaturatedCents(bound, RoundingMode.FLOOR);
+    }
+
+    /**
+     * Convert a lower budget bound to cents.
+     * A price in cents is at least the bound exactly if it is at least the result.
+     *
+     * @param bound the lower bound
+     * @return the bound rounded up to cents, saturated to the range of a long
+     */
+    public static long ceilingOf(BigDecimal bound) {
+        return toSaturatedCents(bound, RoundingMode.CEILING);
+    }
+
+    /**
+     * Convert cents back to a price.
+     *
+     * @param cents the price in cents
+     * @return the price with two decimal places
+     */
+    public static BigDecimal toBigDecimal(long cents) {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+
+    private static long toSaturatedCents(BigDecimal bound, RoundingMode roundingMode) {
+        if (bound == null) {
+            throw new IllegalArgumentException("Price cannot be null");
+        }
+
+        BigInteger cents = bound.setScale(SCALE, roundingMode).unscaledValue();
+        if (cents.bitLength() < Long.SIZE) {
+            return cents.longValue();
+        }
+        return cents.signum() > 0 ? Long.MAX_VALUE : Long.MIN_VALUE;
+    }
+
+    private static long toCents(BigDecimal price, RoundingMode roundingMode) {
+        if (price == null) {
+            throw new IllegalArgumentException("Price cannot be null");
+        }
+
+        try {
+            return price.setScale(SCALE, roundingMode).unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Price out of range: " + price, e);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.giftservice.service.index;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+
+/**
+ * Static interval index over the price ranges of the facet index slots, in cents.
+ * Slots are sorted by minimum price, so the slots with a minimum price within a budget form
+ * a prefix found by binary search. A segment tree over that order holds the largest maximum
+ * price of each subtree, so the slots of the prefix whose maximum price reaches the lower bound
+ * are found without visiting subtrees that cannot match.
+ *
+ * Budget overlap queries take O(log n + k) for k matching slots. The index is immutable;
+ * the facet index checks slots written since it was built separately and rebuilds it in the background.
+ */
+final class PriceIntervalIndex {
+
+    private final int[] slots;
+    private final long[] sortedMinPrices;
+    // Empty leaves hold Long.MIN_VALUE, which no lower bound reaches
+    private final long[] maxPriceTree;
+    private final int leaves;
+
+    private PriceIntervalIndex(int[] slots, long[] sortedMinPrices, long[] maxPriceTree, int leaves) {
+        this.slots = slots;
+        this.sortedMinPrices = sortedMinPrices;
+        this.maxPriceTree = maxPriceTree;
+        this.leaves = leaves;
+    }
+
+    /**
+     * Build the index over the live slots.
+     *
+     * @param liveSlots the slots to index
+     * @param minPrices minimum prices in cents by slot
+     * @param maxPrices maximum prices in cents by slot
+     * @return the index
+     */
+    static PriceIntervalIndex build(BitSet liveSlots, long[] minPrices, long[] maxPrices) {
+        int[] order = sortByMinPrice(liveSlots, minPrices);
+
+        int size = order.length;
+        int[] slots = new int[size];
+        long[] sortedMinPrices = new long[size];
+        int leaves = Integer.highestOneBit(Math.max(size, 1) * 2 - 1);
+        long[] maxPriceTree = new long[2 * leaves];
+        Arrays.fill(maxPriceTree, Long.MIN_VALUE);
+        for (int i = 0; i < size; i++) {
+            slots[i] = order[i];
+            sortedMinPrices[i] = minPrices[order[i]];
+            maxPriceTree[leaves + i] = maxPrices[order[i]];
+        }
+        for (int node = leaves - 1; node > 0; node--) {
+            maxPriceTree[node] = Math.max(maxPriceTree[2 * node], maxPriceTree[2 * node + 1]);
+        }
+
+        return new PriceIntervalIndex(slots, sortedMinPrices, maxPriceTree, leaves);
+    }
+
+    /**
+     * Sort the live slots by minimum price, ties by slot.
+     * Each slot is packed with its minimum price into one long, so that a primitive sort orders them;
+     * prices too large to share a long with the slot fall back to sorting boxed slots.
+     */
+    private static int[] sortByMinPrice(BitSet liveSlots, long[] minPrices) {
+        int slotBits = Math.max(1, Integer.SIZE - Integer.numberOfLeadingZeros(liveSlots.length()));
+        long slotMask = (1L << slotBits) - 1;
+        long priceLimit = 1L << (Long.SIZE - 1 - slotBits);
+
+        long[] packed = new long[liveSlots.cardinality()];
+        int i = 0;
+        for (int slot = liveSlots.nextSetBit(0); slot >= 0; slot = liveSlots.nextSetBit(slot + 1)) {
+            long minPrice = minPrices[slot];
+            if (minPrice < 0 || minPrice >= priceLimit) {
+                return liveSlots.stream().boxed()
+                        .sorted(Comparator.comparingLong((Integer boxedSlot) -> minPrices[boxedSlot]))
+                        .mapToInt(Integer::intValue)
+                        .toArray();
+            }
+            packed[i++] = minPrice << slotBits | slot;
+        }
+        Arrays.sort(packed);
+
+        int[] order = new int[packed.length];
+        for (i = 0; i < packed.length; i++) {
+            order[i] = (int) (packed[i] & slotMask);
+        }
+        return order;
+    }
+
+    /**
+     * Set the slots whose minimum price is within the budget.
+     *
+     * @param budget the budget in cents
+     * @param result the bitset to set the matching slots in
+     */
+    void collectAffordable(long budget, BitSet result) {
+        int prefix = affordablePrefix(budget);
+        for (int i = 0; i < prefix; i++) {
+            result.set(slots[i]);
+        }
+    }
+
+    /**
+     * Set the slots whose price range overlaps the budget range,
+     * i.e. minimum price &lt;= maxBudget and maximum price &gt;= minBudget.
+     *
+     * @param minBudget the lower bound of the budget in cents
+     * @param maxBudget the upper bound of the budget in cents
+     * @param result the bitset to set the matching slots in
+     */
+    void collectOverlapping(long minBudget, long maxBudget, BitSet result) {
+        int prefix = affordablePrefix(maxBudget);
+        if (prefix > 0) {
+            collect(1, 0, leaves, prefix, minBudget, result);
+        }
+    }
+
+    private void collect(int node, int from, int to, int prefix, long minBudget, BitSet result) {
+        if (from >= prefix || maxPriceTree[node] < minBudget) {
+            return;
+        }
+        if (node >= leaves) {
+            result.set(slots[from]);
+            return;
+        }
+
+        int middle = (from + to) >>> 1;
+        collect(2 * node, from, middle, prefix, minBudget, result);
+        collect(2 * node + 1, middle, to, prefix, minBudget, result);
+    }
+
+    /**
+     * Find the number of sorted slots whose minimum price is within the budget.
+     */
+    private int affordablePrefix(long budget) {
+        int low = 0;
+        int high = sortedMinPrices.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortedMinPrices[middle] <= budget) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,64 @@
+package com.giftservice.service.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last element of a keyset slice ordered by creation date and ID.
+ * Clients receive the position as an opaque URL-safe string and pass it back to fetch the next slice.
+ *
+ * @param createdDate the creation date of the last element
+ * @param id the ID of the last element
+ */
+public record ContinuationToken(LocalDateTime createdDate, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    public ContinuationToken {
+        if (createdDate == null || id == null) {
+            throw new IllegalArgumentException("Continuation token requires creation date and ID");
+        }
+        // PostgreSQL stores timestamps with microsecond precision
+        createdDate = createdDate.truncatedTo(ChronoUnit.MICROS);
+    }
+
+    /**
+     * Encode this position as an opaque token.
+     *
+     * @return URL-safe token string
+     */
+    public String encode() {
+        String value = createdDate + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a token previously created by {@link #encode()}.
+     *
+     * @param token the token string
+     * @return the decoded position
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static ContinuationToken decode(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("Continuation token cannot be null or empty");
+        }
+
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = value.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid continuation token: " + token);
+            }
+            return new ContinuationToken(
+                    LocalDateTime.parse(value.substring(0, separator)),
+                    UUID.fromString(value.substring(separator + 1)));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid continuation token: " + token, e);
+        }
+    }
+}
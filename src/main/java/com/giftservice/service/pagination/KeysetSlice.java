@@ -0,0 +1,25 @@
+package com.giftservice.service.pagination;
+
+import java.util.List;
+
+/**
+ * A slice of results fetched with keyset pagination.
+ * Unlike a Page it carries no total count, only the token to continue after the last element.
+ *
+ * @param content the elements of this slice
+ * @param nextToken token for the following slice, or null if this is the last slice
+ * @param <T> the element type
+ */
+public record KeysetSlice<T>(List<T> content, String nextToken) {
+
+    public KeysetSlice {
+        content = List.copyOf(content);
+    }
+
+    /**
+     * @return true if another slice follows this one
+     */
+    public boolean hasNext() {
+        return nextToken != null;
+    }
+}
@@ -0,0 +1,321 @@
+package com.giftservice.service.recommendation;
+
+import com.giftservice.entity.GiftSuggestion;
+import com.giftservice.service.RecommendationService;
+import com.giftservice.service.index.FacetScores;
+import com.giftservice.service.index.GiftSuggestionFacetIndex;
+import com.giftservice.service.index.LongObjectHashMap;
+import com.giftservice.service.index.PriceCents;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Precomputed top recommendations for frequently requested profiles.
+ * Profiles are keyed by their {@link ProfileKey}, so lookups on the request path do not allocate.
+ * Profiles with a budget are not precomputed.
+ *
+ * A background job ranks the most requested profiles against the facet index.
+ * Writes invalidate only the profiles whose ranking they can change: those that contain
+ * the written gift suggestion, and those it now scores high enough to enter.
+ */
+@Component
+public class PrecomputedRecommendations {
+
+    private static final Logger logger = LoggerFactory.getLogger(PrecomputedRecommendations.class);
+
+    // Profiles are tracked up to this many; further profiles are not counted until the next refresh
+    private static final int MAX_TRACKED_PROFILES = 50_000;
+    private static final int MIN_REQUESTS = 2;
+    private static final long RANKING_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final GiftSuggestionFacetIndex facetIndex;
+    private final int hotProfiles;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final LongObjectHashMap<LongAdder> requestCounts = new LongObjectHashMap<>();
+    private final LongObjectHashMap<Entry> entries = new LongObjectHashMap<>();
+    private long version;
+
+    @Autowired
+    public PrecomputedRecommendations(GiftSuggestionFacetIndex facetIndex,
+                                      @Value("${recommendation.precompute.hot-profiles:1000}") int hotProfiles) {
+        this.facetIndex = facetIndex;
+        this.hotProfiles = hotProfiles;
+    }
+
+    /**
+     * Check whether rankings for a profile can be precomputed.
+     *
+     * @param profile the recipient profile
+     * @return true if the profile has no budget
+     */
+    public static boolean isPrecomputable(RecipientProfile profile) {
+        return profile.budget() == null;
+    }
+
+    /**
+     * Count a request for a profile, so that frequently requested profiles get precomputed.
+     *
+     * @param key the profile key
+     */
+    public void recordRequest(long key) {
+        LongAdder count;
+        lock.readLock().lock();
+        try {
+            count = requestCounts.get(key);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (count == null) {
+            lock.writeLock().lock();
+            try {
+                count = requestCounts.get(key);
+                if (count == null) {
+                    if (requestCounts.size() >= MAX_TRACKED_PROFILES) {
+                        return;
+                    }
+                    count = new LongAdder();
+                    requestCounts.put(key, count);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        count.increment();
+    }
+
+    /**
+     * Get the precomputed ranking of a profile.
+     *
+     * @param key the profile key
+     * @param limit the maximum number of entries to return
+     * @return the highest scoring entries, or empty if the profile is not precomputed
+     */
+    public Optional<List<GiftSuggestionFacetIndex.ScoredId>> find(long key, int limit) {
+        Entry entry;
+        lock.readLock().lock();
+        try {
+            entry = entries.get(key);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (entry == null) {
+            return Optional.empty();
+        }
+
+        int size = Math.min(limit, entry.ids().length);
+        List<GiftSuggestionFacetIndex.ScoredId> ranking = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ranking.add(new GiftSuggestionFacetIndex.ScoredId(entry.ids()[i], entry.scores()[i]));
+        }
+        return Optional.of(ranking);
+    }
+
+    /**
+     * Precompute the rankings of the most requested profiles and drop those no longer requested.
+     * Request counts are halved on every run, so that the selection follows recent traffic.
+     */
+    @Scheduled(initialDelayString = "${recommendation.precompute.interval:PT30S}",
+            fixedDelayString = "${recommendation.precompute.interval:PT30S}")
+    public void refresh() {
+        if (!facetIndex.isUsable()) {
+            logger.debug("Facet index not usable, skipping recommendation precomputation");
+            return;
+        }
+
+        long[] hotKeys = selectHotKeys();
+
+        int precomputed = 0;
+        for (long key : hotKeys) {
+            long expectedVersion = currentVersion();
+            FacetScores scores = RecommendationWeights.DEFAULT.facetScores(ProfileKey.toProfile(key));
+            GiftSuggestionFacetIndex.Ranking ranking = facetIndex.rank(scores, RecommendationService.MAX_LIMIT,
+                    System.nanoTime() + RANKING_TIMEOUT_NANOS);
+            if (ranking.complete() && store(key, scores, ranking.entries(), expectedVersion)) {
+                precomputed++;
+            }
+        }
+
+        logger.debug("Precomputed recommendations for {} of {} hot profiles", precomputed, hotKeys.length);
+    }
+
+    /**
+     * Record a created or updated gift suggestion.
+     * Affected rankings are dropped immediately and again after the current transaction commits,
+     * so that rankings computed from the previous state in the meantime are dropped as well.
+     *
+     * @param giftSuggestion the persisted gift suggestion
+     */
+    public void recordWrite(GiftSuggestion giftSuggestion) {
+        if (giftSuggestion == null || giftSuggestion.getId() == null) {
+            throw new IllegalArgumentException("Gift suggestion must be persisted before invalidation");
+        }
+
+        nowAndAfterCommit(() -> invalidate(giftSuggestion.getId(), giftSuggestion));
+    }
+
+    /**
+     * Record a deleted gift suggestion.
+     * Rankings containing it are dropped immediately and again after the current transaction commits.
+     *
+     * @param id the ID of the deleted gift suggestion
+     */
+    public void recordDelete(UUID id) {
+        if (id == null) {
+            throw new IllegalArgumentException("ID cannot be null");
+        }
+
+        nowAndAfterCommit(() -> invalidate(id, null));
+    }
+
+    /**
+     * Get the number of precomputed profiles.
+     *
+     * @return the number of precomputed rankings
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Select the most requested profiles, halve all request counts and
+     * drop the rankings of profiles that are no longer hot.
+     */
+    private long[] selectHotKeys() {
+        lock.writeLock().lock();
+        try {
+            List<HotProfile> candidates = new ArrayList<>();
+            requestCounts.forEach((key, count) -> {
+                long requests = count.sumThenReset();
+                count.add(requests / 2);
+                if (requests >= MIN_REQUESTS) {
+                    candidates.add(new HotProfile(key, requests));
+                }
+            });
+            requestCounts.removeIf((key, count) -> count.sum() == 0);
+
+            LongObjectHashMap<HotProfile> hotProfilesByKey = new LongObjectHashMap<>(hotProfiles);
+            candidates.stream()
+                    .sorted(Comparator.comparingLong(HotProfile::requests).reversed())
+                    .limit(hotProfiles)
+                    .forEach(hotProfile -> hotProfilesByKey.put(hotProfile.key(), hotProfile));
+            entries.removeIf((key, entry) -> hotProfilesByKey.get(key) == null);
+
+            long[] hotKeys = new long[hotProfilesByKey.size()];
+            int[] index = {0};
+            hotProfilesByKey.forEach((key, hotProfile) -> hotKeys[index[0]++] = key);
+            return hotKeys;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private long currentVersion() {
+        lock.readLock().lock();
+        try {
+            return version;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean store(long key, FacetScores scores, List<GiftSuggestionFacetIndex.ScoredId> ranking,
+                          long expectedVersion) {
+        UUID[] ids = new UUID[ranking.size()];
+        double[] rankingScores = new double[ranking.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = ranking.get(i).id();
+            rankingScores[i] = ranking.get(i).score();
+        }
+
+        lock.writeLock().lock();
+        try {
+            // A write since the ranking was computed may have made it stale
+            if (version != expectedVersion) {
+                return false;
+            }
+            entries.put(key, new Entry(scores, ids, rankingScores));
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void invalidate(UUID id, GiftSuggestion current) {
+        int invalidated;
+        lock.writeLock().lock();
+        try {
+            version++;
+            invalidated = entries.removeIf((key, entry) -> entry.isAffectedBy(id, current));
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        logger.debug("Invalidated {} precomputed recommendations for gift suggestion with ID: {}", invalidated, id);
+    }
+
+    private static void nowAndAfterCommit(Runnable invalidation) {
+        invalidation.run();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidation.run();
+                }
+            });
+        }
+    }
+
+    private record HotProfile(long key, long requests) {
+    }
+
+    /**
+     * A precomputed ranking with the score contributions it was computed from.
+     */
+    private record Entry(FacetScores facetScores, UUID[] ids, double[] scores) {
+
+        boolean isAffectedBy(UUID id, GiftSuggestion current) {
+            for (UUID rankedId : ids) {
+                if (rankedId.equals(id)) {
+                    return true;
+                }
+            }
+            if (current == null) {
+                return false;
+            }
+            if (ids.length < RecommendationService.MAX_LIMIT) {
+                return true;
+            }
+
+            double score = facetScores.score(
+                    current.getAgeGroup().ordinal(),
+                    current.getGender().ordinal(),
+                    current.getInterest().ordinal(),
+                    current.getOccasion().ordinal(),
+                    current.getRelationship().ordinal(),
+                    current.getPersonalityType().ordinal(),
+                    PriceCents.of(current.getMinPrice()));
+            return score >= scores[scores.length - 1];
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.giftservice.service.recommendation;
+
+import com.giftservice.enums.*;
+
+/**
+ * Packs the enum attributes of a full or partial recipient profile into a single long,
+ * so that profile keyed lookups need no key objects.
+ *
+ * Each attribute takes five bits for its ordinal, starting with the age group in the
+ * lowest bits, followed by one wildcard bit per attribute that is set when the profile
+ * leaves the attribute open.
+ */
+public final class ProfileKey {
+
+    private static final int ATTRIBUTES = 6;
+    private static final int BITS_PER_ATTRIBUTE = 5;
+    private static final long ORDINAL_MASK = (1L << BITS_PER_ATTRIBUTE) - 1;
+    private static final int WILDCARD_SHIFT = ATTRIBUTES * BITS_PER_ATTRIBUTE;
+
+    private static final int AGE_GROUP = 0;
+    private static final int GENDER = 1;
+    private static final int INTEREST = 2;
+    private static final int OCCASION = 3;
+    private static final int RELATIONSHIP = 4;
+    private static final int PERSONALITY_TYPE = 5;
+
+    static {
+        for (Enum<?>[] values : new Enum<?>[][] {AgeGroup.values(), Gender.values(), Interest.values(),
+                Occasion.values(), Relationship.values(), PersonalityType.values()}) {
+            if (values.length > ORDINAL_MASK + 1) {
+                throw new IllegalStateException("Profile attributes must have at most 32 values");
+            }
+        }
+    }
+
+    private ProfileKey() {
+    }
+
+    /**
+     * Pack profile attributes into a key. Attributes passed as null are wildcards.
+     *
+     * @return the packed key
+     */
+    public static long of(AgeGroup ageGroup, Gender gender, Interest interest, Occasion occasion,
+                          Relationship relationship, PersonalityType personalityType) {
+        return pack(ageGroup, AGE_GROUP)
+                | pack(gender, GENDER)
+                | pack(interest, INTEREST)
+                | pack(occasion, OCCASION)
+                | pack(relationship, RELATIONSHIP)
+                | pack(personalityType, PERSONALITY_TYPE);
+    }
+
+    /**
+     * Pack the enum attributes of a recipient profile into a key. The budget is not part of the key.
+     *
+     * @param profile the recipient profile
+     * @return the packed key
+     */
+    public static long of(RecipientProfile profile) {
+        return of(profile.ageGroup(), profile.gender(), profile.interest(), profile.occasion(),
+                profile.relationship(), profile.personalityType());
+    }
+
+    /**
+     * Unpack a key into the profile it was packed from.
+     *
+     * @param key a packed key
+     * @return the profile, without budget
+     */
+    public static RecipientProfile toProfile(long key) {
+        return new RecipientProfile(
+                unpack(key, AGE_GROUP, AgeGroup.values()),
+                unpack(key, GENDER, Gender.values()),
+                unpack(key, INTEREST, Interest.values()),
+                unpack(key, OCCASION, Occasion.values()),
+                unpack(key, RELATIONSHIP, Relationship.values()),
+                unpack(key, PERSONALITY_TYPE, PersonalityType.values()),
+                null);
+    }
+
+    private static long pack(Enum<?> value, int attribute) {
+        return value == null
+                ? wildcardBit(attribute)
+                : (long) value.ordinal() << (attribute * BITS_PER_ATTRIBUTE);
+    }
+
+    private static <E extends Enum<E>> E unpack(long key, int attribute, E[] values) {
+        if ((key & wildcardBit(attribute)) != 0) {
+            return null;
+        }
+        return values[(int) ((key >>> (attribute * BITS_PER_ATTRIBUTE)) & ORDINAL_MASK)];
+    }
+
+    private static long wildcardBit(int attribute) {
+        return 1L << (WILDCARD_SHIFT + attribute);
+    }
+}
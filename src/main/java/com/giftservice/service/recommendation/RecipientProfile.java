@@ -0,0 +1,21 @@
+package com.giftservice.service.recommendation;
+
+import com.giftservice.enums.*;
+
+import java.math.BigDecimal;
+
+/**
+ * The recipient a gift is sought for. Every attribute is optional;
+ * attributes left null do not influence the ranking.
+ *
+ * @param ageGroup the recipient's age group
+ * @param gender the recipient's gender
+ * @param interest the recipient's main interest
+ * @param occasion the occasion of the gift
+ * @param relationship the giver's relationship to the recipient
+ * @param personalityType the recipient's personality type
+ * @param budget the maximum amount to spend
+ */
+public record RecipientProfile(AgeGroup ageGroup, Gender gender, Interest interest, Occasion occasion,
+                               Relationship relationship, PersonalityType personalityType, BigDecimal budget) {
+}
@@ -0,0 +1,12 @@
+package com.giftservice.service.recommendation;
+
+import com.giftservice.entity.GiftSuggestion;
+
+/**
+ * A gift suggestion ranked for a recipient profile.
+ *
+ * @param giftSuggestion the recommended gift suggestion
+ * @param score how well it matches the profile, from 0 (no attribute matches) to 1 (all attributes match)
+ */
+public record Recommendation(GiftSuggestion giftSuggestion, double score) {
+}
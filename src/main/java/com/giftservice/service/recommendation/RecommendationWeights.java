@@ -0,0 +1,78 @@
+package com.giftservice.service.recommendation;
+
+import com.giftservice.enums.*;
+import com.giftservice.service.index.FacetScores;
+
+/**
+ * Relative importance of each profile attribute when ranking gift suggestions.
+ * Besides exact matches, a neighbouring age group earns half its weight
+ * and a unisex gift suggestion matches every gender.
+ */
+public record RecommendationWeights(double ageGroup, double gender, double interest, double occasion,
+                                    double relationship, double personalityType, double budget) {
+
+    public static final RecommendationWeights DEFAULT = new RecommendationWeights(3, 1, 4, 2, 1, 2, 3);
+
+    private static final double NEIGHBOURING_AGE_GROUP_SHARE = 0.5;
+
+    public RecommendationWeights {
+        for (double weight : new double[] {ageGroup, gender, interest, occasion, relationship, personalityType, budget}) {
+            if (!(weight >= 0) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("Weights must be finite and non-negative");
+            }
+        }
+    }
+
+    /**
+     * Build the score contributions for a profile, normalized so that a gift suggestion
+     * matching all given attributes scores 1.
+     *
+     * @param profile the recipient profile
+     * @return the score contributions for ranking the facet index
+     */
+    public FacetScores facetScores(RecipientProfile profile) {
+        double total = (profile.ageGroup() != null ? ageGroup : 0)
+                + (profile.gender() != null ? gender : 0)
+                + (profile.interest() != null ? interest : 0)
+                + (profile.occasion() != null ? occasion : 0)
+                + (profile.relationship() != null ? relationship : 0)
+                + (profile.personalityType() != null ? personalityType : 0)
+                + (profile.budget() != null ? budget : 0);
+        double scale = total > 0 ? 1 / total : 0;
+
+        double[] ageGroupScores = new double[AgeGroup.values().length];
+        if (profile.ageGroup() != null) {
+            int ordinal = profile.ageGroup().ordinal();
+            ageGroupScores[ordinal] = ageGroup * scale;
+            if (ordinal > 0) {
+                ageGroupScores[ordinal - 1] = ageGroup * scale * NEIGHBOURING_AGE_GROUP_SHARE;
+            }
+            if (ordinal < ageGroupScores.length - 1) {
+                ageGroupScores[ordinal + 1] = ageGroup * scale * NEIGHBOURING_AGE_GROUP_SHARE;
+            }
+        }
+
+        double[] genderScores = exactScores(Gender.values().length, profile.gender(), gender * scale);
+        if (profile.gender() != null) {
+            genderScores[Gender.UNISEX.ordinal()] = gender * scale;
+        }
+
+        return new FacetScores(
+                ageGroupScores,
+                genderScores,
+                exactScores(Interest.values().length, profile.interest(), interest * scale),
+                exactScores(Occasion.values().length, profile.occasion(), occasion * scale),
+                exactScores(Relationship.values().length, profile.relationship(), relationship * scale),
+                exactScores(PersonalityType.values().length, profile.personalityType(), personalityType * scale),
+                profile.budget(),
+                budget * scale);
+    }
+
+    private static double[] exactScores(int length, Enum<?> value, double score) {
+        double[] scores = new double[length];
+        if (value != null) {
+            scores[value.ordinal()] = score;
+        }
+        return scores;
+    }
+}
@@ -37,12 +37,12 @@ public class PriceRangeValidator implements ConstraintValidator<ValidPriceRange,
         }
 
         // Check if both prices are positive
-        if (minPrice.compareTo(BigDecimal.ZERO) <= 0) {
+        if (minPrice.signum() <= 0) {
             addConstraintViolation(context, "Minimum price must be positive", "minPrice");
             return false;
         }
 
-        if (maxPrice.compareTo(BigDecimal.ZERO) <= 0) {
+        if (maxPrice.signum() <= 0) {
             addConstraintViolation(context, "Maximum price must be positive", "maxPrice");
             return false;
         }
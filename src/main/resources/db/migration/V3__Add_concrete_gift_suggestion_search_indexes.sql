@@ -0,0 +1,9 @@
+-- Add indexes for searching concrete gifts by the attributes of their gift suggestion
+-- The search joins concrete_gifts to gift_suggestions, so each side gets an index matching its predicates
+
+-- Suggestion side: the most common profile combination, with the join key available from the index
+CREATE INDEX idx_gift_suggestions_age_interest_occasion ON gift_suggestions(age_group, interest, occasion)
+INCLUDE (id);
+
+-- Concrete gift side: per suggestion, a range scan over available gifts ordered by price
+CREATE INDEX idx_concrete_gifts_suggestion_available_price ON concrete_gifts(gift_suggestion_id, available, exact_price);
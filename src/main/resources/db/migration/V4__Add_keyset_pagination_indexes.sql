@@ -0,0 +1,8 @@
+-- Replace the created_date indexes with (created_date, id) indexes
+-- Keyset pagination orders by creation date with the ID as tie-breaker and seeks to the last seen pair
+
+DROP INDEX idx_gift_suggestions_created_date;
+CREATE INDEX idx_gift_suggestions_created_date_id ON gift_suggestions(created_date, id);
+
+DROP INDEX idx_concrete_gifts_created_date;
+CREATE INDEX idx_concrete_gifts_created_date_id ON concrete_gifts(created_date, id);
@@ -0,0 +1,200 @@
+package com.giftservice.benchmark;
+
+import com.giftservice.entity.GiftSuggestion;
+import com.giftservice.enums.*;
+import com.giftservice.repository.GiftSuggestionRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Latency benchmark comparing the former catch-all JPQL query of
+ * {@link GiftSuggestionRepository#findByAdvancedCriteria} with the specification based query
+ * that only emits the supplied predicates.
+ *
+ * Excluded from the default build. Run with:
+ * {@code mvn test -Dsurefire.excludedGroups= -Dgroups=benchmark -Dtest=AdvancedCriteriaQueryBenchmarkTest}
+ * Optional system properties: {@code benchmark.rows} (default 200000) and
+ * {@code benchmark.iterations} (default 200). Results are written to
+ * {@code target/benchmark/advanced-criteria.csv}.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+    "spring.jpa.hibernate.ddl-auto=validate",
+    "spring.flyway.enabled=true",
+    "spring.jpa.show-sql=false"
+})
+class AdvancedCriteriaQueryBenchmarkTest {
+
+    private static final String CATCH_ALL_WHERE = " FROM GiftSuggestion gs WHERE " +
+            "(:ageGroup IS NULL OR gs.ageGroup = :ageGroup) AND " +
+            "(:gender IS NULL OR gs.gender = :gender) AND " +
+            "(:interest IS NULL OR gs.interest = :interest) AND " +
+            "(:occasion IS NULL OR gs.occasion = :occasion) AND " +
+            "(:relationship IS NULL OR gs.relationship = :relationship) AND " +
+            "(:personalityType IS NULL OR gs.personalityType = :personalityType) AND " +
+            "(:maxBudget IS NULL OR gs.minPrice <= :maxBudget)";
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 200_000);
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 200);
+    private static final int WARMUP_ITERATIONS = 20;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15")
+            .withDatabaseName("test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private GiftSuggestionRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * A filter combination with the criteria passed to findByAdvancedCriteria.
+     */
+    private record Shape(String name, AgeGroup ageGroup, Gender gender, Interest interest, Occasion occasion,
+                         Relationship relationship, PersonalityType personalityType, BigDecimal maxBudget) {
+    }
+
+    @BeforeEach
+    void seedCatalog() {
+        jdbcTemplate.execute("SELECT setseed(0.42)");
+        jdbcTemplate.update(
+                "INSERT INTO gift_suggestions (name, description, min_price, max_price, age_group, gender, " +
+                "interest, occasion, relationship, personality_type) " +
+                "SELECT 'Gift ' || i, 'Benchmark gift ' || i, p, p * 2, " +
+                "(ARRAY['BABY','TODDLER','CHILD','TEEN','YOUNG_ADULT','ADULT','SENIOR'])[1 + floor(random() * 7)::int], " +
+                "(ARRAY['MALE','FEMALE','UNISEX','NON_BINARY'])[1 + floor(random() * 4)::int], " +
+                "(ARRAY['SPORTS','MUSIC','READING','COOKING','PHOTOGRAPHY','GARDENING','TECHNOLOGY','TRAVEL','ART'," +
+                "'FASHION','FITNESS','GAMING','MOVIES','CRAFTS','SCIENCE','OUTDOORS','COLLECTING','BEAUTY'])" +
+                "[1 + floor(random() * 18)::int], " +
+                "(ARRAY['BIRTHDAY','WEDDING','ANNIVERSARY','GRADUATION','CHRISTMAS','VALENTINES_DAY','MOTHERS_DAY'," +
+                "'FATHERS_DAY','EASTER','NEW_YEAR','THANKSGIVING','BABY_SHOWER','BRIDAL_SHOWER','HOUSEWARMING'," +
+                "'RETIREMENT','GET_WELL','THANK_YOU','JUST_BECAUSE'])[1 + floor(random() * 18)::int], " +
+                "(ARRAY['FAMILY','FRIEND','COLLEAGUE','ROMANTIC_PARTNER','ACQUAINTANCE','EXTENDED_FAMILY'," +
+                "'NEIGHBOR','MENTOR_STUDENT','CLIENT','BOSS'])[1 + floor(random() * 10)::int], " +
+                "(ARRAY['EXTROVERT','INTROVERT','ADVENTUROUS','CREATIVE','ANALYTICAL','PRACTICAL','NURTURING'," +
+                "'COMPETITIVE','RELAXED','INTELLECTUAL','PLAYFUL','SOPHISTICATED','MINIMALIST','TRADITIONAL'," +
+                "'MODERN'])[1 + floor(random() * 15)::int] " +
+                "FROM (SELECT i, round((1 + random() * 499)::numeric, 2) AS p FROM generate_series(1, ?) AS i) AS seed",
+                ROWS);
+        jdbcTemplate.execute("ANALYZE gift_suggestions");
+    }
+
+    @Test
+    void compareCatchAllQueryWithSpecificationQuery() throws IOException {
+        List<Shape> shapes = List.of(
+                new Shape("none", null, null, null, null, null, null, null),
+                new Shape("ageGroup", AgeGroup.TEEN, null, null, null, null, null, null),
+                new Shape("ageGroup+gender", AgeGroup.TEEN, Gender.FEMALE, null, null, null, null, null),
+                new Shape("occasion+relationship", null, null, null, Occasion.BIRTHDAY, Relationship.FRIEND, null, null),
+                new Shape("interest+personalityType", null, null, Interest.GAMING, null, null,
+                        PersonalityType.COMPETITIVE, null),
+                new Shape("maxBudget", null, null, null, null, null, null, new BigDecimal("25.00")),
+                new Shape("ageGroup+maxBudget", AgeGroup.ADULT, null, null, null, null, null, new BigDecimal("50.00")),
+                new Shape("all", AgeGroup.ADULT, Gender.UNISEX, Interest.TECHNOLOGY, Occasion.BIRTHDAY,
+                        Relationship.FRIEND, PersonalityType.CREATIVE, new BigDecimal("100.00")));
+        Pageable pageable = PageRequest.of(0, 20);
+
+        Path output = Path.of("target", "benchmark", "advanced-criteria.csv");
+        Files.createDirectories(output.getParent());
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(output))) {
+            writer.println("shape,variant,rows,iterations,p50_ms,p99_ms");
+            for (Shape shape : shapes) {
+                long[] before = measure(() -> catchAllQuery(shape, pageable));
+                long[] after = measure(() -> repository.findByAdvancedCriteria(shape.ageGroup(), shape.gender(),
+                        shape.interest(), shape.occasion(), shape.relationship(), shape.personalityType(),
+                        shape.maxBudget(), pageable));
+
+                report(writer, shape, "catch-all-jpql", before);
+                report(writer, shape, "specification", after);
+            }
+        }
+    }
+
+    private void catchAllQuery(Shape shape, Pageable pageable) {
+        TypedQuery<GiftSuggestion> query = bind(entityManager.createQuery(
+                "SELECT gs" + CATCH_ALL_WHERE, GiftSuggestion.class), shape);
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize());
+        query.getResultList();
+        bind(entityManager.createQuery("SELECT COUNT(gs)" + CATCH_ALL_WHERE, Long.class), shape).getSingleResult();
+    }
+
+    private static <T> TypedQuery<T> bind(TypedQuery<T> query, Shape shape) {
+        return query.setParameter("ageGroup", shape.ageGroup())
+                .setParameter("gender", shape.gender())
+                .setParameter("interest", shape.interest())
+                .setParameter("occasion", shape.occasion())
+                .setParameter("relationship", shape.relationship())
+                .setParameter("personalityType", shape.personalityType())
+                .setParameter("maxBudget", shape.maxBudget());
+    }
+
+    private long[] measure(Runnable query) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            query.run();
+            entityManager.clear();
+        }
+
+        long[] samples = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            query.run();
+            samples[i] = System.nanoTime() - start;
+            entityManager.clear();
+        }
+        Arrays.sort(samples);
+        return samples;
+    }
+
+    private static void report(PrintWriter writer, Shape shape, String variant, long[] sortedSamples) {
+        double p50 = percentile(sortedSamples, 0.50);
+        double p99 = percentile(sortedSamples, 0.99);
+        writer.printf("%s,%s,%d,%d,%.3f,%.3f%n", shape.name(), variant, ROWS, sortedSamples.length, p50, p99);
+        System.out.printf("%-26s %-16s p50=%8.3f ms  p99=%8.3f ms%n", shape.name(), variant, p50, p99);
+    }
+
+    private static double percentile(long[] sortedSamples, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedSamples.length) - 1;
+        return sortedSamples[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,303 @@
+package com.giftservice.benchmark;
+
+import com.giftservice.enums.*;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Deterministic generator of a synthetic catalog with realistic skew.
+ * The same seed and size always produce the same rows, so latencies of different runs and
+ * releases are measured against identical data.
+ *
+ * Enum values and vendors follow Zipf distributions: a few values are far more common than the
+ * rest, like a real catalog dominated by popular interests and large vendors. Prices are log-normal,
+ * and the number of concrete gifts per gift suggestion is exponential, so many suggestions have
+ * none and a few have dozens. Rows are bulk loaded with COPY.
+ */
+final class CatalogGenerator {
+
+    static final int VENDORS = 2_000;
+
+    private static final double ZIPF_EXPONENT = 1.1;
+    private static final double MEAN_CONCRETE_GIFTS = 3.0;
+    private static final int MAX_CONCRETE_GIFTS = 60;
+    private static final double AVAILABLE_SHARE = 0.85;
+    private static final double SKU_SHARE = 0.9;
+    private static final Instant FIRST_CREATED = Instant.parse("2023-01-01T00:00:00Z");
+    private static final long CREATION_PERIOD_SECONDS = 2 * 365 * 24 * 3600L;
+    private static final String[] TOP_VENDORS = {"Amazon", "eBay", "Etsy", "Walmart", "Target", "Otto", "Zalando"};
+
+    private final long seed;
+    private final int giftSuggestions;
+
+    private final Zipf<AgeGroup> ageGroups;
+    private final Zipf<Gender> genders;
+    private final Zipf<Interest> interests;
+    private final Zipf<Occasion> occasions;
+    private final Zipf<Relationship> relationships;
+    private final Zipf<PersonalityType> personalityTypes;
+    private final Zipf<String> vendors;
+
+    /**
+     * A generated gift suggestion row, prices in cents.
+     */
+    record GiftSuggestionRow(UUID id, int index, long minPriceCents, long maxPriceCents, AgeGroup ageGroup,
+                             Gender gender, Interest interest, Occasion occasion, Relationship relationship,
+                             PersonalityType personalityType, Instant createdDate) {
+    }
+
+    /**
+     * The number of rows loaded into each table.
+     */
+    record CatalogSize(long giftSuggestions, long concreteGifts) {
+    }
+
+    CatalogGenerator(long seed, int giftSuggestions) {
+        if (giftSuggestions < 1) {
+            throw new IllegalArgumentException("Number of gift suggestions must be positive");
+        }
+        this.seed = seed;
+        this.giftSuggestions = giftSuggestions;
+
+        // Popularity ranks are shuffled per seed, so that no enum is skewed towards its declaration order
+        Random ranks = new Random(seed);
+        this.ageGroups = new Zipf<>(AgeGroup.values(), ranks);
+        this.genders = new Zipf<>(Gender.values(), ranks);
+        this.interests = new Zipf<>(Interest.values(), ranks);
+        this.occasions = new Zipf<>(Occasion.values(), ranks);
+        this.relationships = new Zipf<>(Relationship.values(), ranks);
+        this.personalityTypes = new Zipf<>(PersonalityType.values(), ranks);
+        String[] vendorNames = new String[VENDORS];
+        for (int i = 0; i < VENDORS; i++) {
+            vendorNames[i] = i < TOP_VENDORS.length ? TOP_VENDORS[i] : String.format("Vendor %04d", i);
+        }
+        // Vendors keep their order, so that the large vendors are the well-known ones
+        this.vendors = new Zipf<>(vendorNames, null);
+    }
+
+    /**
+     * Load the catalog into empty tables of the Flyway schema with COPY and analyze them.
+     *
+     * @param connection a connection to the PostgreSQL database
+     * @return the number of loaded rows
+     */
+    CatalogSize load(Connection connection) throws SQLException, IOException {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        long giftSuggestionRows = copy(pgConnection,
+                "COPY gift_suggestions (id, name, description, min_price, max_price, age_group, gender, interest, " +
+                "occasion, relationship, personality_type, created_date) FROM STDIN WITH (FORMAT csv)",
+                this::writeGiftSuggestions);
+        long concreteGiftRows = copy(pgConnection,
+                "COPY concrete_gifts (id, name, description, exact_price, vendor_name, product_sku, available, " +
+                "gift_suggestion_id, created_date) FROM STDIN WITH (FORMAT csv)",
+                this::writeConcreteGifts);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE gift_suggestions");
+            statement.execute("ANALYZE concrete_gifts");
+        }
+        return new CatalogSize(giftSuggestionRows, concreteGiftRows);
+    }
+
+    /**
+     * Write the gift suggestions as CSV in the column order of {@link #load}.
+     */
+    void writeGiftSuggestions(Writer writer) throws IOException {
+        Iterator<GiftSuggestionRow> rows = giftSuggestionRows();
+        while (rows.hasNext()) {
+            GiftSuggestionRow row = rows.next();
+            writer.append(row.id().toString()).append(',')
+                    .append(row.interest().name()).append(" gift ").append(Integer.toString(row.index())).append(',')
+                    .append("Synthetic gift suggestion ").append(Integer.toString(row.index())).append(',')
+                    .append(price(row.minPriceCents())).append(',')
+                    .append(price(row.maxPriceCents())).append(',')
+                    .append(row.ageGroup().name()).append(',')
+                    .append(row.gender().name()).append(',')
+                    .append(row.interest().name()).append(',')
+                    .append(row.occasion().name()).append(',')
+                    .append(row.relationship().name()).append(',')
+                    .append(row.personalityType().name()).append(',')
+                    .append(row.createdDate().toString()).append('\n');
+        }
+    }
+
+    /**
+     * Write the concrete gifts as CSV in the column order of {@link #load}.
+     * Gift suggestions are generated again from the seed, so that both tables can be streamed.
+     */
+    void writeConcreteGifts(Writer writer) throws IOException {
+        Random random = new Random(seed + 1);
+        long sequence = 0;
+        Iterator<GiftSuggestionRow> rows = giftSuggestionRows();
+        while (rows.hasNext()) {
+            GiftSuggestionRow row = rows.next();
+            int count = (int) Math.min(MAX_CONCRETE_GIFTS, -Math.log(1 - random.nextDouble()) * MEAN_CONCRETE_GIFTS);
+            for (int i = 0; i < count; i++) {
+                sequence++;
+                String vendor = vendors.sample(random);
+                long priceCents = row.minPriceCents()
+                        + (long) (random.nextDouble() * (row.maxPriceCents() - row.minPriceCents() + 1));
+                boolean hasSku = random.nextDouble() < SKU_SHARE;
+                boolean available = random.nextDouble() < AVAILABLE_SHARE;
+                Instant createdDate = row.createdDate().plusSeconds(random.nextInt(30 * 24 * 3600));
+
+                writer.append(randomUuid(random).toString()).append(',')
+                        .append(vendor).append(" offer ").append(Long.toString(sequence)).append(',')
+                        .append("Synthetic concrete gift ").append(Long.toString(sequence)).append(',')
+                        .append(price(Math.min(priceCents, row.maxPriceCents()))).append(',')
+                        .append(vendor).append(',')
+                        .append(hasSku ? "SKU-" + sequence : "").append(',')
+                        .append(Boolean.toString(available)).append(',')
+                        .append(row.id().toString()).append(',')
+                        .append(createdDate.toString()).append('\n');
+            }
+        }
+    }
+
+    /**
+     * Iterate over the generated gift suggestions.
+     */
+    Iterator<GiftSuggestionRow> giftSuggestionRows() {
+        Random random = new Random(seed);
+        return new Iterator<>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < giftSuggestions;
+            }
+
+            @Override
+            public GiftSuggestionRow next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                UUID id = randomUuid(random);
+                // Median price around 30.00 with a long tail of expensive gifts
+                long minPriceCents = Math.max(100, Math.min(500_000,
+                        Math.round(Math.exp(Math.log(3_000) + 0.9 * random.nextGaussian()))));
+                long maxPriceCents = Math.round(minPriceCents * (1.2 + random.nextDouble() * 1.8));
+                return new GiftSuggestionRow(id, index++, minPriceCents, maxPriceCents,
+                        ageGroups.sample(random),
+                        genders.sample(random),
+                        interests.sample(random),
+                        occasions.sample(random),
+                        relationships.sample(random),
+                        personalityTypes.sample(random),
+                        FIRST_CREATED.plusSeconds((long) (random.nextDouble() * CREATION_PERIOD_SECONDS)));
+            }
+        };
+    }
+
+    /**
+     * Get a value of middling popularity, e.g. to query with a typical selectivity.
+     */
+    AgeGroup typicalAgeGroup() {
+        return ageGroups.atRank(0.5);
+    }
+
+    Gender typicalGender() {
+        return genders.atRank(0.5);
+    }
+
+    Interest typicalInterest() {
+        return interests.atRank(0.5);
+    }
+
+    Occasion typicalOccasion() {
+        return occasions.atRank(0.5);
+    }
+
+    Relationship typicalRelationship() {
+        return relationships.atRank(0.5);
+    }
+
+    PersonalityType typicalPersonalityType() {
+        return personalityTypes.atRank(0.5);
+    }
+
+    String typicalVendor() {
+        return vendors.atRank(0.5);
+    }
+
+    /**
+     * Get the most common vendor, whose offers dominate vendor filtered queries.
+     */
+    String largestVendor() {
+        return vendors.atRank(0);
+    }
+
+    private static long copy(PGConnection connection, String sql, RowWriter rows) throws SQLException, IOException {
+        PGCopyOutputStream copy = new PGCopyOutputStream(connection, sql, 1 << 16);
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(copy, StandardCharsets.UTF_8), 1 << 16);
+            rows.write(writer);
+            writer.flush();
+            return copy.endCopy();
+        } finally {
+            if (copy.isActive()) {
+                copy.cancelCopy();
+            }
+        }
+    }
+
+    private static UUID randomUuid(Random random) {
+        long mostSignificantBits = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long leastSignificantBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    private static String price(long cents) {
+        return cents / 100 + "." + (cents % 100 < 10 ? "0" : "") + cents % 100;
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(Writer writer) throws IOException;
+    }
+
+    /**
+     * Zipf distributed sampling over a fixed set of values.
+     */
+    private static final class Zipf<T> {
+
+        private final T[] byPopularity;
+        private final double[] cumulativeWeights;
+
+        Zipf(T[] values, Random shuffle) {
+            byPopularity = values.clone();
+            if (shuffle != null) {
+                Collections.shuffle(Arrays.asList(byPopularity), shuffle);
+            }
+            cumulativeWeights = new double[values.length];
+            double total = 0;
+            for (int rank = 0; rank < values.length; rank++) {
+                total += 1 / Math.pow(rank + 1, ZIPF_EXPONENT);
+                cumulativeWeights[rank] = total;
+            }
+            for (int rank = 0; rank < values.length; rank++) {
+                cumulativeWeights[rank] /= total;
+            }
+        }
+
+        T sample(Random random) {
+            int rank = Arrays.binarySearch(cumulativeWeights, random.nextDouble());
+            return byPopularity[Math.min(rank < 0 ? -rank - 1 : rank, byPopularity.length - 1)];
+        }
+
+        T atRank(double quantile) {
+            return byPopularity[(int) (quantile * (byPopularity.length - 1))];
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.giftservice.benchmark;
+
+import com.giftservice.enums.Interest;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CatalogGeneratorTest {
+
+    @Test
+    void sameSeed_ShouldGenerateIdenticalRows() throws IOException {
+        assertThat(giftSuggestionCsv(new CatalogGenerator(7, 500)))
+                .isEqualTo(giftSuggestionCsv(new CatalogGenerator(7, 500)));
+        assertThat(concreteGiftCsv(new CatalogGenerator(7, 500)))
+                .isEqualTo(concreteGiftCsv(new CatalogGenerator(7, 500)));
+        assertThat(giftSuggestionCsv(new CatalogGenerator(8, 500)))
+                .isNotEqualTo(giftSuggestionCsv(new CatalogGenerator(7, 500)));
+    }
+
+    @Test
+    void giftSuggestionRows_ShouldBeSkewed() {
+        Map<Interest, Integer> interests = new EnumMap<>(Interest.class);
+        Iterator<CatalogGenerator.GiftSuggestionRow> rows = new CatalogGenerator(42, 20_000).giftSuggestionRows();
+        while (rows.hasNext()) {
+            interests.merge(rows.next().interest(), 1, Integer::sum);
+        }
+
+        int mostCommon = Collections.max(interests.values());
+        int leastCommon = Collections.min(interests.values());
+        assertThat(mostCommon).isGreaterThan(4 * leastCommon);
+    }
+
+    @Test
+    void concreteGifts_ShouldBePricedWithinTheirGiftSuggestion() throws IOException {
+        CatalogGenerator generator = new CatalogGenerator(42, 2_000);
+        Map<String, BigDecimal[]> priceRanges = new HashMap<>();
+        for (String line : giftSuggestionCsv(generator).split("\n")) {
+            String[] columns = line.split(",");
+            BigDecimal minPrice = new BigDecimal(columns[3]);
+            BigDecimal maxPrice = new BigDecimal(columns[4]);
+            assertThat(minPrice).isPositive().isLessThanOrEqualTo(maxPrice);
+            priceRanges.put(columns[0], new BigDecimal[]{minPrice, maxPrice});
+        }
+
+        String[] concreteGifts = concreteGiftCsv(generator).split("\n");
+        assertThat(concreteGifts.length).isGreaterThan(2_000);
+        for (String line : concreteGifts) {
+            String[] columns = line.split(",", -1);
+            BigDecimal[] range = priceRanges.get(columns[7]);
+            assertThat(range).isNotNull();
+            assertThat(new BigDecimal(columns[3])).isBetween(range[0], range[1]);
+        }
+    }
+
+    @Test
+    void constructor_WithoutGiftSuggestions_ShouldThrow() {
+        assertThatThrownBy(() -> new CatalogGenerator(42, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String giftSuggestionCsv(CatalogGenerator generator) throws IOException {
+        StringWriter writer = new StringWriter();
+        generator.writeGiftSuggestions(writer);
+        return writer.toString();
+    }
+
+    private static String concreteGiftCsv(CatalogGenerator generator) throws IOException {
+        StringWriter writer = new StringWriter();
+        generator.writeConcreteGifts(writer);
+        return writer.toString();
+    }
+}
@@ -0,0 +1,478 @@
+package com.giftservice.benchmark;
+
+import com.giftservice.entity.GiftSuggestion;
+import com.giftservice.repository.ConcreteGiftRepository;
+import com.giftservice.repository.GiftSuggestionRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Scale test recording the latency of every finder of {@link GiftSuggestionRepository} and
+ * {@link ConcreteGiftRepository} against catalogs from {@link CatalogGenerator}, by default with
+ * 10k, 1M and 10M gift suggestions and about three concrete gifts each.
+ *
+ * Finders returning unbounded lists are first counted; above {@code benchmark.max-result-rows}
+ * they are recorded as skipped with their result size instead of loading millions of entities.
+ * Each finder is measured for up to {@code benchmark.iterations} calls or
+ * {@code benchmark.finder-seconds} seconds, with ID parameters rotating through a sample of rows.
+ *
+ * Excluded from the default build. Run with:
+ * {@code mvn test -Dsurefire.excludedGroups= -Dgroups=benchmark -Dtest=CatalogScaleBenchmarkTest}
+ * Optional system properties: {@code benchmark.scales} (default 10000,1000000,10000000),
+ * {@code benchmark.seed} (default 42), {@code benchmark.iterations} (default 20),
+ * {@code benchmark.finder-seconds} (default 30) and {@code benchmark.max-result-rows} (default 100000).
+ * Results are written to {@code target/benchmark/catalog-scale.csv}.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+    "spring.jpa.hibernate.ddl-auto=validate",
+    "spring.flyway.enabled=true",
+    "spring.jpa.show-sql=false"
+})
+class CatalogScaleBenchmarkTest {
+
+    private static final List<Integer> SCALES = Arrays.stream(
+                    System.getProperty("benchmark.scales", "10000,1000000,10000000").split(","))
+            .map(String::trim)
+            .map(Integer::valueOf)
+            .toList();
+    private static final long SEED = Long.getLong("benchmark.seed", 42);
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 20);
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final long FINDER_NANOS = Integer.getInteger("benchmark.finder-seconds", 30) * 1_000_000_000L;
+    private static final long MAX_RESULT_ROWS = Long.getLong("benchmark.max-result-rows", 100_000);
+    private static final int SAMPLE_SIZE = 1_000;
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20);
+
+    // Bulk loading millions of rows is bounded by WAL writes, not by durability
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15")
+            .withDatabaseName("test")
+            .withUsername("test")
+            .withPassword("test")
+            .withCommand("postgres", "-c", "max_wal_size=8GB", "-c", "synchronous_commit=off",
+                    "-c", "shared_buffers=512MB");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private GiftSuggestionRepository giftSuggestionRepository;
+
+    @Autowired
+    private ConcreteGiftRepository concreteGiftRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * A repository finder with the rows it selects, for finders whose result is not bounded by a page.
+     *
+     * @param repository the repository interface
+     * @param name the finder name, with the overload after a slash
+     * @param unboundedRowsSql counts the rows an unbounded finder would load, or null if it is bounded
+     * @param query calls the finder for an iteration
+     */
+    private record Finder(Class<?> repository, String name, String unboundedRowsSql, Object[] sqlArgs,
+                          IntFunction<Object> query) {
+
+        static Finder bounded(Class<?> repository, String name, IntFunction<Object> query) {
+            return new Finder(repository, name, null, null, query);
+        }
+
+        static Finder unbounded(Class<?> repository, String name, String countSql, Object[] sqlArgs,
+                                IntFunction<Object> query) {
+            return new Finder(repository, name, countSql, sqlArgs, query);
+        }
+
+        String method() {
+            int overload = name.indexOf('/');
+            return overload < 0 ? name : name.substring(0, overload);
+        }
+    }
+
+    /**
+     * Parameters derived from the loaded catalog.
+     */
+    private record Sample(CatalogGenerator generator, List<UUID> giftSuggestionIds, List<UUID> concreteGiftIds,
+                          List<String> productSkus, LocalDateTime giftSuggestionKeysetDate, UUID giftSuggestionKeysetId,
+                          LocalDateTime concreteGiftKeysetDate, UUID concreteGiftKeysetId) {
+
+        UUID giftSuggestionId(int iteration) {
+            return giftSuggestionIds.get(iteration % giftSuggestionIds.size());
+        }
+
+        GiftSuggestion giftSuggestion(int iteration) {
+            GiftSuggestion reference = new GiftSuggestion();
+            reference.setId(giftSuggestionId(iteration));
+            return reference;
+        }
+
+        UUID concreteGiftId(int iteration) {
+            return concreteGiftIds.get(iteration % concreteGiftIds.size());
+        }
+
+        List<UUID> giftSuggestionPage(int iteration) {
+            int from = (iteration * FIRST_PAGE.getPageSize()) % (giftSuggestionIds.size() - FIRST_PAGE.getPageSize());
+            return giftSuggestionIds.subList(from, from + FIRST_PAGE.getPageSize());
+        }
+    }
+
+    @Test
+    void recordFinderLatenciesAtScale() throws IOException, SQLException {
+        Path output = Path.of("target", "benchmark", "catalog-scale.csv");
+        Files.createDirectories(output.getParent());
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(output))) {
+            writer.println("scale,gift_suggestions,concrete_gifts,repository,finder,status,result_rows,iterations," +
+                    "p50_ms,p99_ms,max_ms");
+
+            for (int scale : SCALES) {
+                CatalogGenerator generator = new CatalogGenerator(SEED, scale);
+                CatalogGenerator.CatalogSize size = load(generator);
+                Sample sample = sample(generator, size);
+
+                List<Finder> finders = finders(sample);
+                assertThat(finders.stream().map(finder -> finder.repository().getSimpleName() + "." + finder.method())
+                        .collect(Collectors.toSet()))
+                        .as("every repository finder is measured")
+                        .containsAll(declaredFinders());
+
+                for (Finder finder : finders) {
+                    measure(writer, scale, size, finder);
+                }
+                writer.flush();
+            }
+        }
+    }
+
+    private CatalogGenerator.CatalogSize load(CatalogGenerator generator) throws IOException, SQLException {
+        jdbcTemplate.execute("TRUNCATE concrete_gifts, gift_suggestions");
+
+        long start = System.nanoTime();
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            CatalogGenerator.CatalogSize size = generator.load(connection);
+            System.out.printf("Loaded %d gift suggestions and %d concrete gifts in %.1f s%n",
+                    size.giftSuggestions(), size.concreteGifts(), (System.nanoTime() - start) / 1e9);
+            return size;
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private Sample sample(CatalogGenerator generator, CatalogGenerator.CatalogSize size) {
+        // Every n-th generated gift suggestion, without scanning the table
+        List<UUID> giftSuggestionIds = new ArrayList<>(SAMPLE_SIZE);
+        long step = Math.max(1, size.giftSuggestions() / SAMPLE_SIZE);
+        Iterator<CatalogGenerator.GiftSuggestionRow> rows = generator.giftSuggestionRows();
+        for (long i = 0; rows.hasNext(); i++) {
+            CatalogGenerator.GiftSuggestionRow row = rows.next();
+            if (i % step == 0) {
+                giftSuggestionIds.add(row.id());
+            }
+        }
+
+        double percent = Math.min(100, 100.0 * 2 * SAMPLE_SIZE / Math.max(size.concreteGifts(), 1));
+        List<UUID> concreteGiftIds = jdbcTemplate.queryForList(
+                "SELECT id FROM concrete_gifts TABLESAMPLE BERNOULLI (" + percent + ") REPEATABLE (42) LIMIT ?",
+                UUID.class, SAMPLE_SIZE);
+        List<String> productSkus = new ArrayList<>();
+        Random random = new Random(SEED);
+        for (int i = 0; i < 100; i++) {
+            productSkus.add("SKU-" + (1 + (long) (random.nextDouble() * size.concreteGifts())));
+        }
+
+        Map<String, Object> giftSuggestionKeyset = jdbcTemplate.queryForMap(
+                "SELECT created_date, id FROM gift_suggestions ORDER BY created_date, id OFFSET ? LIMIT 1",
+                size.giftSuggestions() / 2);
+        Map<String, Object> concreteGiftKeyset = jdbcTemplate.queryForMap(
+                "SELECT created_date, id FROM concrete_gifts ORDER BY created_date, id OFFSET ? LIMIT 1",
+                size.concreteGifts() / 2);
+
+        return new Sample(generator, giftSuggestionIds, concreteGiftIds, productSkus,
+                toLocalDateTime(giftSuggestionKeyset.get("created_date")), (UUID) giftSuggestionKeyset.get("id"),
+                toLocalDateTime(concreteGiftKeyset.get("created_date")), (UUID) concreteGiftKeyset.get("id"));
+    }
+
+    private List<Finder> finders(Sample sample) {
+        GiftSuggestionRepository gs = giftSuggestionRepository;
+        ConcreteGiftRepository cg = concreteGiftRepository;
+        Class<?> g = GiftSuggestionRepository.class;
+        Class<?> c = ConcreteGiftRepository.class;
+        CatalogGenerator generator = sample.generator();
+        var ageGroup = generator.typicalAgeGroup();
+        var gender = generator.typicalGender();
+        var interest = generator.typicalInterest();
+        var occasion = generator.typicalOccasion();
+        var relationship = generator.typicalRelationship();
+        var personalityType = generator.typicalPersonalityType();
+        String vendor = generator.typicalVendor();
+        BigDecimal lowBudget = new BigDecimal("5.00");
+        BigDecimal highBudget = new BigDecimal("1000.00");
+        BigDecimal rangeFrom = new BigDecimal("45.00");
+        BigDecimal rangeTo = new BigDecimal("50.00");
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        return List.of(
+                // GiftSuggestionRepository
+                Finder.unbounded(g, "findByAgeGroup", "SELECT count(*) FROM gift_suggestions WHERE age_group = ?",
+                        new Object[]{ageGroup.name()}, i -> gs.findByAgeGroup(ageGroup)),
+                Finder.unbounded(g, "findByGender", "SELECT count(*) FROM gift_suggestions WHERE gender = ?",
+                        new Object[]{gender.name()}, i -> gs.findByGender(gender)),
+                Finder.unbounded(g, "findByInterest", "SELECT count(*) FROM gift_suggestions WHERE interest = ?",
+                        new Object[]{interest.name()}, i -> gs.findByInterest(interest)),
+                Finder.unbounded(g, "findByOccasion", "SELECT count(*) FROM gift_suggestions WHERE occasion = ?",
+                        new Object[]{occasion.name()}, i -> gs.findByOccasion(occasion)),
+                Finder.unbounded(g, "findByRelationship",
+                        "SELECT count(*) FROM gift_suggestions WHERE relationship = ?",
+                        new Object[]{relationship.name()}, i -> gs.findByRelationship(relationship)),
+                Finder.unbounded(g, "findByPersonalityType",
+                        "SELECT count(*) FROM gift_suggestions WHERE personality_type = ?",
+                        new Object[]{personalityType.name()}, i -> gs.findByPersonalityType(personalityType)),
+                Finder.unbounded(g, "findByAgeGroupAndGender",
+                        "SELECT count(*) FROM gift_suggestions WHERE age_group = ? AND gender = ?",
+                        new Object[]{ageGroup.name(), gender.name()}, i -> gs.findByAgeGroupAndGender(ageGroup, gender)),
+                Finder.unbounded(g, "findByAgeGroupAndInterest",
+                        "SELECT count(*) FROM gift_suggestions WHERE age_group = ? AND interest = ?",
+                        new Object[]{ageGroup.name(), interest.name()},
+                        i -> gs.findByAgeGroupAndInterest(ageGroup, interest)),
+                Finder.unbounded(g, "findByGenderAndInterest",
+                        "SELECT count(*) FROM gift_suggestions WHERE gender = ? AND interest = ?",
+                        new Object[]{gender.name(), interest.name()}, i -> gs.findByGenderAndInterest(gender, interest)),
+                Finder.unbounded(g, "findByOccasionAndRelationship",
+                        "SELECT count(*) FROM gift_suggestions WHERE occasion = ? AND relationship = ?",
+                        new Object[]{occasion.name(), relationship.name()},
+                        i -> gs.findByOccasionAndRelationship(occasion, relationship)),
+                Finder.unbounded(g, "findByAgeGroupAndGenderAndInterest",
+                        "SELECT count(*) FROM gift_suggestions WHERE age_group = ? AND gender = ? AND interest = ?",
+                        new Object[]{ageGroup.name(), gender.name(), interest.name()},
+                        i -> gs.findByAgeGroupAndGenderAndInterest(ageGroup, gender, interest)),
+                Finder.unbounded(g, "findByMinPriceLessThanEqual",
+                        "SELECT count(*) FROM gift_suggestions WHERE min_price <= ?",
+                        new Object[]{lowBudget}, i -> gs.findByMinPriceLessThanEqual(lowBudget)),
+                Finder.unbounded(g, "findByMaxPriceGreaterThanEqual",
+                        "SELECT count(*) FROM gift_suggestions WHERE max_price >= ?",
+                        new Object[]{highBudget}, i -> gs.findByMaxPriceGreaterThanEqual(highBudget)),
+                Finder.unbounded(g, "findGiftsWithinBudget",
+                        "SELECT count(*) FROM gift_suggestions WHERE max_price >= ? AND min_price <= ?",
+                        new Object[]{rangeFrom, rangeTo}, i -> gs.findGiftsWithinBudget(rangeFrom, rangeTo)),
+                Finder.unbounded(g, "findAffordableGifts", "SELECT count(*) FROM gift_suggestions WHERE min_price <= ?",
+                        new Object[]{lowBudget}, i -> gs.findAffordableGifts(lowBudget)),
+                Finder.bounded(g, "findByAgeGroupAndGenderAndInterestAndOccasion",
+                        i -> gs.findByAgeGroupAndGenderAndInterestAndOccasion(ageGroup, gender, interest, occasion,
+                                FIRST_PAGE)),
+                Finder.bounded(g, "findByAdvancedCriteria",
+                        i -> gs.findByAdvancedCriteria(ageGroup, null, null, occasion, null, null, rangeTo, FIRST_PAGE)),
+                Finder.bounded(g, "findByPriceRangeWithPagination",
+                        i -> gs.findByPriceRangeWithPagination(rangeFrom, rangeTo, FIRST_PAGE)),
+                Finder.bounded(g, "countByAdvancedCriteria",
+                        i -> gs.countByAdvancedCriteria(ageGroup, null, null, occasion, null, null, rangeTo)),
+                Finder.bounded(g, "findWithConcreteGiftsById",
+                        i -> gs.findWithConcreteGiftsById(sample.giftSuggestionId(i))),
+                Finder.bounded(g, "findWithConcreteGiftsByIdIn",
+                        i -> gs.findWithConcreteGiftsByIdIn(sample.giftSuggestionPage(i))),
+                Finder.bounded(g, "findAllIds", i -> gs.findAllIds(FIRST_PAGE)),
+                Finder.bounded(g, "findIdsWithAvailableConcreteGifts",
+                        i -> gs.findIdsWithAvailableConcreteGifts(FIRST_PAGE)),
+                Finder.bounded(g, "findLastModifiedDateById",
+                        i -> gs.findLastModifiedDateById(sample.giftSuggestionId(i))),
+                Finder.bounded(g, "findAllSummaries", i -> gs.findAllSummaries(FIRST_PAGE)),
+                Finder.unbounded(g, "findSummariesWithinBudget",
+                        "SELECT count(*) FROM gift_suggestions WHERE max_price >= ? AND min_price <= ?",
+                        new Object[]{rangeFrom, rangeTo}, i -> gs.findSummariesWithinBudget(rangeFrom, rangeTo)),
+                Finder.bounded(g, "findFirstSliceOrderByCreatedDate",
+                        i -> gs.findFirstSliceOrderByCreatedDate(FIRST_PAGE)),
+                Finder.bounded(g, "findSliceAfterOrderByCreatedDate",
+                        i -> gs.findSliceAfterOrderByCreatedDate(sample.giftSuggestionKeysetDate(),
+                                sample.giftSuggestionKeysetId(), FIRST_PAGE)),
+                Finder.bounded(g, "streamAllOrderById", i -> readOnly.execute(status -> {
+                    try (Stream<GiftSuggestion> stream = gs.streamAllOrderById()) {
+                        return stream.limit(1_000).count();
+                    }
+                })),
+                Finder.bounded(g, "streamAllWithConcreteGiftsOrderById", i -> readOnly.execute(status -> {
+                    try (Stream<Object[]> stream = gs.streamAllWithConcreteGiftsOrderById()) {
+                        return stream.limit(1_000).count();
+                    }
+                })),
+
+                // ConcreteGiftRepository
+                Finder.unbounded(c, "findByGiftSuggestion",
+                        "SELECT count(*) FROM concrete_gifts WHERE gift_suggestion_id = ?",
+                        new Object[]{sample.giftSuggestionId(0)}, i -> cg.findByGiftSuggestion(sample.giftSuggestion(i))),
+                Finder.unbounded(c, "findByGiftSuggestionId",
+                        "SELECT count(*) FROM concrete_gifts WHERE gift_suggestion_id = ?",
+                        new Object[]{sample.giftSuggestionId(0)}, i -> cg.findByGiftSuggestionId(sample.giftSuggestionId(i))),
+                Finder.unbounded(c, "findByVendorName", "SELECT count(*) FROM concrete_gifts WHERE vendor_name = ?",
+                        new Object[]{vendor}, i -> cg.findByVendorName(vendor)),
+                Finder.unbounded(c, "findByAvailable", "SELECT count(*) FROM concrete_gifts WHERE available = ?",
+                        new Object[]{false}, i -> cg.findByAvailable(false)),
+                Finder.unbounded(c, "findByVendorNameAndAvailable",
+                        "SELECT count(*) FROM concrete_gifts WHERE vendor_name = ? AND available = ?",
+                        new Object[]{vendor, true}, i -> cg.findByVendorNameAndAvailable(vendor, true)),
+                Finder.unbounded(c, "findByGiftSuggestionAndAvailable",
+                        "SELECT count(*) FROM concrete_gifts WHERE gift_suggestion_id = ? AND available = ?",
+                        new Object[]{sample.giftSuggestionId(0), true},
+                        i -> cg.findByGiftSuggestionAndAvailable(sample.giftSuggestion(i), true)),
+                Finder.unbounded(c, "findByGiftSuggestionIdAndAvailable",
+                        "SELECT count(*) FROM concrete_gifts WHERE gift_suggestion_id = ? AND available = ?",
+                        new Object[]{sample.giftSuggestionId(0), true},
+                        i -> cg.findByGiftSuggestionIdAndAvailable(sample.giftSuggestionId(i), true)),
+                Finder.unbounded(c, "findAllAvailable", "SELECT count(*) FROM concrete_gifts WHERE available",
+                        new Object[0], i -> cg.findAllAvailable()),
+                Finder.unbounded(c, "findAllUnavailable", "SELECT count(*) FROM concrete_gifts WHERE NOT available",
+                        new Object[0], i -> cg.findAllUnavailable()),
+                Finder.unbounded(c, "findByPriceRange",
+                        "SELECT count(*) FROM concrete_gifts WHERE exact_price >= ? AND exact_price <= ?",
+                        new Object[]{rangeFrom, rangeTo}, i -> cg.findByPriceRange(rangeFrom, rangeTo)),
+                Finder.unbounded(c, "findByExactPriceLessThanEqual",
+                        "SELECT count(*) FROM concrete_gifts WHERE exact_price <= ?",
+                        new Object[]{lowBudget}, i -> cg.findByExactPriceLessThanEqual(lowBudget)),
+                Finder.unbounded(c, "findByExactPriceGreaterThanEqual",
+                        "SELECT count(*) FROM concrete_gifts WHERE exact_price >= ?",
+                        new Object[]{highBudget}, i -> cg.findByExactPriceGreaterThanEqual(highBudget)),
+                Finder.bounded(c, "findByGiftSuggestion/page",
+                        i -> cg.findByGiftSuggestion(sample.giftSuggestion(i), FIRST_PAGE)),
+                Finder.bounded(c, "findByVendorNameAndAvailable/page",
+                        i -> cg.findByVendorNameAndAvailable(generator.largestVendor(), true, FIRST_PAGE)),
+                Finder.bounded(c, "findByAdvancedCriteria",
+                        i -> cg.findByAdvancedCriteria(vendor, true, rangeFrom, rangeTo, FIRST_PAGE)),
+                Finder.bounded(c, "findBySuggestionAndCriteria/id",
+                        i -> cg.findBySuggestionAndCriteria(sample.giftSuggestionId(i), true, null, null, FIRST_PAGE)),
+                Finder.bounded(c, "findBySuggestionAndCriteria/facets",
+                        i -> cg.findBySuggestionAndCriteria(ageGroup, null, null, occasion, null, null, null, true,
+                                null, rangeTo, FIRST_PAGE)),
+                Finder.bounded(c, "countByVendorAndAvailable",
+                        i -> cg.countByVendorAndAvailable(generator.largestVendor(), true)),
+                Finder.bounded(c, "countByGiftSuggestionId", i -> cg.countByGiftSuggestionId(sample.giftSuggestionId(i))),
+                Finder.bounded(c, "countGroupedByGiftSuggestionIds",
+                        i -> cg.countGroupedByGiftSuggestionIds(sample.giftSuggestionPage(i))),
+                Finder.bounded(c, "findVendorSkusByProductSkuIn",
+                        i -> cg.findVendorSkusByProductSkuIn(sample.productSkus())),
+                Finder.bounded(c, "findLastModifiedDateById", i -> cg.findLastModifiedDateById(sample.concreteGiftId(i))),
+                Finder.bounded(c, "findAllSummaries", i -> cg.findAllSummaries(FIRST_PAGE)),
+                Finder.bounded(c, "findSummariesByGiftSuggestionId",
+                        i -> cg.findSummariesByGiftSuggestionId(sample.giftSuggestionId(i), FIRST_PAGE)),
+                Finder.bounded(c, "findFirstSliceOrderByCreatedDate",
+                        i -> cg.findFirstSliceOrderByCreatedDate(FIRST_PAGE)),
+                Finder.bounded(c, "findSliceAfterOrderByCreatedDate",
+                        i -> cg.findSliceAfterOrderByCreatedDate(sample.concreteGiftKeysetDate(),
+                                sample.concreteGiftKeysetId(), FIRST_PAGE)),
+                Finder.bounded(c, "streamAllOrderById", i -> readOnly.execute(status -> {
+                    try (Stream<?> stream = cg.streamAllOrderById()) {
+                        return stream.limit(1_000).count();
+                    }
+                })));
+    }
+
+    /**
+     * The query methods declared by the repositories, which the scale test must all measure.
+     */
+    private static Set<String> declaredFinders() {
+        return Stream.of(GiftSuggestionRepository.class, ConcreteGiftRepository.class)
+                .flatMap(repository -> Arrays.stream(repository.getDeclaredMethods())
+                        .filter(method -> !method.isSynthetic() && !Modifier.isStatic(method.getModifiers()))
+                        .map(Method::getName)
+                        .map(name -> repository.getSimpleName() + "." + name))
+                .collect(Collectors.toSet());
+    }
+
+    private void measure(PrintWriter writer, int scale, CatalogGenerator.CatalogSize size, Finder finder) {
+        String prefix = String.format("%d,%d,%d,%s,%s", scale, size.giftSuggestions(), size.concreteGifts(),
+                finder.repository().getSimpleName(), finder.name());
+
+        Long resultRows = null;
+        if (finder.unboundedRowsSql() != null) {
+            resultRows = jdbcTemplate.queryForObject(finder.unboundedRowsSql(), Long.class, finder.sqlArgs());
+            if (resultRows > MAX_RESULT_ROWS) {
+                writer.printf("%s,skipped,%d,0,,,%n", prefix, resultRows);
+                System.out.printf("%-10d %-60s skipped, would load %d rows%n", scale,
+                        finder.repository().getSimpleName() + "." + finder.name(), resultRows);
+                return;
+            }
+        }
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            finder.query().apply(i);
+        }
+
+        long[] samples = new long[ITERATIONS];
+        int count = 0;
+        long deadline = System.nanoTime() + FINDER_NANOS;
+        while (count < ITERATIONS && (count == 0 || System.nanoTime() < deadline)) {
+            long start = System.nanoTime();
+            finder.query().apply(WARMUP_ITERATIONS + count);
+            samples[count++] = System.nanoTime() - start;
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+
+        double p50 = percentile(sorted, 0.50);
+        double p99 = percentile(sorted, 0.99);
+        double max = percentile(sorted, 1.0);
+        writer.printf("%s,measured,%s,%d,%.3f,%.3f,%.3f%n", prefix, resultRows == null ? "" : resultRows, count,
+                p50, p99, max);
+        System.out.printf("%-10d %-60s p50=%10.3f ms  p99=%10.3f ms%n", scale,
+                finder.repository().getSimpleName() + "." + finder.name(), p50, p99);
+    }
+
+    private static LocalDateTime toLocalDateTime(Object timestamp) {
+        return ((java.sql.Timestamp) timestamp).toLocalDateTime();
+    }
+
+    private static double percentile(long[] sortedSamples, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedSamples.length) - 1;
+        return sortedSamples[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
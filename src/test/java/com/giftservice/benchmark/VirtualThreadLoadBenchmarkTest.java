@@ -0,0 +1,241 @@
+package com.giftservice.benchmark;
+
+import com.giftservice.GiftServiceApplication;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.PrintWriter;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Load test comparing request handling on platform threads with the virtual-threads profile.
+ * Both runs use the same Hikari pool size, so the comparison shows how far request concurrency
+ * beyond Tomcat's thread pool helps while threads mostly wait on PostgreSQL.
+ * The virtual thread run records JFR pinning events and fails if application code pinned a carrier.
+ *
+ * The virtual thread run needs Java 21 or later and is skipped on older runtimes.
+ * Excluded from the default build. Run with:
+ * {@code mvn test -Dsurefire.excludedGroups= -Dgroups=benchmark -Dtest=VirtualThreadLoadBenchmarkTest}
+ * Optional system properties: {@code benchmark.rows} (default 20000), {@code benchmark.clients}
+ * (default 400), {@code benchmark.pool-size} (default 10) and {@code benchmark.seconds} (default 30).
+ * Results are written to {@code target/benchmark/virtual-threads.csv}.
+ */
+@Tag("benchmark")
+@Testcontainers
+class VirtualThreadLoadBenchmarkTest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 20_000);
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 400);
+    private static final int POOL_SIZE = Integer.getInteger("benchmark.pool-size", 10);
+    private static final Duration WARMUP = Duration.ofSeconds(10);
+    private static final Duration MEASUREMENT = Duration.ofSeconds(Integer.getInteger("benchmark.seconds", 30));
+    private static final int PAGE_SIZE = 20;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15")
+            .withDatabaseName("test")
+            .withUsername("test")
+            .withPassword("test");
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+
+    /**
+     * Outcome of one measured run.
+     */
+    private record RunResult(long[] sortedLatencies, long errors, Duration elapsed, long pinnedEvents) {
+    }
+
+    @Test
+    void comparePlatformThreadsWithVirtualThreads() throws Exception {
+        List<UUID> ids;
+        RunResult platform;
+        try (ConfigurableApplicationContext context = start("prod")) {
+            ids = seedCatalog(context.getBean(JdbcTemplate.class));
+            platform = measure(port(context), ids, false);
+        }
+
+        RunResult virtual = null;
+        if (Runtime.version().feature() >= 21) {
+            try (ConfigurableApplicationContext context = start("prod,virtual-threads")) {
+                virtual = measure(port(context), ids, true);
+            }
+        } else {
+            System.out.printf("Skipping virtual thread run, Java %d does not support virtual threads%n",
+                    Runtime.version().feature());
+        }
+
+        Path output = Path.of("target", "benchmark", "virtual-threads.csv");
+        Files.createDirectories(output.getParent());
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(output))) {
+            writer.println("mode,clients,pool_size,requests,errors,throughput_rps,p50_ms,p99_ms,max_ms,pinned_events");
+            report(writer, "platform", platform);
+            if (virtual != null) {
+                report(writer, "virtual", virtual);
+            }
+        }
+
+        assertThat(platform.errors()).isZero();
+        if (virtual != null) {
+            assertThat(virtual.errors()).isZero();
+            assertThat(virtual.pinnedEvents()).as("carrier threads pinned by application code").isZero();
+        }
+    }
+
+    private ConfigurableApplicationContext start(String profiles) {
+        return new SpringApplicationBuilder(GiftServiceApplication.class).run(
+                "--spring.profiles.active=" + profiles,
+                "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                "--spring.datasource.username=" + postgres.getUsername(),
+                "--spring.datasource.password=" + postgres.getPassword(),
+                "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                "--server.port=0");
+    }
+
+    private static int port(ConfigurableApplicationContext context) {
+        return context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+    }
+
+    private static List<UUID> seedCatalog(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update(
+                "INSERT INTO gift_suggestions (name, description, min_price, max_price, age_group, gender, " +
+                "interest, occasion, relationship, personality_type) " +
+                "SELECT 'Gift ' || i, 'Load test gift ' || i, 10 + i % 90, 100 + i % 400, 'ADULT', 'UNISEX', " +
+                "'READING', 'BIRTHDAY', 'FRIEND', 'CREATIVE' FROM generate_series(1, ?) AS i",
+                ROWS);
+        jdbcTemplate.execute("ANALYZE gift_suggestions");
+        return jdbcTemplate.queryForList("SELECT id FROM gift_suggestions", UUID.class);
+    }
+
+    private RunResult measure(int port, List<UUID> ids, boolean recordPinning) throws Exception {
+        drive(port, ids, WARMUP, new LongAdder());
+
+        if (!recordPinning) {
+            LongAdder errors = new LongAdder();
+            long start = System.nanoTime();
+            long[] latencies = drive(port, ids, MEASUREMENT, errors);
+            return new RunResult(latencies, errors.sum(), Duration.ofNanos(System.nanoTime() - start), 0);
+        }
+
+        LongAdder pinnedEvents = new LongAdder();
+        try (RecordingStream pinning = new RecordingStream()) {
+            pinning.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            pinning.onEvent("jdk.VirtualThreadPinned", event -> {
+                if (event.getStackTrace() != null && event.getStackTrace().getFrames().stream()
+                        .map(RecordedFrame::getMethod)
+                        .anyMatch(method -> method.getType().getName().startsWith("com.giftservice."))) {
+                    pinnedEvents.increment();
+                }
+            });
+            pinning.startAsync();
+
+            LongAdder errors = new LongAdder();
+            long start = System.nanoTime();
+            long[] latencies = drive(port, ids, MEASUREMENT, errors);
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+            return new RunResult(latencies, errors.sum(), elapsed, pinnedEvents.sum());
+        }
+    }
+
+    /**
+     * Issue requests from all clients until the duration has passed.
+     * Clients alternate between a summary page, which counts and selects rows, and a conditional
+     * single resource GET, which reads the modification date before loading the gift suggestion.
+     *
+     * @return the sorted latencies in nanoseconds
+     */
+    private long[] drive(int port, List<UUID> ids, Duration duration, LongAdder errors) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        int pages = Math.max(ids.size() / PAGE_SIZE, 1);
+
+        List<Callable<long[]>> clients = new ArrayList<>(CLIENTS);
+        for (int client = 0; client < CLIENTS; client++) {
+            clients.add(() -> {
+                long[] latencies = new long[1024];
+                int count = 0;
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.nanoTime() < deadline) {
+                    String path = random.nextBoolean()
+                            ? "/api/gift-suggestions?page=" + random.nextInt(pages) + "&size=" + PAGE_SIZE
+                            : "/api/gift-suggestions/" + ids.get(random.nextInt(ids.size()));
+                    HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                            .GET()
+                            .build();
+
+                    long start = System.nanoTime();
+                    HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                    long latency = System.nanoTime() - start;
+
+                    if (response.statusCode() != 200) {
+                        errors.increment();
+                    }
+                    if (count == latencies.length) {
+                        latencies = Arrays.copyOf(latencies, count * 2);
+                    }
+                    latencies[count++] = latency;
+                }
+                return Arrays.copyOf(latencies, count);
+            });
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENTS);
+        try {
+            List<long[]> perClient = new ArrayList<>(CLIENTS);
+            for (Future<long[]> future : executor.invokeAll(clients)) {
+                perClient.add(future.get());
+            }
+            long[] all = perClient.stream().flatMapToLong(Arrays::stream).toArray();
+            Arrays.sort(all);
+            return all;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void report(PrintWriter writer, String mode, RunResult result) {
+        long[] latencies = result.sortedLatencies();
+        double throughput = latencies.length / (result.elapsed().toNanos() / 1_000_000_000.0);
+        double p50 = percentile(latencies, 0.50);
+        double p99 = percentile(latencies, 0.99);
+        double max = percentile(latencies, 1.0);
+        writer.printf("%s,%d,%d,%d,%d,%.1f,%.3f,%.3f,%.3f,%d%n", mode, CLIENTS, POOL_SIZE, latencies.length,
+                result.errors(), throughput, p50, p99, max, result.pinnedEvents());
+        System.out.printf("%-8s %8.1f req/s  p50=%8.3f ms  p99=%8.3f ms  max=%8.3f ms  errors=%d  pinned=%d%n",
+                mode, throughput, p50, p99, max, result.errors(), result.pinnedEvents());
+    }
+
+    private static double percentile(long[] sortedSamples, double percentile) {
+        if (sortedSamples.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedSamples.length) - 1;
+        return sortedSamples[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
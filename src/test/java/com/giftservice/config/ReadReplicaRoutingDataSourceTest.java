@@ -0,0 +1,163 @@
+package com.giftservice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReadReplicaRoutingDataSourceTest {
+
+    private HikariDataSource primary;
+    private HikariDataSource firstReplica;
+    private HikariDataSource secondReplica;
+    private Connection primaryConnection;
+    private Connection firstReplicaConnection;
+    private Connection secondReplicaConnection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        primary = mock(HikariDataSource.class);
+        firstReplica = mock(HikariDataSource.class);
+        secondReplica = mock(HikariDataSource.class);
+        primaryConnection = mock(Connection.class);
+        firstReplicaConnection = mock(Connection.class);
+        secondReplicaConnection = mock(Connection.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(firstReplica.getConnection()).thenReturn(firstReplicaConnection);
+        when(secondReplica.getConnection()).thenReturn(secondReplicaConnection);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void getConnection_OutsideReadOnlyTransaction_ShouldUsePrimary() throws SQLException {
+        ReadReplicaRoutingDataSource dataSource = routingDataSource(ReadReplicaRoutingDataSource.Selection.ROUND_ROBIN,
+                Duration.ofSeconds(30), Duration.ZERO);
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void getConnection_InReadOnlyTransaction_ShouldRotateReplicas() throws SQLException {
+        ReadReplicaRoutingDataSource dataSource = routingDataSource(ReadReplicaRoutingDataSource.Selection.ROUND_ROBIN,
+                Duration.ofSeconds(30), Duration.ZERO);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(List.of(dataSource.getConnection(), dataSource.getConnection(), dataSource.getConnection()))
+                .containsExactly(firstReplicaConnection, secondReplicaConnection, firstReplicaConnection);
+    }
+
+    @Test
+    void getConnection_WithLeastConnections_ShouldUseLeastBusyReplica() throws SQLException {
+        givenActiveConnections(firstReplica, 5);
+        givenActiveConnections(secondReplica, 2);
+        ReadReplicaRoutingDataSource dataSource = routingDataSource(
+                ReadReplicaRoutingDataSource.Selection.LEAST_CONNECTIONS, Duration.ofSeconds(30), Duration.ZERO);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(List.of(dataSource.getConnection(), dataSource.getConnection()))
+                .containsOnly(secondReplicaConnection);
+    }
+
+    @Test
+    void getConnection_WhenReplicaFails_ShouldFailOverAndSkipItDuringCooldown() throws SQLException {
+        when(firstReplica.getConnection()).thenThrow(new SQLException("Connection refused"));
+        ReadReplicaRoutingDataSource dataSource = routingDataSource(ReadReplicaRoutingDataSource.Selection.ROUND_ROBIN,
+                Duration.ofSeconds(30), Duration.ZERO);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(List.of(dataSource.getConnection(), dataSource.getConnection(), dataSource.getConnection()))
+                .containsOnly(secondReplicaConnection);
+        verify(firstReplica, times(1)).getConnection();
+    }
+
+    @Test
+    void getConnection_WhenAllReplicasFail_ShouldUsePrimary() throws SQLException {
+        when(firstReplica.getConnection()).thenThrow(new SQLException("Connection refused"));
+        when(secondReplica.getConnection()).thenThrow(new SQLException("Connection refused"));
+        ReadReplicaRoutingDataSource dataSource = routingDataSource(ReadReplicaRoutingDataSource.Selection.ROUND_ROBIN,
+                Duration.ZERO, Duration.ZERO);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void getConnection_AfterCommittedWrite_ShouldUsePrimaryWithinReadYourWritesWindow() throws SQLException {
+        ReadReplicaRoutingDataSource dataSource = routingDataSource(ReadReplicaRoutingDataSource.Selection.ROUND_ROBIN,
+                Duration.ofSeconds(30), Duration.ofHours(1));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(dataSource.getConnection()).isSameAs(firstReplicaConnection);
+
+        // A write transaction commits
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.initSynchronization();
+        dataSource.getConnection();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void getConnection_OutsideTransaction_ShouldNotStartReadYourWritesWindow() throws SQLException {
+        ReadReplicaRoutingDataSource dataSource = routingDataSource(ReadReplicaRoutingDataSource.Selection.ROUND_ROBIN,
+                Duration.ofSeconds(30), Duration.ofHours(1));
+
+        // E.g. a health check or a migration
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        TransactionSynchronizationManager.initSynchronization();
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(dataSource.getConnection()).isSameAs(firstReplicaConnection);
+    }
+
+    @Test
+    void constructor_WithoutReplicas_ShouldThrow() {
+        assertThatThrownBy(() -> new ReadReplicaRoutingDataSource(primary, List.of(),
+                ReadReplicaRoutingDataSource.Selection.ROUND_ROBIN, Duration.ofSeconds(30), Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("read replica");
+    }
+
+    private ReadReplicaRoutingDataSource routingDataSource(ReadReplicaRoutingDataSource.Selection selection,
+                                                           Duration failoverCooldown,
+                                                           Duration readYourWritesWindow) {
+        return new ReadReplicaRoutingDataSource(primary, List.of(firstReplica, secondReplica), selection,
+                failoverCooldown, readYourWritesWindow);
+    }
+
+    private static void givenActiveConnections(HikariDataSource replica, int activeConnections) {
+        HikariPoolMXBean pool = mock(HikariPoolMXBean.class);
+        when(pool.getActiveConnections()).thenReturn(activeConnections);
+        when(replica.getHikariPoolMXBean()).thenReturn(pool);
+    }
+}
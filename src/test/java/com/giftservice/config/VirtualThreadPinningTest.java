@@ -0,0 +1,81 @@
+package com.giftservice.config;
+
+import com.giftservice.GiftServiceApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.asm.ClassReader;
+import org.springframework.asm.ClassVisitor;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.SpringAsmInfo;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards the virtual thread execution mode against carrier pinning.
+ * A virtual thread that blocks on JDBC while holding a monitor pins its carrier thread,
+ * so the application classes must neither declare synchronized methods nor synchronized blocks.
+ */
+class VirtualThreadPinningTest {
+
+    @Test
+    void applicationClasses_ShouldNotUseMonitors() throws IOException, URISyntaxException {
+        // Given
+        Path classes = Path.of(GiftServiceApplication.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        List<String> monitorUsages = new ArrayList<>();
+
+        // When
+        try (Stream<Path> files = Files.walk(classes)) {
+            for (Path file : files.filter(path -> path.toString().endsWith(".class")).toList()) {
+                try (InputStream input = Files.newInputStream(file)) {
+                    new ClassReader(input).accept(new MonitorFinder(monitorUsages), ClassReader.SKIP_DEBUG);
+                }
+            }
+        }
+
+        // Then
+        assertThat(monitorUsages).isEmpty();
+    }
+
+    private static final class MonitorFinder extends ClassVisitor {
+
+        private final List<String> monitorUsages;
+        private String className;
+
+        MonitorFinder(List<String> monitorUsages) {
+            super(SpringAsmInfo.ASM_VERSION);
+            this.monitorUsages = monitorUsages;
+        }
+
+        @Override
+        public void visit(int version, int access, String name, String signature, String superName,
+                          String[] interfaces) {
+            className = name.replace('/', '.');
+        }
+
+        @Override
+        public MethodVisitor visitMethod(int access, String name, String descriptor, String signature,
+                                         String[] exceptions) {
+            String method = className + "#" + name;
+            if ((access & Opcodes.ACC_SYNCHRONIZED) != 0) {
+                monitorUsages.add(method + " is synchronized");
+            }
+            return new MethodVisitor(SpringAsmInfo.ASM_VERSION) {
+                @Override
+                public void visitInsn(int opcode) {
+                    if (opcode == Opcodes.MONITORENTER) {
+                        monitorUsages.add(method + " has a synchronized block");
+                    }
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.giftservice.controller;
+
+import com.giftservice.entity.ConcreteGift;
+import com.giftservice.entity.GiftSuggestion;
+import com.giftservice.service.ConcreteGiftService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ConcreteGiftController.class)
+@Import(ConditionalResponses.class)
+class ConcreteGiftControllerTest {
+
+    // Required by the JPA auditing enabled on the application class
+    @MockBean
+    private JpaMetamodelMappingContext jpaMetamodelMappingContext;
+
+    @MockBean
+    private ConcreteGiftService concreteGiftService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private UUID id;
+    private UUID giftSuggestionId;
+    private ConcreteGift concreteGift;
+
+    @BeforeEach
+    void setUp() {
+        id = UUID.randomUUID();
+        giftSuggestionId = UUID.randomUUID();
+        GiftSuggestion giftSuggestion = new GiftSuggestion();
+        giftSuggestion.setId(giftSuggestionId);
+        concreteGift = new ConcreteGift("Effective Java", "Java best practices", new BigDecimal("45.99"),
+                "Amazon", giftSuggestion);
+        concreteGift.setId(id);
+        concreteGift.setCreatedDate(LocalDateTime.of(2024, 5, 17, 10, 15, 30));
+    }
+
+    @Test
+    void findById_WithoutModification_ShouldUseCreationDateAsValidator() throws Exception {
+        // Given
+        when(concreteGiftService.findLastModifiedDate(id)).thenReturn(Optional.of(concreteGift.getCreatedDate()));
+        when(concreteGiftService.findById(id)).thenReturn(Optional.of(concreteGift));
+
+        // When & Then
+        mockMvc.perform(get("/api/concrete-gifts/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.giftSuggestionId").value(giftSuggestionId.toString()))
+                .andExpect(jsonPath("$.available").value(true))
+                .andExpect(header().string(HttpHeaders.ETAG, ConditionalResponses.eTag(concreteGift.getCreatedDate())));
+    }
+
+    @Test
+    void findById_WithMatchingETag_ShouldReturnNotModifiedWithoutLoading() throws Exception {
+        // Given
+        when(concreteGiftService.findLastModifiedDate(id)).thenReturn(Optional.of(concreteGift.getCreatedDate()));
+
+        // When & Then
+        mockMvc.perform(get("/api/concrete-gifts/{id}", id)
+                        .header(HttpHeaders.IF_NONE_MATCH, ConditionalResponses.eTag(concreteGift.getCreatedDate())))
+                .andExpect(status().isNotModified());
+        verify(concreteGiftService, never()).findById(any());
+    }
+
+    @Test
+    void create_ShouldReferenceGiftSuggestionById() throws Exception {
+        // Given
+        when(concreteGiftService.create(any(ConcreteGift.class))).thenReturn(concreteGift);
+
+        // When
+        mockMvc.perform(post("/api/concrete-gifts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "Effective Java", "description": "Java best practices", "exactPrice": 45.99,
+                                 "vendorName": "Amazon", "giftSuggestionId": "%s"}
+                                """.formatted(giftSuggestionId)))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(HttpHeaders.LOCATION, "http://localhost/api/concrete-gifts/" + id));
+
+        // Then
+        ArgumentCaptor<ConcreteGift> captor = ArgumentCaptor.forClass(ConcreteGift.class);
+        verify(concreteGiftService).create(captor.capture());
+        assertThat(captor.getValue().getGiftSuggestion().getId()).isEqualTo(giftSuggestionId);
+        assertThat(captor.getValue().getAvailable()).isTrue();
+    }
+}
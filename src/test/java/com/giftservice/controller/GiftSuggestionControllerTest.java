@@ -0,0 +1,229 @@
+package com.giftservice.controller;
+
+import com.giftservice.entity.GiftSuggestion;
+import com.giftservice.enums.*;
+import com.giftservice.repository.projection.GiftSuggestionSummary;
+import com.giftservice.service.ConcreteGiftService;
+import com.giftservice.service.GiftSuggestionService;
+import com.giftservice.service.GiftSuggestionSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(GiftSuggestionController.class)
+@Import(ConditionalResponses.class)
+class GiftSuggestionControllerTest {
+
+    // Required by the JPA auditing enabled on the application class
+    @MockBean
+    private JpaMetamodelMappingContext jpaMetamodelMappingContext;
+
+    @MockBean
+    private GiftSuggestionService giftSuggestionService;
+
+    @MockBean
+    private ConcreteGiftService concreteGiftService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private UUID id;
+    private GiftSuggestion giftSuggestion;
+    private LocalDateTime lastModifiedDate;
+
+    @BeforeEach
+    void setUp() {
+        id = UUID.randomUUID();
+        lastModifiedDate = LocalDateTime.of(2024, 5, 17, 10, 15, 30, 123_456_000);
+        giftSuggestion = new GiftSuggestion(
+                "Smart Watch",
+                "Fitness tracking smart watch",
+                new BigDecimal("150.00"),
+                new BigDecimal("400.00"),
+                AgeGroup.ADULT,
+                Gender.UNISEX,
+                Interest.TECHNOLOGY,
+                Occasion.BIRTHDAY,
+                Relationship.FRIEND,
+                PersonalityType.ANALYTICAL
+        );
+        giftSuggestion.setId(id);
+        giftSuggestion.setCreatedDate(lastModifiedDate.minusDays(1));
+        giftSuggestion.setLastModifiedDate(lastModifiedDate);
+    }
+
+    @Test
+    void findById_ShouldReturnGiftSuggestionWithValidators() throws Exception {
+        // Given
+        when(giftSuggestionService.findLastModifiedDate(id)).thenReturn(Optional.of(lastModifiedDate));
+        when(giftSuggestionService.findSnapshotById(id)).thenReturn(Optional.of(GiftSuggestionSnapshot.from(giftSuggestion)));
+
+        // When & Then
+        mockMvc.perform(get("/api/gift-suggestions/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Smart Watch"))
+                .andExpect(jsonPath("$.minPrice").value(150.00))
+                .andExpect(header().string(HttpHeaders.ETAG, ConditionalResponses.eTag(lastModifiedDate)))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=0, must-revalidate, public"));
+    }
+
+    @Test
+    void findById_WithMatchingETag_ShouldReturnNotModifiedWithoutLoading() throws Exception {
+        // Given
+        when(giftSuggestionService.findLastModifiedDate(id)).thenReturn(Optional.of(lastModifiedDate));
+
+        // When & Then
+        mockMvc.perform(get("/api/gift-suggestions/{id}", id)
+                        .header(HttpHeaders.IF_NONE_MATCH, ConditionalResponses.eTag(lastModifiedDate)))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""))
+                .andExpect(header().string(HttpHeaders.ETAG, ConditionalResponses.eTag(lastModifiedDate)))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=0, must-revalidate, public"));
+        verify(giftSuggestionService, never()).findSnapshotById(any());
+    }
+
+    @Test
+    void eTag_ShouldRoundToStoredMicrosecondsHalfUp() {
+        LocalDateTime stored = LocalDateTime.of(2024, 5, 17, 10, 15, 30, 123_457_000);
+
+        assertThat(ConditionalResponses.eTag(stored.minusNanos(500))).isEqualTo(ConditionalResponses.eTag(stored));
+        assertThat(ConditionalResponses.eTag(stored.plusNanos(499))).isEqualTo(ConditionalResponses.eTag(stored));
+        assertThat(ConditionalResponses.eTag(stored.minusNanos(501))).isNotEqualTo(ConditionalResponses.eTag(stored));
+    }
+
+    @Test
+    void findById_WithOutdatedETag_ShouldReturnCurrentVersion() throws Exception {
+        // Given
+        when(giftSuggestionService.findLastModifiedDate(id)).thenReturn(Optional.of(lastModifiedDate));
+        when(giftSuggestionService.findSnapshotById(id)).thenReturn(Optional.of(GiftSuggestionSnapshot.from(giftSuggestion)));
+
+        // When & Then
+        mockMvc.perform(get("/api/gift-suggestions/{id}", id)
+                        .header(HttpHeaders.IF_NONE_MATCH, ConditionalResponses.eTag(lastModifiedDate.minusSeconds(1))))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ConditionalResponses.eTag(lastModifiedDate)));
+    }
+
+    @Test
+    void findById_WithIfModifiedSince_ShouldReturnNotModifiedWithoutLoading() throws Exception {
+        // Given
+        when(giftSuggestionService.findLastModifiedDate(id)).thenReturn(Optional.of(lastModifiedDate));
+        String ifModifiedSince = DateTimeFormatter.RFC_1123_DATE_TIME.format(
+                ZonedDateTime.of(lastModifiedDate.plusSeconds(1), ZoneId.systemDefault()));
+
+        // When & Then
+        mockMvc.perform(get("/api/gift-suggestions/{id}", id)
+                        .header(HttpHeaders.IF_MODIFIED_SINCE, ifModifiedSince))
+                .andExpect(status().isNotModified());
+        verify(giftSuggestionService, never()).findSnapshotById(any());
+    }
+
+    @Test
+    void findById_WithUnknownId_ShouldReturnNotFound() throws Exception {
+        // Given
+        when(giftSuggestionService.findLastModifiedDate(id)).thenReturn(Optional.empty());
+
+        // When & Then
+        mockMvc.perform(get("/api/gift-suggestions/{id}", id))
+                .andExpect(status().isNotFound());
+        verify(giftSuggestionService, never()).findSnapshotById(any());
+    }
+
+    @Test
+    void findAll_ShouldReturnSummaryPage() throws Exception {
+        // Given
+        Pageable pageable = PageRequest.of(1, 5);
+        when(giftSuggestionService.findAllSummaries(pageable)).thenReturn(new PageImpl<>(
+                List.of(new GiftSuggestionSummary(id, "Smart Watch", new BigDecimal("150.00"), new BigDecimal("400.00"))),
+                pageable, 6));
+
+        // When & Then
+        mockMvc.perform(get("/api/gift-suggestions").param("page", "1").param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].name").value("Smart Watch"))
+                .andExpect(jsonPath("$.content[0].description").doesNotExist())
+                .andExpect(jsonPath("$.page").value(1))
+                .andExpect(jsonPath("$.totalElements").value(6));
+    }
+
+    @Test
+    void create_ShouldReturnCreatedWithLocationAndETag() throws Exception {
+        // Given
+        when(giftSuggestionService.create(any(GiftSuggestion.class))).thenReturn(giftSuggestion);
+
+        // When & Then
+        mockMvc.perform(post("/api/gift-suggestions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "Smart Watch", "description": "Fitness tracking smart watch",
+                                 "minPrice": 150.00, "maxPrice": 400.00, "ageGroup": "ADULT", "gender": "UNISEX",
+                                 "interest": "TECHNOLOGY", "occasion": "BIRTHDAY", "relationship": "FRIEND",
+                                 "personalityType": "ANALYTICAL"}
+                                """))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(HttpHeaders.LOCATION, "http://localhost/api/gift-suggestions/" + id))
+                .andExpect(header().string(HttpHeaders.ETAG, ConditionalResponses.eTag(lastModifiedDate)));
+    }
+
+    @Test
+    void create_WithInvalidData_ShouldReturnBadRequest() throws Exception {
+        // Given
+        when(giftSuggestionService.create(any(GiftSuggestion.class)))
+                .thenThrow(new IllegalArgumentException("Gift suggestion name cannot be null or empty"));
+
+        // When & Then
+        mockMvc.perform(post("/api/gift-suggestions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value("The request is invalid"));
+    }
+
+    @Test
+    void findConcreteGifts_WithUnknownId_ShouldReturnNotFound() throws Exception {
+        // Given
+        when(giftSuggestionService.existsById(id)).thenReturn(false);
+
+        // When & Then
+        mockMvc.perform(get("/api/gift-suggestions/{id}/concrete-gifts", id))
+                .andExpect(status().isNotFound());
+        verify(concreteGiftService, never()).findSummariesByGiftSuggestionId(any(), any());
+    }
+
+    @Test
+    void delete_WithUnknownId_ShouldReturnNotFound() throws Exception {
+        // Given
+        when(giftSuggestionService.existsById(id)).thenReturn(false);
+
+        // When & Then
+        mockMvc.perform(delete("/api/gift-suggestions/{id}", id))
+                .andExpect(status().isNotFound());
+        verify(giftSuggestionService, never()).deleteById(any());
+    }
+}
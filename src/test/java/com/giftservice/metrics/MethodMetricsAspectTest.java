@@ -0,0 +1,137 @@
+package com.giftservice.metrics;
+
+import com.giftservice.entity.GiftSuggestion;
+import com.giftservice.enums.*;
+import com.giftservice.repository.GiftSuggestionRepository;
+import com.giftservice.service.GiftSuggestionService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MethodMetricsAspectTest {
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20);
+
+    private SimpleMeterRegistry meterRegistry;
+    private GiftSuggestionRepository repositoryMock;
+    private GiftSuggestionRepository repository;
+    private GiftSuggestionService serviceMock;
+    private GiftSuggestionService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        MethodMetricsAspect aspect = new MethodMetricsAspect(meterRegistry);
+
+        repositoryMock = mock(GiftSuggestionRepository.class);
+        AspectJProxyFactory repositoryProxy = new AspectJProxyFactory(repositoryMock);
+        repositoryProxy.addAspect(aspect);
+        repository = repositoryProxy.getProxy();
+
+        serviceMock = mock(GiftSuggestionService.class);
+        AspectJProxyFactory serviceProxy = new AspectJProxyFactory(serviceMock);
+        serviceProxy.addAspect(aspect);
+        service = serviceProxy.getProxy();
+    }
+
+    @Test
+    void repositoryQuery_ShouldBeTimedByShapeOfNonNullFilters() {
+        GiftSuggestion giftSuggestion = new GiftSuggestion("Smart Watch", "Fitness tracker",
+                new BigDecimal("100.00"), new BigDecimal("200.00"), AgeGroup.ADULT, Gender.UNISEX,
+                Interest.TECHNOLOGY, Occasion.BIRTHDAY, Relationship.FRIEND, PersonalityType.PRACTICAL);
+        when(repositoryMock.findByAdvancedCriteria(any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(new PageImpl<>(List.of(giftSuggestion), FIRST_PAGE, 1));
+
+        repository.findByAdvancedCriteria(AgeGroup.ADULT, null, null, null, null, null,
+                new BigDecimal("250.00"), FIRST_PAGE);
+        repository.findByAdvancedCriteria(AgeGroup.TEEN, null, null, null, null, null,
+                new BigDecimal("50.00"), FIRST_PAGE);
+        repository.findByAdvancedCriteria(null, null, null, Occasion.WEDDING, null, null, null, FIRST_PAGE);
+
+        Timer ageGroupAndBudget = meterRegistry.get(MethodMetricsAspect.REPOSITORY_TIMER)
+                .tag("class", "GiftSuggestionRepository")
+                .tag("method", "findByAdvancedCriteria")
+                .tag("shape", "ageGroup+maxBudget")
+                .tag("exception", "none")
+                .timer();
+        assertThat(ageGroupAndBudget.count()).isEqualTo(2);
+        assertThat(meterRegistry.get(MethodMetricsAspect.REPOSITORY_TIMER)
+                .tag("shape", "occasion").timer().count()).isEqualTo(1);
+
+        DistributionSummary results = meterRegistry.get(MethodMetricsAspect.REPOSITORY_RESULTS)
+                .tag("shape", "ageGroup+maxBudget")
+                .summary();
+        assertThat(results.count()).isEqualTo(2);
+        assertThat(results.totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    void repositoryQuery_WithoutFilters_ShouldHaveShapeNone() {
+        when(repositoryMock.findAllIds(any())).thenReturn(new PageImpl<>(List.of(UUID.randomUUID())));
+
+        repository.findAllIds(FIRST_PAGE);
+
+        assertThat(meterRegistry.get(MethodMetricsAspect.REPOSITORY_TIMER)
+                .tag("method", "findAllIds")
+                .tag("shape", "none")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void serviceMethod_ShouldRecordResultSize() {
+        when(serviceMock.findById(any())).thenReturn(Optional.empty());
+
+        service.findById(UUID.randomUUID());
+
+        assertThat(meterRegistry.get(MethodMetricsAspect.SERVICE_TIMER)
+                .tag("class", "GiftSuggestionService")
+                .tag("method", "findById")
+                .tag("shape", "id")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(MethodMetricsAspect.SERVICE_RESULTS)
+                .tag("method", "findById")
+                .summary().totalAmount()).isZero();
+    }
+
+    @Test
+    void serviceMethod_WhenThrowing_ShouldBeTimedWithException() {
+        when(serviceMock.countByAdvancedCriteria(any(), any(), any(), any(), any(), any(), any()))
+                .thenThrow(new IllegalArgumentException("Maximum price cannot be negative"));
+
+        assertThatThrownBy(() -> service.countByAdvancedCriteria(null, null, null, null, null, null,
+                new BigDecimal("-1")))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(meterRegistry.get(MethodMetricsAspect.SERVICE_TIMER)
+                .tag("method", "countByAdvancedCriteria")
+                .tag("shape", "maxBudget")
+                .tag("exception", "IllegalArgumentException")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.find(MethodMetricsAspect.SERVICE_RESULTS).summary()).isNull();
+    }
+
+    @Test
+    void resultSize_ShouldNotCountScalarResults() {
+        assertThat(MethodMetricsAspect.resultSize(42L)).isEqualTo(-1);
+        assertThat(MethodMetricsAspect.resultSize(true)).isEqualTo(-1);
+        assertThat(MethodMetricsAspect.resultSize(List.of(1, 2, 3))).isEqualTo(3);
+        assertThat(MethodMetricsAspect.resultSize(null)).isZero();
+    }
+}
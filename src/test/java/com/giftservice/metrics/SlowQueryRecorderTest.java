@@ -0,0 +1,169 @@
+package com.giftservice.metrics;
+
+import com.giftservice.enums.AgeGroup;
+import com.giftservice.repository.GiftSuggestionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.StatementType;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SlowQueryRecorderTest {
+
+    private static final String SQL = "select gs1_0.id from gift_suggestions gs1_0 where gs1_0.age_group=? and gs1_0.min_price<=?";
+
+    private SlowQueryRecorder recorder;
+    private GiftSuggestionRepository repositoryMock;
+    private GiftSuggestionRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        recorder = newRecorder(3);
+
+        repositoryMock = mock(GiftSuggestionRepository.class);
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(repositoryMock);
+        proxyFactory.addAspect(new MethodMetricsAspect(new SimpleMeterRegistry()));
+        repository = proxyFactory.getProxy();
+    }
+
+    @AfterEach
+    void tearDown() {
+        recorder.shutdown();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void slowStatementOfRepositoryCall_ShouldBeRecordedWithParameters() throws Exception {
+        givenRepositoryCallExecutes(800);
+
+        repository.findByAgeGroup(AgeGroup.ADULT);
+
+        assertThat(recorder.getSlowQueries()).singleElement().satisfies(slowQuery -> {
+            assertThat(slowQuery.getRepositoryMethod()).isEqualTo("GiftSuggestionRepository.findByAgeGroup");
+            assertThat(slowQuery.getSql()).isEqualTo(SQL);
+            assertThat(slowQuery.getParameters()).containsExactly("1=ADULT", "2=25.00");
+            assertThat(slowQuery.getDurationMillis()).isEqualTo(800);
+            assertThat(slowQuery.getTimestamp()).isNotNull();
+            assertThat(slowQuery.getPlan()).isNull();
+        });
+    }
+
+    @Test
+    void fastStatement_ShouldNotBeRecorded() throws Exception {
+        givenRepositoryCallExecutes(20);
+
+        repository.findByAgeGroup(AgeGroup.ADULT);
+
+        assertThat(recorder.getSlowQueries()).isEmpty();
+    }
+
+    @Test
+    void slowStatementOutsideRepositoryCall_ShouldNotBeRecorded() throws Exception {
+        recorder.afterQuery(executionInfo(800), List.of(queryInfo()));
+
+        assertThat(recorder.getSlowQueries()).isEmpty();
+    }
+
+    @Test
+    void getSlowQueries_ShouldKeepMostRecentWithinCapacity() throws Exception {
+        for (long duration = 600; duration <= 1000; duration += 100) {
+            givenRepositoryCallExecutes(duration);
+            repository.findByAgeGroup(AgeGroup.ADULT);
+        }
+
+        assertThat(recorder.getSlowQueries())
+                .extracting(SlowQuery::getDurationMillis)
+                .containsExactly(1000L, 900L, 800L);
+
+        recorder.clear();
+        assertThat(recorder.getSlowQueries()).isEmpty();
+    }
+
+    @Test
+    void explain_OfReadOnlyTransactionStatement_ShouldUseReadOnlyConnection() throws Exception {
+        CompletableFuture<Boolean> explainedReadOnly = new CompletableFuture<>();
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenAnswer(invocation -> {
+            explainedReadOnly.complete(TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+            throw new SQLException("Connection refused");
+        });
+        @SuppressWarnings("unchecked")
+        ObjectProvider<DataSource> dataSourceProvider = mock(ObjectProvider.class);
+        when(dataSourceProvider.getObject()).thenReturn(dataSource);
+        recorder.shutdown();
+        recorder = new SlowQueryRecorder(dataSourceProvider, Duration.ofMillis(500), 3, 1, Duration.ofSeconds(10));
+        givenRepositoryCallExecutes(800);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        repository.findByAgeGroup(AgeGroup.ADULT);
+
+        assertThat(explainedReadOnly.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void constructor_WithInvalidSampleRate_ShouldThrow() {
+        assertThatThrownBy(() -> new SlowQueryRecorder(dataSourceProvider(), Duration.ofMillis(500), 10, 1.5,
+                Duration.ofSeconds(10)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("sample rate");
+    }
+
+    private void givenRepositoryCallExecutes(long elapsedMillis) throws Exception {
+        ExecutionInfo executionInfo = executionInfo(elapsedMillis);
+        QueryInfo queryInfo = queryInfo();
+        when(repositoryMock.findByAgeGroup(any())).thenAnswer(invocation -> {
+            recorder.afterQuery(executionInfo, List.of(queryInfo));
+            return List.of();
+        });
+    }
+
+    private static ExecutionInfo executionInfo(long elapsedMillis) {
+        ExecutionInfo executionInfo = new ExecutionInfo();
+        executionInfo.setElapsedTime(elapsedMillis);
+        executionInfo.setStatementType(StatementType.PREPARED);
+        executionInfo.setSuccess(true);
+        return executionInfo;
+    }
+
+    private static QueryInfo queryInfo() throws NoSuchMethodException {
+        QueryInfo queryInfo = new QueryInfo(SQL);
+        queryInfo.getParametersList().add(List.of(
+                new ParameterSetOperation(PreparedStatement.class.getMethod("setString", int.class, String.class),
+                        new Object[]{1, "ADULT"}),
+                new ParameterSetOperation(
+                        PreparedStatement.class.getMethod("setBigDecimal", int.class, BigDecimal.class),
+                        new Object[]{2, new BigDecimal("25.00")})));
+        return queryInfo;
+    }
+
+    private static SlowQueryRecorder newRecorder(int capacity) {
+        return new SlowQueryRecorder(dataSourceProvider(), Duration.ofMillis(500), capacity, 0,
+                Duration.ofSeconds(10));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ObjectProvider<DataSource> dataSourceProvider() {
+        return mock(ObjectProvider.class);
+    }
+}
@@ -0,0 +1,42 @@
+package com.giftservice.metrics;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Assertions on the number of JDBC statements a call executes, to catch N+1 round trips.
+ * Statements deferred to a later flush are not executed by the call; flush within the call
+ * to include them.
+ */
+public final class StatementCountAssertions {
+
+    private StatementCountAssertions() {
+    }
+
+    /**
+     * Run a call and assert that it executes at most the given number of statements.
+     *
+     * @return the result of the call
+     */
+    public static <T> T assertMaxStatements(long maxStatements, Supplier<T> call) {
+        T result;
+        try (StatementCount statements = StatementCount.start()) {
+            result = call.get();
+            assertThat(statements.getTotal())
+                    .as("statements executed, %s", statements)
+                    .isLessThanOrEqualTo(maxStatements);
+        }
+        return result;
+    }
+
+    /**
+     * Run a call and assert that it executes at most the given number of statements.
+     */
+    public static void assertMaxStatements(long maxStatements, Runnable call) {
+        assertMaxStatements(maxStatements, () -> {
+            call.run();
+            return null;
+        });
+    }
+}
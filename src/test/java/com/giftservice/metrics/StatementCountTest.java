@@ -0,0 +1,76 @@
+package com.giftservice.metrics;
+
+import net.ttddyy.dsproxy.QueryType;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static com.giftservice.metrics.StatementCountAssertions.assertMaxStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StatementCountTest {
+
+    @Test
+    void record_ShouldCountStatementsByType() {
+        try (StatementCount statements = StatementCount.start()) {
+            StatementCount.record(QueryType.SELECT);
+            StatementCount.record(QueryType.SELECT);
+            StatementCount.record(QueryType.INSERT);
+            StatementCount.record(QueryType.OTHER);
+
+            assertThat(statements.getSelects()).isEqualTo(2);
+            assertThat(statements.getInserts()).isEqualTo(1);
+            assertThat(statements.getUpdates()).isZero();
+            assertThat(statements.getTotal()).isEqualTo(4);
+        }
+    }
+
+    @Test
+    void nestedCounts_ShouldBothRecord() {
+        try (StatementCount request = StatementCount.start()) {
+            StatementCount.record(QueryType.SELECT);
+            try (StatementCount call = StatementCount.start()) {
+                StatementCount.record(QueryType.UPDATE);
+                assertThat(call.getTotal()).isEqualTo(1);
+            }
+            StatementCount.record(QueryType.DELETE);
+
+            assertThat(request.getTotal()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    void close_ShouldStopCounting() {
+        StatementCount statements = StatementCount.start();
+        StatementCount.record(QueryType.SELECT);
+        statements.close();
+        StatementCount.record(QueryType.SELECT);
+
+        assertThat(statements.getTotal()).isEqualTo(1);
+    }
+
+    @Test
+    void otherThreads_ShouldNotBeCounted() {
+        try (StatementCount statements = StatementCount.start()) {
+            CompletableFuture.runAsync(() -> StatementCount.record(QueryType.SELECT)).join();
+
+            assertThat(statements.getTotal()).isZero();
+        }
+    }
+
+    @Test
+    void assertMaxStatements_WhenExceeded_ShouldFail() {
+        assertThat(assertMaxStatements(1, () -> {
+            StatementCount.record(QueryType.SELECT);
+            return "result";
+        })).isEqualTo("result");
+
+        assertThatThrownBy(() -> assertMaxStatements(1, () -> {
+            StatementCount.record(QueryType.SELECT);
+            StatementCount.record(QueryType.SELECT);
+        }))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("2 statements");
+    }
+}
@@ -3,6 +3,12 @@ package com.giftservice.repository;
 import com.giftservice.entity.ConcreteGift;
 import com.giftservice.entity.GiftSuggestion;
 import com.giftservice.enums.*;
+import com.giftservice.repository.ConcreteGiftBulkRepository.Delta;
+import com.giftservice.repository.ConcreteGiftBulkRepository.DeltaStatus;
+import com.giftservice.repository.ConcreteGiftBulkRepository.UpsertCount;
+import com.giftservice.repository.projection.ConcreteGiftSummary;
+import com.giftservice.repository.projection.GiftSuggestionGiftCount;
+import com.giftservice.repository.projection.VendorSku;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,6 +17,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.context.TestPropertySource;
@@ -20,8 +27,10 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 /**
  * Integration tests for ConcreteGiftRepository using TestContainers.
@@ -56,6 +65,9 @@ class ConcreteGiftRepositoryTest {
     @Autowired
     private GiftSuggestionRepository giftSuggestionRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private GiftSuggestion bookSuggestion;
     private GiftSuggestion techSuggestion;
     private ConcreteGift javaBook;
@@ -167,6 +179,33 @@ class ConcreteGiftRepositoryTest {
         assertThat(techGifts).hasSize(2);
     }
 
+    @Test
+    void findSummariesByGiftSuggestionId_shouldReturnSummaryColumnsOnly() {
+        // When
+        Page<ConcreteGiftSummary> page = concreteGiftRepository.findSummariesByGiftSuggestionId(
+            techSuggestion.getId(), PageRequest.of(0, 10));
+
+        // Then
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent())
+            .extracting(ConcreteGiftSummary::name, ConcreteGiftSummary::giftSuggestionId)
+            .containsExactlyInAnyOrder(
+                tuple("Apple Watch Series 9", techSuggestion.getId()),
+                tuple("MacBook Air", techSuggestion.getId()));
+    }
+
+    @Test
+    void findAllSummaries_shouldIncludeUnavailableGifts() {
+        // When
+        Page<ConcreteGiftSummary> page = concreteGiftRepository.findAllSummaries(PageRequest.of(0, 10));
+
+        // Then
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(page.getContent()).filteredOn(summary -> !summary.available())
+            .extracting(ConcreteGiftSummary::name)
+            .containsExactly("Out of Stock Book");
+    }
+
     @Test
     void findByVendorName_shouldReturnCorrectGifts() {
         // When
@@ -340,6 +379,28 @@ class ConcreteGiftRepositoryTest {
         assertThat(page.getContent().get(0).getName()).isEqualTo("Python Crash Course");
     }
 
+    @Test
+    void findBySuggestionAttributesAndCriteria_shouldJoinGiftSuggestion() {
+        // When
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<ConcreteGift> readingGifts = concreteGiftRepository.findBySuggestionAndCriteria(
+            AgeGroup.ADULT, null, Interest.READING, Occasion.BIRTHDAY, null, null,
+            null, true, null, new BigDecimal("50.00"), pageable);
+        Page<ConcreteGift> appleChristmasGifts = concreteGiftRepository.findBySuggestionAndCriteria(
+            null, null, null, Occasion.CHRISTMAS, null, null,
+            "Apple Store", null, null, null, pageable);
+        Page<ConcreteGift> noSuggestionCriteria = concreteGiftRepository.findBySuggestionAndCriteria(
+            null, null, null, null, null, null,
+            null, null, null, null, pageable);
+
+        // Then
+        assertThat(readingGifts.getContent()).extracting(ConcreteGift::getName)
+            .containsExactlyInAnyOrder("Effective Java", "Python Crash Course");
+        assertThat(readingGifts.getTotalElements()).isEqualTo(2);
+        assertThat(appleChristmasGifts.getTotalElements()).isEqualTo(2);
+        assertThat(noSuggestionCriteria.getTotalElements()).isEqualTo(5);
+    }
+
     @Test
     void countByVendorAndAvailable_shouldReturnCorrectCount() {
         // When
@@ -353,6 +414,27 @@ class ConcreteGiftRepositoryTest {
         assertThat(allAvailableCount).isEqualTo(4); // All available gifts
     }
 
+    @Test
+    void countByGiftSuggestionId_shouldCountWithoutLoadingGifts() {
+        // When & Then
+        assertThat(concreteGiftRepository.countByGiftSuggestionId(bookSuggestion.getId())).isEqualTo(3);
+        assertThat(concreteGiftRepository.countByGiftSuggestionId(techSuggestion.getId())).isEqualTo(2);
+    }
+
+    @Test
+    void countGroupedByGiftSuggestionIds_shouldReturnCountPerSuggestion() {
+        // When
+        List<GiftSuggestionGiftCount> counts = concreteGiftRepository.countGroupedByGiftSuggestionIds(
+            List.of(bookSuggestion.getId(), techSuggestion.getId(), UUID.randomUUID()));
+
+        // Then
+        assertThat(counts).hasSize(2);
+        assertThat(counts).extracting(GiftSuggestionGiftCount::getGiftSuggestionId, GiftSuggestionGiftCount::getGiftCount)
+            .containsExactlyInAnyOrder(
+                tuple(bookSuggestion.getId(), 3L),
+                tuple(techSuggestion.getId(), 2L));
+    }
+
     @Test
     void bidirectionalRelationship_shouldWorkCorrectly() {
         // When - Access from gift suggestion to concrete gifts
@@ -426,4 +508,73 @@ class ConcreteGiftRepositoryTest {
         // Verify no overlap between pages
         assertThat(page1.getContent()).doesNotContainAnyElementsOf(page2.getContent());
     }
-}
\ No newline at end of file
+
+    @Test
+    void findVendorSkusByProductSkuIn_shouldReturnStoredVendorSkuPairs() {
+        // Given
+        javaBook.setProductSku("ISBN-0134685997");
+        smartWatch.setProductSku("MR9L3");
+        concreteGiftRepository.saveAll(List.of(javaBook, smartWatch));
+        concreteGiftRepository.flush();
+
+        // When
+        List<VendorSku> vendorSkus = concreteGiftRepository.findVendorSkusByProductSkuIn(List.of("ISBN-0134685997", "UNKNOWN"));
+
+        // Then
+        assertThat(vendorSkus).hasSize(1);
+        assertThat(vendorSkus.get(0).getVendorName()).isEqualTo("Amazon");
+        assertThat(vendorSkus.get(0).getProductSku()).isEqualTo("ISBN-0134685997");
+    }
+
+    @Test
+    void upsertByVendorSku_shouldInsertUpdateAndSkipUnchangedRows() {
+        // Given - the partial unique index is created by Flyway, not by the test schema
+        jdbcTemplate.execute("CREATE UNIQUE INDEX IF NOT EXISTS idx_concrete_gifts_vendor_sku " +
+                "ON concrete_gifts(vendor_name, product_sku) WHERE product_sku IS NOT NULL");
+        concreteGiftRepository.flush();
+        ConcreteGift stored = vendorGift("Effective Java", "45.99", "ISBN-1");
+        ConcreteGift unchanged = vendorGift("Clean Code", "35.00", "ISBN-2");
+        concreteGiftRepository.upsertByVendorSku(List.of(stored, unchanged));
+
+        // When
+        UpsertCount count = concreteGiftRepository.upsertByVendorSku(List.of(
+                vendorGift("Effective Java", "39.99", "ISBN-1"),
+                vendorGift("Clean Code", "35.00", "ISBN-2"),
+                vendorGift("Refactoring", "42.00", "ISBN-3")));
+
+        // Then
+        assertThat(count.inserted()).isEqualTo(1);
+        assertThat(count.updated()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT exact_price FROM concrete_gifts WHERE vendor_name = 'Amazon' AND product_sku = 'ISBN-1'",
+                BigDecimal.class)).isEqualByComparingTo("39.99");
+    }
+
+    @Test
+    void applyDeltas_shouldUpdateChangedRowsWithinPriceRange() {
+        // Given
+        javaBook.setProductSku("ISBN-0134685997");
+        concreteGiftRepository.saveAll(List.of(javaBook, pythonBook));
+        concreteGiftRepository.flush();
+
+        // When
+        List<DeltaStatus> byId = concreteGiftRepository.applyDeltasById(List.of(
+                new Delta(pythonBook.getId(), null, null, false, null),
+                new Delta(UUID.randomUUID(), null, null, false, null)));
+        List<DeltaStatus> byVendorSku = concreteGiftRepository.applyDeltasByVendorSku(List.of(
+                new Delta(null, "Amazon", "ISBN-0134685997", null, new BigDecimal("99.00"))));
+
+        // Then
+        assertThat(byId).containsExactly(DeltaStatus.UPDATED, DeltaStatus.NOT_FOUND);
+        assertThat(byVendorSku).containsExactly(DeltaStatus.PRICE_OUT_OF_RANGE);
+        assertThat(jdbcTemplate.queryForObject("SELECT available FROM concrete_gifts WHERE id = ?",
+                Boolean.class, pythonBook.getId())).isFalse();
+    }
+
+    private ConcreteGift vendorGift(String name, String price, String productSku) {
+        ConcreteGift concreteGift = new ConcreteGift(name, name + " book", new BigDecimal(price), "Amazon",
+                bookSuggestion);
+        concreteGift.setProductSku(productSku);
+        return concreteGift;
+    }
+}
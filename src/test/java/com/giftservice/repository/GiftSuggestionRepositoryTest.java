@@ -1,7 +1,11 @@
 package com.giftservice.repository;
 
+import com.giftservice.entity.ConcreteGift;
 import com.giftservice.entity.GiftSuggestion;
 import com.giftservice.enums.*;
+import com.giftservice.repository.projection.GiftSuggestionSummary;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,6 +14,8 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.context.TestPropertySource;
@@ -18,7 +24,12 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -52,6 +63,9 @@ class GiftSuggestionRepositoryTest {
     @Autowired
     private GiftSuggestionRepository repository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private GiftSuggestion adultMaleBook;
     private GiftSuggestion childFemaleArt;
     private GiftSuggestion seniorUnisexTech;
@@ -290,6 +304,86 @@ class GiftSuggestionRepositoryTest {
             .contains("Programming Book", "Art Supplies");
     }
 
+    @Test
+    void findSummariesWithinBudget_shouldReturnOverlappingPriceRangesByMinPrice() {
+        // When
+        List<GiftSuggestionSummary> summaries = repository.findSummariesWithinBudget(
+            new BigDecimal("20.00"), new BigDecimal("40.00"));
+
+        // Then - Same gifts as findGiftsWithinBudget, ordered by minimum price
+        assertThat(summaries).extracting(GiftSuggestionSummary::name)
+            .containsExactly("Art Supplies", "Programming Book");
+        assertThat(summaries.get(0).minPrice()).isEqualByComparingTo("15.00");
+        assertThat(summaries.get(0).id()).isEqualTo(childFemaleArt.getId());
+    }
+
+    @Test
+    void findAllSummaries_shouldReturnPagedSummaries() {
+        // When
+        Page<GiftSuggestionSummary> page = repository.findAllSummaries(
+            PageRequest.of(0, 2, Sort.by("name")));
+
+        // Then
+        assertThat(page.getTotalElements()).isEqualTo(repository.count());
+        assertThat(page.getContent()).hasSize(2);
+        assertThat(page.getContent()).extracting(GiftSuggestionSummary::name).isSorted();
+    }
+
+    @Test
+    void findWithConcreteGiftsByIdIn_shouldInitializeConcreteGifts() {
+        // Given
+        addConcreteGift(adultMaleBook, "Effective Java", true);
+        addConcreteGift(adultMaleBook, "Clean Code", false);
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<GiftSuggestion> found = repository.findWithConcreteGiftsByIdIn(
+            List.of(adultMaleBook.getId(), cheapGift.getId()));
+        Optional<GiftSuggestion> single = repository.findWithConcreteGiftsById(adultMaleBook.getId());
+
+        // Then - One entry per gift suggestion, with the collections loaded by the same query
+        assertThat(found).hasSize(2);
+        assertThat(found).allMatch(giftSuggestion -> Hibernate.isInitialized(giftSuggestion.getConcreteGifts()));
+        assertThat(single).hasValueSatisfying(giftSuggestion -> {
+            assertThat(Hibernate.isInitialized(giftSuggestion.getConcreteGifts())).isTrue();
+            assertThat(giftSuggestion.getConcreteGifts()).hasSize(2);
+        });
+    }
+
+    @Test
+    void findIdsWithAvailableConcreteGifts_shouldSkipSuggestionsWithoutAvailableGifts() {
+        // Given
+        addConcreteGift(adultMaleBook, "Effective Java", true);
+        addConcreteGift(childFemaleArt, "Sold Out Paints", false);
+        addConcreteGift(cheapGift, "Greeting Card", true);
+        entityManager.flush();
+
+        // When
+        Slice<UUID> ids = repository.findIdsWithAvailableConcreteGifts(PageRequest.of(0, 10));
+
+        // Then
+        assertThat(ids.getContent()).containsExactlyInAnyOrder(adultMaleBook.getId(), cheapGift.getId());
+        // PostgreSQL orders uuids bytewise, which matches their string form but not UUID.compareTo
+        assertThat(ids.getContent()).isSortedAccordingTo(Comparator.comparing(UUID::toString));
+        assertThat(ids.hasNext()).isFalse();
+    }
+
+    @Test
+    void findLastModifiedDateById_shouldReturnStoredModificationDate() {
+        // Given
+        entityManager.flush();
+        entityManager.clear();
+        GiftSuggestion stored = repository.findById(adultMaleBook.getId()).orElseThrow();
+
+        // When
+        Optional<LocalDateTime> lastModified = repository.findLastModifiedDateById(adultMaleBook.getId());
+
+        // Then
+        assertThat(lastModified).contains(stored.getLastModifiedDate());
+        assertThat(repository.findLastModifiedDateById(UUID.randomUUID())).isEmpty();
+    }
+
     @Test
     void findAffordableGifts_shouldReturnGiftsWithinBudget() {
         // When
@@ -335,6 +429,19 @@ class GiftSuggestionRepositoryTest {
         assertThat(page.getContent()).hasSize(2); // adultMaleBook and cheapGift
     }
 
+    @Test
+    void findFirstByAdvancedCriteria_shouldReturnAtMostLimitMatches() {
+        // When
+        List<GiftSuggestion> all = repository.findFirstByAdvancedCriteria(
+            AgeGroup.ADULT, null, null, null, null, null, new BigDecimal("100.00"), 10);
+        List<GiftSuggestion> limited = repository.findFirstByAdvancedCriteria(
+            AgeGroup.ADULT, null, null, null, null, null, new BigDecimal("100.00"), 1);
+
+        // Then - Should find adult gifts under 100 budget
+        assertThat(all).hasSize(2);
+        assertThat(limited).hasSize(1).isSubsetOf(all);
+    }
+
     @Test
     void findByPriceRangeWithPagination_shouldReturnCorrectRange() {
         // When
@@ -398,4 +505,32 @@ class GiftSuggestionRepositoryTest {
         assertThat(page2.getTotalElements()).isEqualTo(5);
         assertThat(page1.getTotalPages()).isEqualTo(3);
     }
-}
\ No newline at end of file
+
+    @Test
+    void keysetSlices_shouldWalkAllRowsInCreationOrderWithoutGaps() {
+        // Given
+        repository.flush();
+        List<GiftSuggestion> seen = new ArrayList<>();
+        Pageable firstTwo = PageRequest.of(0, 2);
+
+        // When
+        Slice<GiftSuggestion> slice = repository.findFirstSliceOrderByCreatedDate(firstTwo);
+        seen.addAll(slice.getContent());
+        while (slice.hasNext()) {
+            GiftSuggestion last = seen.get(seen.size() - 1);
+            slice = repository.findSliceAfterOrderByCreatedDate(last.getCreatedDate(), last.getId(), firstTwo);
+            seen.addAll(slice.getContent());
+        }
+
+        // Then
+        assertThat(seen).hasSize(5).doesNotHaveDuplicates();
+    }
+
+    private void addConcreteGift(GiftSuggestion giftSuggestion, String name, boolean available) {
+        ConcreteGift concreteGift = new ConcreteGift(name, name + " description", giftSuggestion.getMinPrice(),
+            "Amazon", giftSuggestion);
+        concreteGift.setAvailable(available);
+        giftSuggestion.addConcreteGift(concreteGift);
+        entityManager.persist(concreteGift);
+    }
+}
@@ -0,0 +1,204 @@
+package com.giftservice.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.giftservice.entity.ConcreteGift;
+import com.giftservice.entity.GiftSuggestion;
+import com.giftservice.enums.*;
+import com.giftservice.repository.ConcreteGiftRepository;
+import com.giftservice.repository.GiftSuggestionRepository;
+import com.giftservice.service.export.ExportFormat;
+import com.giftservice.service.impl.CatalogExportServiceImpl;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogExportServiceTest {
+
+    @Mock
+    private GiftSuggestionRepository giftSuggestionRepository;
+
+    @Mock
+    private ConcreteGiftRepository concreteGiftRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private CatalogExportServiceImpl catalogExportService;
+
+    private GiftSuggestion smartWatch;
+    private GiftSuggestion paintSet;
+    private ConcreteGift appleWatch;
+    private ConcreteGift garminWatch;
+    private ByteArrayOutputStream output;
+
+    @BeforeEach
+    void setUp() {
+        smartWatch = giftSuggestion("Smart Watch");
+        paintSet = giftSuggestion("Paint Set");
+        appleWatch = concreteGift("Apple Watch", "Apple, Inc.", smartWatch);
+        garminWatch = concreteGift("Garmin \"Venu\"", "Garmin", smartWatch);
+        output = new ByteArrayOutputStream();
+    }
+
+    @Test
+    void exportGiftSuggestions_AsNdjson_ShouldWriteOneLinePerGiftSuggestion() throws Exception {
+        // Given
+        when(giftSuggestionRepository.streamAllOrderById()).thenReturn(Stream.of(smartWatch, paintSet));
+
+        // When
+        long count = catalogExportService.exportGiftSuggestions(output, ExportFormat.NDJSON);
+
+        // Then
+        List<JsonNode> lines = readLines();
+        assertThat(count).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0).get("name").asText()).isEqualTo("Smart Watch");
+        assertThat(lines.get(0).get("minPrice").decimalValue()).isEqualByComparingTo("10.00");
+        assertThat(lines.get(1).get("ageGroup").asText()).isEqualTo("ADULT");
+    }
+
+    @Test
+    void exportConcreteGifts_AsNdjson_ShouldReferenceGiftSuggestionById() throws Exception {
+        // Given
+        when(concreteGiftRepository.streamAllOrderById()).thenReturn(Stream.of(appleWatch));
+
+        // When
+        long count = catalogExportService.exportConcreteGifts(output, ExportFormat.NDJSON);
+
+        // Then
+        List<JsonNode> lines = readLines();
+        assertThat(count).isEqualTo(1);
+        assertThat(lines.get(0).get("giftSuggestionId").asText()).isEqualTo(smartWatch.getId().toString());
+        assertThat(lines.get(0).get("available").asBoolean()).isTrue();
+    }
+
+    @Test
+    void exportGiftSuggestionsWithConcreteGifts_AsNdjson_ShouldGroupJoinedRows() throws Exception {
+        // Given
+        when(giftSuggestionRepository.streamAllWithConcreteGiftsOrderById()).thenReturn(Stream.of(
+                new Object[]{smartWatch, appleWatch},
+                new Object[]{smartWatch, garminWatch},
+                new Object[]{paintSet, null}));
+
+        // When
+        long count = catalogExportService.exportGiftSuggestionsWithConcreteGifts(output, ExportFormat.NDJSON);
+
+        // Then
+        List<JsonNode> lines = readLines();
+        assertThat(count).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0).get("concreteGifts")).hasSize(2);
+        assertThat(lines.get(0).get("concreteGifts").get(1).get("name").asText()).isEqualTo("Garmin \"Venu\"");
+        assertThat(lines.get(1).get("concreteGifts")).isEmpty();
+        verifyNoInteractions(concreteGiftRepository);
+    }
+
+    @Test
+    void exportGiftSuggestionsWithConcreteGifts_AsCsv_ShouldWriteOneRowPerConcreteGift() throws Exception {
+        // Given
+        when(giftSuggestionRepository.streamAllWithConcreteGiftsOrderById()).thenReturn(Stream.of(
+                new Object[]{smartWatch, appleWatch},
+                new Object[]{smartWatch, garminWatch},
+                new Object[]{paintSet, null}));
+
+        // When
+        catalogExportService.exportGiftSuggestionsWithConcreteGifts(output, ExportFormat.CSV);
+
+        // Then
+        String[] rows = output.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(rows).hasSize(4);
+        assertThat(rows[0]).startsWith("id,name,description,minPrice").contains(",concreteGift.id,");
+        assertThat(rows[1]).contains("Smart Watch").contains("\"Apple, Inc.\"");
+        assertThat(rows[2]).contains("\"Garmin \"\"Venu\"\"\"");
+        assertThat(rows[3]).contains("Paint Set").endsWith(",".repeat(11));
+    }
+
+    @Test
+    void exportGiftSuggestions_WithEmptyCatalog_ShouldWriteCsvHeaderOnly() throws Exception {
+        // Given
+        when(giftSuggestionRepository.streamAllOrderById()).thenReturn(Stream.empty());
+
+        // When
+        long count = catalogExportService.exportGiftSuggestions(output, ExportFormat.CSV);
+
+        // Then
+        assertThat(count).isZero();
+        assertThat(output.toString(StandardCharsets.UTF_8)).startsWith("id,name,").endsWith("\r\n");
+    }
+
+    @Test
+    void exportGiftSuggestions_ShouldClearPersistenceContextPeriodically() throws Exception {
+        // Given
+        when(giftSuggestionRepository.streamAllOrderById()).thenReturn(
+                IntStream.range(0, 1200).mapToObj(i -> smartWatch));
+
+        // When
+        catalogExportService.exportGiftSuggestions(output, ExportFormat.NDJSON);
+
+        // Then
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    void exportGiftSuggestions_WithNullFormat_ShouldThrowException() {
+        assertThatThrownBy(() -> catalogExportService.exportGiftSuggestions(output, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Export format cannot be null");
+    }
+
+    private List<JsonNode> readLines() throws Exception {
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+
+    private static GiftSuggestion giftSuggestion(String name) {
+        GiftSuggestion giftSuggestion = new GiftSuggestion(
+                name,
+                name + " description",
+                new BigDecimal("10.00"),
+                new BigDecimal("100.00"),
+                AgeGroup.ADULT,
+                Gender.UNISEX,
+                Interest.TECHNOLOGY,
+                Occasion.BIRTHDAY,
+                Relationship.FRIEND,
+                PersonalityType.CREATIVE
+        );
+        giftSuggestion.setId(UUID.randomUUID());
+        return giftSuggestion;
+    }
+
+    private static ConcreteGift concreteGift(String name, String vendorName, GiftSuggestion giftSuggestion) {
+        ConcreteGift concreteGift = new ConcreteGift(name, name + " description", new BigDecimal("25.00"),
+                vendorName, giftSuggestion);
+        concreteGift.setId(UUID.randomUUID());
+        return concreteGift;
+    }
+}
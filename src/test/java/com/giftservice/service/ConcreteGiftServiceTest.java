@@ -3,9 +3,20 @@ package com.giftservice.service;
 import com.giftservice.entity.ConcreteGift;
 import com.giftservice.entity.GiftSuggestion;
 import com.giftservice.enums.*;
+import com.giftservice.repository.ConcreteGiftBulkRepository.Delta;
+import com.giftservice.repository.ConcreteGiftBulkRepository.DeltaStatus;
+import com.giftservice.repository.ConcreteGiftBulkRepository.UpsertCount;
 import com.giftservice.repository.ConcreteGiftRepository;
 import com.giftservice.repository.GiftSuggestionRepository;
+import com.giftservice.repository.projection.ConcreteGiftSummary;
+import com.giftservice.repository.projection.GiftSuggestionGiftCount;
+import com.giftservice.repository.projection.VendorSku;
+import com.giftservice.service.bulk.BulkImportResult;
+import com.giftservice.service.bulk.BulkUpdateResult;
+import com.giftservice.service.bulk.BulkUpsertResult;
+import com.giftservice.service.bulk.ConcreteGiftDelta;
 import com.giftservice.service.impl.ConcreteGiftServiceImpl;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,6 +31,7 @@ import org.springframework.data.domain.Pageable;
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -37,6 +49,9 @@ class ConcreteGiftServiceTest {
     @Mock
     private GiftSuggestionRepository giftSuggestionRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
     @InjectMocks
     private ConcreteGiftServiceImpl concreteGiftService;
 
@@ -98,6 +113,24 @@ class ConcreteGiftServiceTest {
         verify(concreteGiftRepository).save(newConcreteGift);
     }
 
+    @Test
+    void create_WithGiftSuggestionReference_ShouldLinkManagedGiftSuggestion() {
+        // Given
+        GiftSuggestion reference = new GiftSuggestion();
+        reference.setId(giftSuggestionId);
+        ConcreteGift newConcreteGift = new ConcreteGift("New Concrete Gift", "New description",
+                new BigDecimal("30.00"), "eBay", reference);
+
+        when(giftSuggestionRepository.findById(giftSuggestionId)).thenReturn(Optional.of(giftSuggestion));
+        when(concreteGiftRepository.save(any(ConcreteGift.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        ConcreteGift result = concreteGiftService.create(newConcreteGift);
+
+        // Then
+        assertThat(result.getGiftSuggestion()).isSameAs(giftSuggestion);
+    }
+
     @Test
     void create_WithNullConcreteGift_ShouldThrowException() {
         // When & Then
@@ -167,6 +200,182 @@ class ConcreteGiftServiceTest {
         verify(concreteGiftRepository, never()).save(any());
     }
 
+    @Test
+    void createAll_WithValidRows_ShouldPreloadSuggestionsOnceAndSaveInBatch() {
+        // Given
+        ConcreteGift first = bulkRow("Gift 1", "25.00", "SKU-1");
+        ConcreteGift second = bulkRow("Gift 2", "30.00", "SKU-2");
+        when(giftSuggestionRepository.findAllById(List.of(giftSuggestionId))).thenReturn(List.of(giftSuggestion));
+        when(concreteGiftRepository.findVendorSkusByProductSkuIn(any())).thenReturn(List.of());
+
+        // When
+        BulkImportResult result = concreteGiftService.createAll(List.of(first, second));
+
+        // Then
+        assertThat(result.created()).isEqualTo(2);
+        assertThat(result.hasFailures()).isFalse();
+        assertThat(first.getGiftSuggestion()).isSameAs(giftSuggestion);
+        verify(giftSuggestionRepository, never()).findById(any());
+        verify(concreteGiftRepository).saveAll(List.of(first, second));
+        verify(concreteGiftRepository, never()).save(any());
+        verify(entityManager).flush();
+    }
+
+    @Test
+    void createAll_WithInvalidRows_ShouldReportFailuresAndSaveRemainingRows() {
+        // Given
+        ConcreteGift valid = bulkRow("Valid", "25.00", "SKU-1");
+        ConcreteGift tooExpensive = bulkRow("Too Expensive", "150.00", "SKU-2");
+        ConcreteGift duplicateInBatch = bulkRow("Duplicate", "25.00", "SKU-1");
+        ConcreteGift unknownSuggestion = bulkRow("Unknown", "25.00", "SKU-3");
+        UUID unknownId = UUID.randomUUID();
+        GiftSuggestion unknown = new GiftSuggestion();
+        unknown.setId(unknownId);
+        unknownSuggestion.setGiftSuggestion(unknown);
+        ConcreteGift alreadyStored = bulkRow("Stored", "25.00", "SKU-4");
+        VendorSku storedSku = mock(VendorSku.class);
+        when(storedSku.getVendorName()).thenReturn("Amazon");
+        when(storedSku.getProductSku()).thenReturn("SKU-4");
+        when(giftSuggestionRepository.findAllById(any())).thenReturn(List.of(giftSuggestion));
+        when(concreteGiftRepository.findVendorSkusByProductSkuIn(any())).thenReturn(List.of(storedSku));
+
+        // When
+        BulkImportResult result = concreteGiftService.createAll(
+                Arrays.asList(valid, tooExpensive, null, duplicateInBatch, unknownSuggestion, alreadyStored));
+
+        // Then
+        assertThat(result.created()).isEqualTo(1);
+        assertThat(result.failures()).extracting(BulkImportResult.RowFailure::index).containsExactly(1, 2, 3, 4, 5);
+        assertThat(result.failures().get(0).reason()).contains("above maximum price");
+        assertThat(result.failures().get(1).reason()).isEqualTo("Concrete gift cannot be null");
+        assertThat(result.failures().get(2).reason()).startsWith("Duplicate vendor and SKU in batch");
+        assertThat(result.failures().get(3).reason()).isEqualTo("Gift suggestion not found with ID: " + unknownId);
+        assertThat(result.failures().get(4).reason()).startsWith("Concrete gift already exists");
+        verify(concreteGiftRepository).saveAll(List.of(valid));
+    }
+
+    @Test
+    void createAll_WithNullList_ShouldThrowException() {
+        assertThatThrownBy(() -> concreteGiftService.createAll(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Concrete gifts cannot be null");
+    }
+
+    @Test
+    void upsertByVendorSku_WithValidRows_ShouldWriteBatchAndReportCounts() {
+        // Given
+        ConcreteGift first = bulkRow("Gift 1", "25.00", "SKU-1");
+        ConcreteGift second = bulkRow("Gift 2", "30.00", "SKU-2");
+        ConcreteGift third = bulkRow("Gift 3", "35.00", "SKU-3");
+        when(giftSuggestionRepository.findAllById(List.of(giftSuggestionId))).thenReturn(List.of(giftSuggestion));
+        when(concreteGiftRepository.upsertByVendorSku(List.of(first, second, third))).thenReturn(new UpsertCount(1, 1));
+
+        // When
+        BulkUpsertResult result = concreteGiftService.upsertByVendorSku(List.of(first, second, third));
+
+        // Then
+        assertThat(result.inserted()).isEqualTo(1);
+        assertThat(result.updated()).isEqualTo(1);
+        assertThat(result.unchanged()).isEqualTo(1);
+        assertThat(result.hasFailures()).isFalse();
+        verify(concreteGiftRepository, never()).findByVendorName(any());
+        verify(concreteGiftRepository, never()).save(any());
+    }
+
+    @Test
+    void upsertByVendorSku_WithInvalidRows_ShouldReportFailuresAndWriteRemainingRows() {
+        // Given
+        ConcreteGift valid = bulkRow("Valid", "25.00", "SKU-1");
+        ConcreteGift withoutSku = bulkRow("Without SKU", "25.00", null);
+        ConcreteGift repeated = bulkRow("Repeated", "26.00", "SKU-1");
+        ConcreteGift tooCheap = bulkRow("Too Cheap", "5.00", "SKU-2");
+        when(giftSuggestionRepository.findAllById(any())).thenReturn(List.of(giftSuggestion));
+        when(concreteGiftRepository.upsertByVendorSku(List.of(valid))).thenReturn(new UpsertCount(0, 1));
+
+        // When
+        BulkUpsertResult result = concreteGiftService.upsertByVendorSku(
+                List.of(valid, withoutSku, repeated, tooCheap));
+
+        // Then
+        assertThat(result.updated()).isEqualTo(1);
+        assertThat(result.failures()).extracting(BulkImportResult.RowFailure::index).containsExactly(1, 2, 3);
+        assertThat(result.failures().get(0).reason()).isEqualTo("Product SKU is required for upsert");
+        assertThat(result.failures().get(1).reason()).startsWith("Duplicate vendor and SKU in batch");
+        assertThat(result.failures().get(2).reason()).contains("below minimum price");
+    }
+
+    @Test
+    void applyDeltas_ShouldRouteDeltasByKeyAndMapStatuses() {
+        // Given
+        UUID missingId = UUID.randomUUID();
+        List<ConcreteGiftDelta> deltas = List.of(
+                ConcreteGiftDelta.byId(concreteGiftId, false, null),
+                ConcreteGiftDelta.byVendorSku("Amazon", "SKU-1", null, new BigDecimal("500.00")),
+                ConcreteGiftDelta.byId(missingId, true, null),
+                ConcreteGiftDelta.byVendorSku("Amazon", "SKU-2", true, new BigDecimal("25.00")));
+        when(concreteGiftRepository.applyDeltasById(List.of(
+                new Delta(concreteGiftId, null, null, false, null),
+                new Delta(missingId, null, null, true, null))))
+                .thenReturn(List.of(DeltaStatus.UPDATED, DeltaStatus.NOT_FOUND));
+        when(concreteGiftRepository.applyDeltasByVendorSku(List.of(
+                new Delta(null, "Amazon", "SKU-1", null, new BigDecimal("500.00")),
+                new Delta(null, "Amazon", "SKU-2", true, new BigDecimal("25.00")))))
+                .thenReturn(List.of(DeltaStatus.PRICE_OUT_OF_RANGE, DeltaStatus.UNCHANGED));
+
+        // When
+        BulkUpdateResult result = concreteGiftService.applyDeltas(deltas);
+
+        // Then
+        assertThat(result.updated()).isEqualTo(1);
+        assertThat(result.unchanged()).isEqualTo(1);
+        assertThat(result.failures()).extracting(BulkImportResult.RowFailure::index).containsExactly(1, 2);
+        assertThat(result.failures().get(0).reason()).contains("outside the price range");
+        assertThat(result.failures().get(1).reason()).isEqualTo("Concrete gift not found: ID " + missingId);
+        verify(concreteGiftRepository, never()).findById(any());
+        verify(giftSuggestionRepository, never()).findById(any());
+    }
+
+    @Test
+    void applyDeltas_WithInvalidDeltas_ShouldRejectThemBeforeWriting() {
+        // Given
+        List<ConcreteGiftDelta> deltas = Arrays.asList(
+                null,
+                ConcreteGiftDelta.byId(concreteGiftId, null, null),
+                ConcreteGiftDelta.byVendorSku("Amazon", null, true, null),
+                ConcreteGiftDelta.byId(concreteGiftId, true, BigDecimal.ZERO),
+                new ConcreteGiftDelta(concreteGiftId, "Amazon", "SKU-1", true, null));
+
+        // When
+        BulkUpdateResult result = concreteGiftService.applyDeltas(deltas);
+
+        // Then
+        assertThat(result.updated()).isZero();
+        assertThat(result.failures()).extracting(BulkImportResult.RowFailure::reason).containsExactly(
+                "Delta cannot be null",
+                "Delta must change availability or price",
+                "Delta must identify the concrete gift by ID or by vendor and SKU",
+                "Price must be positive",
+                "Delta must identify the concrete gift either by ID or by vendor and SKU");
+        verify(concreteGiftRepository, never()).applyDeltasById(any());
+        verify(concreteGiftRepository, never()).applyDeltasByVendorSku(any());
+    }
+
+    @Test
+    void applyDeltas_WithRepeatedConcreteGift_ShouldRejectLaterDelta() {
+        // Given
+        when(concreteGiftRepository.applyDeltasById(any())).thenReturn(List.of(DeltaStatus.UPDATED));
+
+        // When
+        BulkUpdateResult result = concreteGiftService.applyDeltas(List.of(
+                ConcreteGiftDelta.byId(concreteGiftId, false, null),
+                ConcreteGiftDelta.byId(concreteGiftId, true, null)));
+
+        // Then
+        assertThat(result.updated()).isEqualTo(1);
+        assertThat(result.failures()).singleElement()
+                .satisfies(failure -> assertThat(failure.reason()).startsWith("Duplicate concrete gift in batch"));
+    }
+
     @Test
     void findById_WithValidId_ShouldReturnConcreteGift() {
         // Given
@@ -297,6 +506,37 @@ class ConcreteGiftServiceTest {
         verify(concreteGiftRepository).findByGiftSuggestion(giftSuggestion, pageable);
     }
 
+    @Test
+    void findSummariesByGiftSuggestionId_WithExistingSuggestion_ShouldNotLoadEntities() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        ConcreteGiftSummary summary = new ConcreteGiftSummary(UUID.randomUUID(), "Effective Java",
+                new BigDecimal("45.99"), "Amazon", true, giftSuggestionId);
+        when(giftSuggestionRepository.existsById(giftSuggestionId)).thenReturn(true);
+        when(concreteGiftRepository.findSummariesByGiftSuggestionId(giftSuggestionId, pageable))
+                .thenReturn(new PageImpl<>(List.of(summary), pageable, 1));
+
+        // When
+        Page<ConcreteGiftSummary> result = concreteGiftService.findSummariesByGiftSuggestionId(giftSuggestionId, pageable);
+
+        // Then
+        assertThat(result.getContent()).containsExactly(summary);
+        verify(giftSuggestionRepository, never()).findById(any());
+        verify(concreteGiftRepository, never()).findByGiftSuggestion(any(), any(Pageable.class));
+    }
+
+    @Test
+    void findSummariesByGiftSuggestionId_WithUnknownSuggestion_ShouldThrowException() {
+        // Given
+        when(giftSuggestionRepository.existsById(giftSuggestionId)).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> concreteGiftService.findSummariesByGiftSuggestionId(
+                giftSuggestionId, PageRequest.of(0, 10)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Gift suggestion not found with ID: " + giftSuggestionId);
+    }
+
     @Test
     void findByVendorName_WithValidVendor_ShouldReturnConcreteGifts() {
         // Given
@@ -368,18 +608,66 @@ class ConcreteGiftServiceTest {
                 "Amazon", true, new BigDecimal("20.00"), new BigDecimal("30.00"), pageable);
     }
 
+    @Test
+    void findBySuggestionAndCriteria_ShouldPassAllCriteriaToRepository() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<ConcreteGift> page = new PageImpl<>(List.of(concreteGift), pageable, 1);
+
+        when(concreteGiftRepository.findBySuggestionAndCriteria(
+                AgeGroup.TEEN, null, Interest.GAMING, Occasion.BIRTHDAY, null, null,
+                "Amazon", true, null, new BigDecimal("50.00"), pageable)).thenReturn(page);
+
+        // When
+        Page<ConcreteGift> result = concreteGiftService.findBySuggestionAndCriteria(
+                AgeGroup.TEEN, null, Interest.GAMING, Occasion.BIRTHDAY, null, null,
+                "Amazon", true, null, new BigDecimal("50.00"), pageable);
+
+        // Then
+        assertThat(result.getContent()).containsExactly(concreteGift);
+    }
+
     @Test
     void countByGiftSuggestionId_WithValidId_ShouldReturnCount() {
         // Given
-        List<ConcreteGift> concreteGifts = Arrays.asList(concreteGift, concreteGift);
-        when(concreteGiftRepository.findByGiftSuggestionId(giftSuggestionId)).thenReturn(concreteGifts);
+        when(concreteGiftRepository.countByGiftSuggestionId(giftSuggestionId)).thenReturn(2L);
 
         // When
         long result = concreteGiftService.countByGiftSuggestionId(giftSuggestionId);
 
         // Then
         assertThat(result).isEqualTo(2L);
-        verify(concreteGiftRepository).findByGiftSuggestionId(giftSuggestionId);
+        verify(concreteGiftRepository, never()).findByGiftSuggestionId(any());
+    }
+
+    @Test
+    void countByGiftSuggestionIds_ShouldReturnCountsWithZeroForMissingSuggestions() {
+        // Given
+        UUID suggestionWithoutGifts = UUID.randomUUID();
+        GiftSuggestionGiftCount count = mock(GiftSuggestionGiftCount.class);
+        when(count.getGiftSuggestionId()).thenReturn(giftSuggestionId);
+        when(count.getGiftCount()).thenReturn(3L);
+        when(concreteGiftRepository.countGroupedByGiftSuggestionIds(any())).thenReturn(List.of(count));
+
+        // When
+        Map<UUID, Long> result = concreteGiftService.countByGiftSuggestionIds(
+                List.of(giftSuggestionId, suggestionWithoutGifts));
+
+        // Then
+        assertThat(result).containsExactly(
+                Map.entry(giftSuggestionId, 3L),
+                Map.entry(suggestionWithoutGifts, 0L));
+        verify(concreteGiftRepository).countGroupedByGiftSuggestionIds(any());
+    }
+
+    @Test
+    void countByGiftSuggestionIds_WithEmptyIds_ShouldNotQueryRepository() {
+        // When
+        Map<UUID, Long> result = concreteGiftService.countByGiftSuggestionIds(List.of());
+
+        // Then
+        assertThat(result).isEmpty();
+        verify(concreteGiftRepository, never()).countGroupedByGiftSuggestionIds(any());
     }
 
     @Test
@@ -433,4 +721,12 @@ class ConcreteGiftServiceTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("below minimum price");
     }
-}
\ No newline at end of file
+
+    private ConcreteGift bulkRow(String name, String price, String productSku) {
+        GiftSuggestion reference = new GiftSuggestion();
+        reference.setId(giftSuggestionId);
+        ConcreteGift row = new ConcreteGift(name, name + " description", new BigDecimal(price), "Amazon", reference);
+        row.setProductSku(productSku);
+        return row;
+    }
+}
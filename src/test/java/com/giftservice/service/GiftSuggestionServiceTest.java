@@ -1,9 +1,16 @@
 package com.giftservice.service;
 
+import com.giftservice.entity.ConcreteGift;
 import com.giftservice.entity.GiftSuggestion;
 import com.giftservice.enums.*;
 import com.giftservice.repository.GiftSuggestionRepository;
+import com.giftservice.repository.projection.GiftSuggestionSummary;
+import com.giftservice.service.cache.GiftSuggestionCacheEvictor;
 import com.giftservice.service.impl.GiftSuggestionServiceImpl;
+import com.giftservice.service.index.GiftSuggestionFacetIndex;
+import com.giftservice.service.pagination.ContinuationToken;
+import com.giftservice.service.pagination.KeysetSlice;
+import com.giftservice.service.recommendation.PrecomputedRecommendations;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,8 +21,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -32,6 +44,15 @@ class GiftSuggestionServiceTest {
     @Mock
     private GiftSuggestionRepository giftSuggestionRepository;
 
+    @Mock
+    private GiftSuggestionFacetIndex facetIndex;
+
+    @Mock
+    private GiftSuggestionCacheEvictor cacheEvictor;
+
+    @Mock
+    private PrecomputedRecommendations precomputedRecommendations;
+
     @InjectMocks
     private GiftSuggestionServiceImpl giftSuggestionService;
 
@@ -366,6 +387,159 @@ class GiftSuggestionServiceTest {
                 new BigDecimal("100.00"));
     }
 
+    @Test
+    void findByAdvancedCriteria_WithUsableFacetIndex_ShouldLoadMatchingIdsOnly() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        when(facetIndex.isUsable()).thenReturn(true);
+        when(facetIndex.findIds(AgeGroup.ADULT, null, Interest.TECHNOLOGY, null, null, null, null, pageable))
+                .thenReturn(new PageImpl<>(List.of(testId), pageable, 1));
+        when(giftSuggestionRepository.findAllById(List.of(testId))).thenReturn(List.of(giftSuggestion));
+
+        // When
+        Page<GiftSuggestion> result = giftSuggestionService.findByAdvancedCriteria(
+                AgeGroup.ADULT, null, Interest.TECHNOLOGY, null, null, null, null, pageable);
+
+        // Then
+        assertThat(result.getContent()).containsExactly(giftSuggestion);
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        verify(giftSuggestionRepository, never()).findByAdvancedCriteria(
+                any(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void countByAdvancedCriteria_WithUsableFacetIndex_ShouldNotQueryRepository() {
+        // Given
+        when(facetIndex.isUsable()).thenReturn(true);
+        when(facetIndex.count(AgeGroup.ADULT, null, null, null, null, null, new BigDecimal("100.00")))
+                .thenReturn(3L);
+
+        // When
+        long result = giftSuggestionService.countByAdvancedCriteria(
+                AgeGroup.ADULT, null, null, null, null, null, new BigDecimal("100.00"));
+
+        // Then
+        assertThat(result).isEqualTo(3L);
+        verify(giftSuggestionRepository, never()).countByAdvancedCriteria(
+                any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void deleteById_WithExistingId_ShouldRecordDeleteInFacetIndex() {
+        // Given
+        when(giftSuggestionRepository.existsById(testId)).thenReturn(true);
+
+        // When
+        giftSuggestionService.deleteById(testId);
+
+        // Then
+        verify(facetIndex).recordDelete(testId);
+    }
+
+    @Test
+    void update_WithValidData_ShouldEvictCachedEntries() {
+        // Given
+        when(giftSuggestionRepository.findById(testId)).thenReturn(Optional.of(giftSuggestion));
+        when(giftSuggestionRepository.save(giftSuggestion)).thenReturn(giftSuggestion);
+
+        // When
+        giftSuggestionService.update(testId, giftSuggestion);
+
+        // Then
+        verify(cacheEvictor).evict(testId, giftSuggestion);
+        verify(precomputedRecommendations).recordWrite(giftSuggestion);
+    }
+
+    @Test
+    void deleteById_WithExistingId_ShouldEvictCachedEntries() {
+        // Given
+        when(giftSuggestionRepository.existsById(testId)).thenReturn(true);
+
+        // When
+        giftSuggestionService.deleteById(testId);
+
+        // Then
+        verify(cacheEvictor).evict(testId, null);
+        verify(precomputedRecommendations).recordDelete(testId);
+    }
+
+    @Test
+    void deleteById_WithNonExistentId_ShouldNotEvictCachedEntries() {
+        // Given
+        when(giftSuggestionRepository.existsById(testId)).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> giftSuggestionService.deleteById(testId))
+                .isInstanceOf(RuntimeException.class);
+        verifyNoInteractions(cacheEvictor);
+    }
+
+    @Test
+    void findSlice_WithoutToken_ShouldReturnFirstSliceWithNextToken() {
+        // Given
+        giftSuggestion.setCreatedDate(LocalDateTime.of(2024, 1, 1, 12, 0));
+        when(giftSuggestionRepository.findFirstSliceOrderByCreatedDate(PageRequest.of(0, 1)))
+                .thenReturn(new SliceImpl<>(List.of(giftSuggestion), PageRequest.of(0, 1), true));
+
+        // When
+        KeysetSlice<GiftSuggestion> result = giftSuggestionService.findSlice(null, 1);
+
+        // Then
+        assertThat(result.content()).containsExactly(giftSuggestion);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(ContinuationToken.decode(result.nextToken()))
+                .isEqualTo(new ContinuationToken(giftSuggestion.getCreatedDate(), testId));
+    }
+
+    @Test
+    void findSlice_WithToken_ShouldSeekAfterPosition() {
+        // Given
+        ContinuationToken position = new ContinuationToken(LocalDateTime.of(2024, 1, 1, 12, 0), UUID.randomUUID());
+        when(giftSuggestionRepository.findSliceAfterOrderByCreatedDate(
+                position.createdDate(), position.id(), PageRequest.of(0, 10)))
+                .thenReturn(new SliceImpl<>(List.of(giftSuggestion), PageRequest.of(0, 10), false));
+
+        // When
+        KeysetSlice<GiftSuggestion> result = giftSuggestionService.findSlice(position.encode(), 10);
+
+        // Then
+        assertThat(result.content()).containsExactly(giftSuggestion);
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.nextToken()).isNull();
+        verify(giftSuggestionRepository, never()).count();
+    }
+
+    @Test
+    void findSlice_WithInvalidSize_ShouldThrowException() {
+        assertThatThrownBy(() -> giftSuggestionService.findSlice(null, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Size must be positive");
+    }
+
+    @Test
+    void findByAdvancedCriteria_WithMoreIndexedMatchesThanLookupLimit_ShouldQueryDatabase() {
+        // Given
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i <= 1000; i++) {
+            ids.add(UUID.randomUUID());
+        }
+        Pageable pageable = Pageable.unpaged();
+        Page<GiftSuggestion> expectedPage = new PageImpl<>(List.of(giftSuggestion));
+        when(facetIndex.isUsable()).thenReturn(true);
+        when(facetIndex.findIds(null, null, null, null, null, null, null, pageable))
+                .thenReturn(new PageImpl<>(ids, pageable, ids.size()));
+        when(giftSuggestionRepository.findByAdvancedCriteria(null, null, null, null, null, null, null, pageable))
+                .thenReturn(expectedPage);
+
+        // When
+        Page<GiftSuggestion> result = giftSuggestionService.findByAdvancedCriteria(
+                null, null, null, null, null, null, null, pageable);
+
+        // Then
+        assertThat(result).isSameAs(expectedPage);
+        verify(giftSuggestionRepository, never()).findAllById(any());
+    }
+
     @Test
     void findByPriceRange_WithValidRange_ShouldReturnGiftSuggestions() {
         // Given
@@ -384,6 +558,23 @@ class GiftSuggestionServiceTest {
         verify(giftSuggestionRepository).findGiftsWithinBudget(minPrice, maxPrice);
     }
 
+    @Test
+    void findByPriceRange_WithUsableIndex_ShouldLoadIndexedIds() {
+        // Given
+        BigDecimal minPrice = new BigDecimal("20.00");
+        BigDecimal maxPrice = new BigDecimal("40.00");
+        when(facetIndex.isUsable()).thenReturn(true);
+        when(facetIndex.findIdsByPriceRange(minPrice, maxPrice)).thenReturn(List.of(testId));
+        when(giftSuggestionRepository.findAllById(List.of(testId))).thenReturn(List.of(giftSuggestion));
+
+        // When
+        List<GiftSuggestion> result = giftSuggestionService.findByPriceRange(minPrice, maxPrice);
+
+        // Then
+        assertThat(result).containsExactly(giftSuggestion);
+        verify(giftSuggestionRepository, never()).findGiftsWithinBudget(any(), any());
+    }
+
     @Test
     void findByPriceRange_WithInvalidRange_ShouldThrowException() {
         // Given
@@ -397,4 +588,88 @@ class GiftSuggestionServiceTest {
 
         verify(giftSuggestionRepository, never()).findGiftsWithinBudget(any(), any());
     }
+
+    @Test
+    void findAllSummaries_WithPageable_ShouldReturnSummaryPage() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        GiftSuggestionSummary summary = new GiftSuggestionSummary(testId, "Smart Watch",
+                new BigDecimal("20.00"), new BigDecimal("80.00"));
+        when(giftSuggestionRepository.findAllSummaries(pageable))
+                .thenReturn(new PageImpl<>(List.of(summary), pageable, 1));
+
+        // When
+        Page<GiftSuggestionSummary> result = giftSuggestionService.findAllSummaries(pageable);
+
+        // Then
+        assertThat(result.getContent()).containsExactly(summary);
+        verify(giftSuggestionRepository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    void findSummariesByPriceRange_WithInvalidRange_ShouldThrowException() {
+        // When & Then
+        assertThatThrownBy(() -> giftSuggestionService.findSummariesByPriceRange(
+                new BigDecimal("100.00"), new BigDecimal("50.00")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Minimum price cannot be greater than maximum price");
+
+        verify(giftSuggestionRepository, never()).findSummariesWithinBudget(any(), any());
+    }
+
+    @Test
+    void findAllWithConcreteGifts_ShouldFetchPageOfIdsWithEntityGraph() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 2);
+        GiftSuggestion other = new GiftSuggestion("Board Game", "Strategy game", new BigDecimal("30.00"),
+                new BigDecimal("60.00"), AgeGroup.ADULT, Gender.UNISEX, Interest.GAMING, Occasion.CHRISTMAS,
+                Relationship.FAMILY, PersonalityType.EXTROVERT);
+        other.setId(UUID.randomUUID());
+        when(giftSuggestionRepository.findAllIds(pageable))
+                .thenReturn(new PageImpl<>(List.of(testId, other.getId()), pageable, 5));
+        when(giftSuggestionRepository.findWithConcreteGiftsByIdIn(List.of(testId, other.getId())))
+                .thenReturn(List.of(other, giftSuggestion));
+
+        // When
+        Page<GiftSuggestion> result = giftSuggestionService.findAllWithConcreteGifts(pageable);
+
+        // Then
+        assertThat(result.getContent()).containsExactly(giftSuggestion, other);
+        assertThat(result.getTotalElements()).isEqualTo(5);
+        verify(giftSuggestionRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void findWithAvailableGifts_ShouldKeepAvailableGiftsOnly() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        ConcreteGift available = new ConcreteGift("Smart Watch X", "Watch", new BigDecimal("99.00"),
+                "Amazon", giftSuggestion);
+        ConcreteGift soldOut = new ConcreteGift("Smart Watch Y", "Watch", new BigDecimal("89.00"),
+                "Amazon", giftSuggestion);
+        soldOut.setAvailable(false);
+        giftSuggestion.setConcreteGifts(new ArrayList<>(List.of(available, soldOut)));
+        when(giftSuggestionRepository.findIdsWithAvailableConcreteGifts(pageable))
+                .thenReturn(new SliceImpl<>(List.of(testId), pageable, true));
+        when(giftSuggestionRepository.findWithConcreteGiftsByIdIn(List.of(testId)))
+                .thenReturn(List.of(giftSuggestion));
+
+        // When
+        Slice<GiftSuggestionWithGifts> result = giftSuggestionService.findWithAvailableGifts(pageable);
+
+        // Then
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getContent().get(0).giftSuggestion()).isEqualTo(giftSuggestion);
+        assertThat(result.getContent().get(0).concreteGifts()).containsExactly(available);
+    }
+
+    @Test
+    void findWithAvailableGifts_WithSort_ShouldThrowException() {
+        // When & Then
+        assertThatThrownBy(() -> giftSuggestionService.findWithAvailableGifts(PageRequest.of(0, 10, Sort.by("name"))))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verify(giftSuggestionRepository, never()).findIdsWithAvailableConcreteGifts(any());
+    }
 }
\ No newline at end of file
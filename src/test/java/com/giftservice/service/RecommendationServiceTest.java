@@ -0,0 +1,176 @@
+package com.giftservice.service;
+
+import com.giftservice.entity.GiftSuggestion;
+import com.giftservice.enums.*;
+import com.giftservice.repository.GiftSuggestionRepository;
+import com.giftservice.service.impl.RecommendationServiceImpl;
+import com.giftservice.service.index.GiftSuggestionFacetIndex;
+import com.giftservice.service.recommendation.PrecomputedRecommendations;
+import com.giftservice.service.recommendation.ProfileKey;
+import com.giftservice.service.recommendation.RecipientProfile;
+import com.giftservice.service.recommendation.Recommendation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RecommendationServiceTest {
+
+    @Mock
+    private GiftSuggestionRepository giftSuggestionRepository;
+
+    @Mock
+    private GiftSuggestionFacetIndex facetIndex;
+
+    @Mock
+    private PrecomputedRecommendations precomputedRecommendations;
+
+    private RecommendationServiceImpl recommendationService;
+
+    private RecipientProfile profile;
+
+    @BeforeEach
+    void setUp() {
+        recommendationService = new RecommendationServiceImpl(
+                giftSuggestionRepository, facetIndex, precomputedRecommendations, Duration.ofMillis(50));
+        profile = new RecipientProfile(AgeGroup.ADULT, Gender.FEMALE, Interest.TECHNOLOGY, Occasion.BIRTHDAY,
+                Relationship.FRIEND, PersonalityType.CREATIVE, new BigDecimal("100.00"));
+    }
+
+    @Test
+    void recommend_WithUsableIndex_ShouldLoadRankedGiftSuggestionsInOrder() {
+        // Given
+        GiftSuggestion first = giftSuggestion("First", AgeGroup.ADULT, Gender.UNISEX, Interest.TECHNOLOGY, "10.00");
+        GiftSuggestion second = giftSuggestion("Second", AgeGroup.TEEN, Gender.MALE, Interest.ART, "10.00");
+        when(facetIndex.isUsable()).thenReturn(true);
+        when(facetIndex.rank(any(), eq(2), anyLong())).thenReturn(new GiftSuggestionFacetIndex.Ranking(List.of(
+                new GiftSuggestionFacetIndex.ScoredId(first.getId(), 0.9),
+                new GiftSuggestionFacetIndex.ScoredId(second.getId(), 0.4)), true));
+        when(giftSuggestionRepository.findAllById(List.of(first.getId(), second.getId())))
+                .thenReturn(List.of(second, first));
+
+        // When
+        List<Recommendation> result = recommendationService.recommend(profile, 2);
+
+        // Then
+        assertThat(result).extracting(Recommendation::giftSuggestion).containsExactly(first, second);
+        assertThat(result).extracting(Recommendation::score).containsExactly(0.9, 0.4);
+        verify(giftSuggestionRepository, never()).findAll();
+    }
+
+    @Test
+    void recommend_WithPrecomputedProfile_ShouldServeRankingWithoutScoring() {
+        // Given
+        RecipientProfile withoutBudget = new RecipientProfile(AgeGroup.ADULT, null, Interest.TECHNOLOGY, null,
+                null, null, null);
+        long key = ProfileKey.of(withoutBudget);
+        GiftSuggestion first = giftSuggestion("First", AgeGroup.ADULT, Gender.UNISEX, Interest.TECHNOLOGY, "10.00");
+        when(facetIndex.isUsable()).thenReturn(true);
+        when(precomputedRecommendations.find(key, 5)).thenReturn(Optional.of(List.of(
+                new GiftSuggestionFacetIndex.ScoredId(first.getId(), 1.0))));
+        when(giftSuggestionRepository.findAllById(List.of(first.getId()))).thenReturn(List.of(first));
+
+        // When
+        List<Recommendation> result = recommendationService.recommend(withoutBudget, 5);
+
+        // Then
+        assertThat(result).extracting(Recommendation::giftSuggestion).containsExactly(first);
+        verify(precomputedRecommendations).recordRequest(key);
+        verify(facetIndex, never()).rank(any(), anyInt(), anyLong());
+    }
+
+    @Test
+    void recommend_WithBudget_ShouldNotUsePrecomputedRankings() {
+        // Given
+        when(facetIndex.isUsable()).thenReturn(true);
+        when(facetIndex.rank(any(), eq(5), anyLong()))
+                .thenReturn(new GiftSuggestionFacetIndex.Ranking(List.of(), true));
+
+        // When
+        List<Recommendation> result = recommendationService.recommend(profile, 5);
+
+        // Then
+        assertThat(result).isEmpty();
+        verifyNoInteractions(precomputedRecommendations);
+    }
+
+    @Test
+    void recommend_WithUnusableIndex_ShouldLoadBoundedExactMatchesFromDatabase() {
+        // Given
+        GiftSuggestion allMatching = giftSuggestion("All", AgeGroup.ADULT, Gender.UNISEX, Interest.TECHNOLOGY, "50.00");
+        when(facetIndex.isUsable()).thenReturn(false);
+        when(giftSuggestionRepository.findFirstByAdvancedCriteria(profile.ageGroup(), profile.gender(),
+                profile.interest(), profile.occasion(), profile.relationship(), profile.personalityType(),
+                profile.budget(), 3))
+                .thenReturn(List.of(allMatching));
+
+        // When
+        List<Recommendation> result = recommendationService.recommend(profile, 3);
+
+        // Then
+        assertThat(result).extracting(Recommendation::giftSuggestion).containsExactly(allMatching);
+        assertThat(result.get(0).score()).isCloseTo(1.0, within(1e-9));
+        verify(giftSuggestionRepository, never()).findAll();
+        verify(facetIndex, never()).rank(any(), anyInt(), anyLong());
+    }
+
+    @Test
+    void recommend_WithNullProfile_ShouldThrowException() {
+        assertThatThrownBy(() -> recommendationService.recommend(null, 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Recipient profile cannot be null");
+    }
+
+    @Test
+    void recommend_WithInvalidLimit_ShouldThrowException() {
+        assertThatThrownBy(() -> recommendationService.recommend(profile, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Limit must be between 1 and 100");
+        assertThatThrownBy(() -> recommendationService.recommend(profile, RecommendationService.MAX_LIMIT + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void recommend_WithNegativeBudget_ShouldThrowException() {
+        RecipientProfile negativeBudget = new RecipientProfile(null, null, null, null, null, null,
+                new BigDecimal("-1.00"));
+
+        assertThatThrownBy(() -> recommendationService.recommend(negativeBudget, 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Budget cannot be negative");
+    }
+
+    private static GiftSuggestion giftSuggestion(String name, AgeGroup ageGroup, Gender gender, Interest interest,
+                                                 String minPrice) {
+        GiftSuggestion giftSuggestion = new GiftSuggestion(
+                name,
+                name + " description",
+                new BigDecimal(minPrice),
+                new BigDecimal(minPrice).multiply(BigDecimal.valueOf(2)),
+                ageGroup,
+                gender,
+                interest,
+                Occasion.BIRTHDAY,
+                Relationship.FRIEND,
+                PersonalityType.CREATIVE
+        );
+        giftSuggestion.setId(UUID.randomUUID());
+        return giftSuggestion;
+    }
+}
@@ -7,6 +7,7 @@ import com.giftservice.repository.ConcreteGiftRepository;
 import com.giftservice.repository.GiftSuggestionRepository;
 import com.giftservice.service.impl.ConcreteGiftServiceImpl;
 import com.giftservice.service.impl.GiftSuggestionServiceImpl;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,6 +28,7 @@ import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
+import static com.giftservice.metrics.StatementCountAssertions.assertMaxStatements;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -61,6 +63,9 @@ class ServiceIntegrationTest {
     @Autowired
     private ConcreteGiftService concreteGiftService;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private GiftSuggestion testGiftSuggestion;
 
     @BeforeEach
@@ -87,7 +92,8 @@ class ServiceIntegrationTest {
     @Test
     void giftSuggestionService_CreateAndRetrieve_ShouldWork() {
         // When
-        GiftSuggestion savedGiftSuggestion = giftSuggestionService.create(testGiftSuggestion);
+        GiftSuggestion savedGiftSuggestion = assertMaxStatements(1,
+                () -> flushed(giftSuggestionService.create(testGiftSuggestion)));
 
         // Then
         assertThat(savedGiftSuggestion.getId()).isNotNull();
@@ -95,7 +101,9 @@ class ServiceIntegrationTest {
         assertThat(savedGiftSuggestion.getCreatedDate()).isNotNull();
 
         // Verify retrieval
-        Optional<GiftSuggestion> retrieved = giftSuggestionService.findById(savedGiftSuggestion.getId());
+        entityManager.clear();
+        Optional<GiftSuggestion> retrieved = assertMaxStatements(1,
+                () -> giftSuggestionService.findById(savedGiftSuggestion.getId()));
         assertThat(retrieved).isPresent();
         assertThat(retrieved.get().getName()).isEqualTo("Integration Test Gift");
     }
@@ -104,6 +112,7 @@ class ServiceIntegrationTest {
     void giftSuggestionService_UpdateAndDelete_ShouldWork() {
         // Given
         GiftSuggestion savedGiftSuggestion = giftSuggestionService.create(testGiftSuggestion);
+        entityManager.flush();
 
         // When - Update
         GiftSuggestion updateData = new GiftSuggestion(
@@ -119,7 +128,8 @@ class ServiceIntegrationTest {
                 PersonalityType.ADVENTUROUS
         );
 
-        GiftSuggestion updatedGiftSuggestion = giftSuggestionService.update(savedGiftSuggestion.getId(), updateData);
+        GiftSuggestion updatedGiftSuggestion = assertMaxStatements(1,
+                () -> flushed(giftSuggestionService.update(savedGiftSuggestion.getId(), updateData)));
 
         // Then - Verify update
         assertThat(updatedGiftSuggestion.getName()).isEqualTo("Updated Integration Test Gift");
@@ -127,7 +137,10 @@ class ServiceIntegrationTest {
         assertThat(updatedGiftSuggestion.getAgeGroup()).isEqualTo(AgeGroup.TEEN);
 
         // When - Delete
-        giftSuggestionService.deleteById(savedGiftSuggestion.getId());
+        assertMaxStatements(2, () -> {
+            giftSuggestionService.deleteById(savedGiftSuggestion.getId());
+            entityManager.flush();
+        });
 
         // Then - Verify deletion
         Optional<GiftSuggestion> deletedGiftSuggestion = giftSuggestionService.findById(savedGiftSuggestion.getId());
@@ -152,13 +165,16 @@ class ServiceIntegrationTest {
                 PersonalityType.INTELLECTUAL
         );
         giftSuggestionService.create(anotherGiftSuggestion);
+        flushAndClear();
 
         // When & Then
-        List<GiftSuggestion> adultGifts = giftSuggestionService.findByAgeGroup(AgeGroup.ADULT);
+        List<GiftSuggestion> adultGifts = assertMaxStatements(1,
+                () -> giftSuggestionService.findByAgeGroup(AgeGroup.ADULT));
         assertThat(adultGifts).hasSize(1);
         assertThat(adultGifts.get(0).getName()).isEqualTo("Integration Test Gift");
 
-        List<GiftSuggestion> technologyGifts = giftSuggestionService.findByInterest(Interest.TECHNOLOGY);
+        List<GiftSuggestion> technologyGifts = assertMaxStatements(1,
+                () -> giftSuggestionService.findByInterest(Interest.TECHNOLOGY));
         assertThat(technologyGifts).hasSize(1);
 
         List<GiftSuggestion> childGifts = giftSuggestionService.findByAgeGroup(AgeGroup.CHILD);
@@ -184,10 +200,11 @@ class ServiceIntegrationTest {
                 PersonalityType.SOPHISTICATED
         );
         giftSuggestionService.create(expensiveGift);
+        flushAndClear();
 
         // When
-        List<GiftSuggestion> affordableGifts = giftSuggestionService.findByPriceRange(
-                new BigDecimal("5.00"), new BigDecimal("200.00"));
+        List<GiftSuggestion> affordableGifts = assertMaxStatements(1, () -> giftSuggestionService.findByPriceRange(
+                new BigDecimal("5.00"), new BigDecimal("200.00")));
 
         // Then
         assertThat(affordableGifts).hasSize(1);
@@ -198,10 +215,11 @@ class ServiceIntegrationTest {
     void giftSuggestionService_AdvancedSearch_ShouldWork() {
         // Given
         giftSuggestionService.create(testGiftSuggestion);
+        flushAndClear();
 
         // When
         Pageable pageable = PageRequest.of(0, 10);
-        Page<GiftSuggestion> results = giftSuggestionService.findByAdvancedCriteria(
+        Page<GiftSuggestion> results = assertMaxStatements(2, () -> giftSuggestionService.findByAdvancedCriteria(
                 AgeGroup.ADULT,
                 Gender.UNISEX,
                 Interest.TECHNOLOGY,
@@ -210,7 +228,7 @@ class ServiceIntegrationTest {
                 PersonalityType.CREATIVE,
                 new BigDecimal("150.00"),
                 pageable
-        );
+        ));
 
         // Then
         assertThat(results.getContent()).hasSize(1);
@@ -218,11 +236,11 @@ class ServiceIntegrationTest {
         assertThat(results.getTotalElements()).isEqualTo(1);
 
         // Test count method
-        long count = giftSuggestionService.countByAdvancedCriteria(
+        long count = assertMaxStatements(1, () -> giftSuggestionService.countByAdvancedCriteria(
                 AgeGroup.ADULT, Gender.UNISEX, Interest.TECHNOLOGY,
                 Occasion.BIRTHDAY, Relationship.FRIEND, PersonalityType.CREATIVE,
                 new BigDecimal("150.00")
-        );
+        ));
         assertThat(count).isEqualTo(1);
     }
 
@@ -240,9 +258,11 @@ class ServiceIntegrationTest {
         );
         concreteGift.setProductUrl("https://amazon.com/test-product");
         concreteGift.setProductSku("TEST-SKU-123");
+        entityManager.flush();
 
         // When
-        ConcreteGift savedConcreteGift = concreteGiftService.create(concreteGift);
+        ConcreteGift savedConcreteGift = assertMaxStatements(1,
+                () -> flushed(concreteGiftService.create(concreteGift)));
 
         // Then
         assertThat(savedConcreteGift.getId()).isNotNull();
@@ -251,7 +271,9 @@ class ServiceIntegrationTest {
         assertThat(savedConcreteGift.getGiftSuggestion()).isNotNull();
 
         // Verify retrieval
-        Optional<ConcreteGift> retrieved = concreteGiftService.findById(savedConcreteGift.getId());
+        entityManager.clear();
+        Optional<ConcreteGift> retrieved = assertMaxStatements(1,
+                () -> concreteGiftService.findById(savedConcreteGift.getId()));
         assertThat(retrieved).isPresent();
         assertThat(retrieved.get().getName()).isEqualTo("Integration Test Concrete Gift");
     }
@@ -280,17 +302,24 @@ class ServiceIntegrationTest {
         // When
         ConcreteGift savedGift1 = concreteGiftService.create(concreteGift1);
         ConcreteGift savedGift2 = concreteGiftService.create(concreteGift2);
-
-        // Then
-        List<ConcreteGift> relatedGifts = concreteGiftService.findByGiftSuggestionId(savedGiftSuggestion.getId());
+        flushAndClear();
+
+        // Then - The gift suggestion of all concrete gifts is loaded without a query per concrete gift
+        List<ConcreteGift> relatedGifts = assertMaxStatements(2, () -> {
+            List<ConcreteGift> gifts = concreteGiftService.findByGiftSuggestionId(savedGiftSuggestion.getId());
+            gifts.forEach(gift -> gift.getGiftSuggestion().getName());
+            return gifts;
+        });
         assertThat(relatedGifts).hasSize(2);
 
-        long count = concreteGiftService.countByGiftSuggestionId(savedGiftSuggestion.getId());
+        long count = assertMaxStatements(1,
+                () -> concreteGiftService.countByGiftSuggestionId(savedGiftSuggestion.getId()));
         assertThat(count).isEqualTo(2);
 
         // Test pagination
         Pageable pageable = PageRequest.of(0, 1);
-        Page<ConcreteGift> pagedResults = concreteGiftService.findByGiftSuggestionId(savedGiftSuggestion.getId(), pageable);
+        Page<ConcreteGift> pagedResults = assertMaxStatements(2,
+                () -> concreteGiftService.findByGiftSuggestionId(savedGiftSuggestion.getId(), pageable));
         assertThat(pagedResults.getContent()).hasSize(1);
         assertThat(pagedResults.getTotalElements()).isEqualTo(2);
     }
@@ -320,13 +349,14 @@ class ServiceIntegrationTest {
 
         concreteGiftService.create(amazonGift);
         concreteGiftService.create(ebayGift);
+        flushAndClear();
 
         // When & Then
-        List<ConcreteGift> amazonGifts = concreteGiftService.findByVendorName("Amazon");
+        List<ConcreteGift> amazonGifts = assertMaxStatements(1, () -> concreteGiftService.findByVendorName("Amazon"));
         assertThat(amazonGifts).hasSize(1);
         assertThat(amazonGifts.get(0).getName()).isEqualTo("Amazon Gift");
 
-        List<ConcreteGift> availableGifts = concreteGiftService.findByAvailable(true);
+        List<ConcreteGift> availableGifts = assertMaxStatements(1, () -> concreteGiftService.findByAvailable(true));
         assertThat(availableGifts).hasSize(1);
         assertThat(availableGifts.get(0).getName()).isEqualTo("Amazon Gift");
 
@@ -358,10 +388,11 @@ class ServiceIntegrationTest {
 
         concreteGiftService.create(cheapGift);
         concreteGiftService.create(expensiveGift);
+        flushAndClear();
 
         // When
-        List<ConcreteGift> midRangeGifts = concreteGiftService.findByPriceRange(
-                new BigDecimal("20.00"), new BigDecimal("90.00"));
+        List<ConcreteGift> midRangeGifts = assertMaxStatements(1, () -> concreteGiftService.findByPriceRange(
+                new BigDecimal("20.00"), new BigDecimal("90.00")));
 
         // Then
         assertThat(midRangeGifts).hasSize(1);
@@ -383,17 +414,18 @@ class ServiceIntegrationTest {
         concreteGift.setAvailable(true);
 
         concreteGiftService.create(concreteGift);
+        flushAndClear();
 
         // When
         Pageable pageable = PageRequest.of(0, 10);
-        Page<ConcreteGift> results = concreteGiftService.findByAdvancedCriteria(
+        Page<ConcreteGift> results = assertMaxStatements(2, () -> concreteGiftService.findByAdvancedCriteria(
                 savedGiftSuggestion.getId(),
                 "TestVendor",
                 true,
                 new BigDecimal("40.00"),
                 new BigDecimal("60.00"),
                 pageable
-        );
+        ));
 
         // Then
         assertThat(results.getContent()).hasSize(1);
@@ -451,7 +483,10 @@ class ServiceIntegrationTest {
         assertThat(concreteGiftService.countByGiftSuggestionId(savedGiftSuggestion.getId())).isEqualTo(1);
 
         // When - Delete concrete gift first
-        concreteGiftService.deleteById(savedConcreteGift.getId());
+        assertMaxStatements(2, () -> {
+            concreteGiftService.deleteById(savedConcreteGift.getId());
+            entityManager.flush();
+        });
 
         // Then - Only concrete gift should be deleted, suggestion should remain
         assertThat(giftSuggestionService.existsById(savedGiftSuggestion.getId())).isTrue();
@@ -477,15 +512,16 @@ class ServiceIntegrationTest {
             );
             giftSuggestionService.create(gift);
         }
+        flushAndClear();
 
         // When - Test pagination
         Pageable firstPage = PageRequest.of(0, 5);
         Pageable secondPage = PageRequest.of(1, 5);
         Pageable thirdPage = PageRequest.of(2, 5);
 
-        Page<GiftSuggestion> page1 = giftSuggestionService.findAll(firstPage);
-        Page<GiftSuggestion> page2 = giftSuggestionService.findAll(secondPage);
-        Page<GiftSuggestion> page3 = giftSuggestionService.findAll(thirdPage);
+        Page<GiftSuggestion> page1 = assertMaxStatements(2, () -> giftSuggestionService.findAll(firstPage));
+        Page<GiftSuggestion> page2 = assertMaxStatements(2, () -> giftSuggestionService.findAll(secondPage));
+        Page<GiftSuggestion> page3 = assertMaxStatements(2, () -> giftSuggestionService.findAll(thirdPage));
 
         // Then
         assertThat(page1.getContent()).hasSize(5);
@@ -502,4 +538,54 @@ class ServiceIntegrationTest {
         assertThat(page3.isFirst()).isFalse();
         assertThat(page3.isLast()).isTrue();
     }
+
+    @Test
+    void giftSuggestionService_FindAllWithConcreteGifts_ShouldNotQueryPerGiftSuggestion() {
+        // Given - Several gift suggestions with several concrete gifts each
+        for (int i = 0; i < 5; i++) {
+            GiftSuggestion gift = giftSuggestionService.create(new GiftSuggestion(
+                    "Gift " + i,
+                    "Description " + i,
+                    new BigDecimal("10.00"),
+                    new BigDecimal("100.00"),
+                    AgeGroup.ADULT,
+                    Gender.UNISEX,
+                    Interest.TECHNOLOGY,
+                    Occasion.BIRTHDAY,
+                    Relationship.FRIEND,
+                    PersonalityType.CREATIVE
+            ));
+            for (int j = 0; j < 3; j++) {
+                concreteGiftService.create(new ConcreteGift(
+                        "Concrete Gift " + i + "-" + j,
+                        "Offer " + j,
+                        new BigDecimal("50.00"),
+                        "Amazon",
+                        gift
+                ));
+            }
+        }
+        flushAndClear();
+
+        // When - Reading every concrete gift of a page
+        Page<GiftSuggestion> page = assertMaxStatements(2, () -> {
+            Page<GiftSuggestion> gifts = giftSuggestionService.findAllWithConcreteGifts(PageRequest.of(0, 10));
+            gifts.forEach(gift -> gift.getConcreteGifts().forEach(ConcreteGift::getName));
+            return gifts;
+        });
+
+        // Then
+        assertThat(page.getContent()).hasSize(5);
+        assertThat(page.getContent()).allSatisfy(gift -> assertThat(gift.getConcreteGifts()).hasSize(3));
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private <T> T flushed(T result) {
+        entityManager.flush();
+        return result;
+    }
 }
\ No newline at end of file
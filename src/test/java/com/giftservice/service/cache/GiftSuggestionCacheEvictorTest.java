@@ -0,0 +1,130 @@
+package com.giftservice.service.cache;
+
+import com.giftservice.config.CacheConfig;
+import com.giftservice.entity.GiftSuggestion;
+import com.giftservice.enums.*;
+import com.giftservice.service.GiftSuggestionSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GiftSuggestionCacheEvictorTest {
+
+    private CacheManager cacheManager;
+    private GiftSuggestionCacheEvictor cacheEvictor;
+
+    private GiftSuggestion adultGift;
+    private GiftSuggestion teenGift;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new CacheConfig().cacheManager("maximumSize=100");
+        cacheEvictor = new GiftSuggestionCacheEvictor(cacheManager);
+
+        adultGift = giftSuggestion("Smart Watch", AgeGroup.ADULT);
+        teenGift = giftSuggestion("Game Controller", AgeGroup.TEEN);
+
+        cache(CacheConfig.GIFT_SUGGESTIONS).put(adultGift.getId(), snapshot(adultGift));
+        cache(CacheConfig.GIFT_SUGGESTIONS).put(teenGift.getId(), snapshot(teenGift));
+        cache(CacheConfig.GIFT_SUGGESTIONS_BY_AGE_GROUP).put(AgeGroup.ADULT, List.of(snapshot(adultGift)));
+        cache(CacheConfig.GIFT_SUGGESTIONS_BY_AGE_GROUP).put(AgeGroup.TEEN, List.of(snapshot(teenGift)));
+        cache(CacheConfig.GIFT_SUGGESTIONS_BY_GENDER).put(Gender.UNISEX, List.of(snapshot(adultGift), snapshot(teenGift)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void evict_WithUpdatedGiftSuggestion_ShouldEvictOldAndNewListsOnly() {
+        // Given
+        cache(CacheConfig.GIFT_SUGGESTIONS_BY_AGE_GROUP).put(AgeGroup.SENIOR, List.of());
+        adultGift.setAgeGroup(AgeGroup.SENIOR);
+
+        // When
+        cacheEvictor.evict(adultGift.getId(), adultGift);
+
+        // Then
+        assertThat(cache(CacheConfig.GIFT_SUGGESTIONS).get(adultGift.getId())).isNull();
+        assertThat(cache(CacheConfig.GIFT_SUGGESTIONS_BY_AGE_GROUP).get(AgeGroup.ADULT)).isNull();
+        assertThat(cache(CacheConfig.GIFT_SUGGESTIONS_BY_AGE_GROUP).get(AgeGroup.SENIOR)).isNull();
+        assertThat(cache(CacheConfig.GIFT_SUGGESTIONS_BY_GENDER).get(Gender.UNISEX)).isNull();
+
+        assertThat(cache(CacheConfig.GIFT_SUGGESTIONS).get(teenGift.getId())).isNotNull();
+        assertThat(cache(CacheConfig.GIFT_SUGGESTIONS_BY_AGE_GROUP).get(AgeGroup.TEEN)).isNotNull();
+    }
+
+    @Test
+    void evict_WithDeletedGiftSuggestion_ShouldEvictListsContainingIt() {
+        // When
+        cacheEvictor.evict(teenGift.getId(), null);
+
+        // Then
+        assertThat(cache(CacheConfig.GIFT_SUGGESTIONS).get(teenGift.getId())).isNull();
+        assertThat(cache(CacheConfig.GIFT_SUGGESTIONS_BY_AGE_GROUP).get(AgeGroup.TEEN)).isNull();
+        assertThat(cache(CacheConfig.GIFT_SUGGESTIONS_BY_GENDER).get(Gender.UNISEX)).isNull();
+        assertThat(cache(CacheConfig.GIFT_SUGGESTIONS_BY_AGE_GROUP).get(AgeGroup.ADULT)).isNotNull();
+    }
+
+    @Test
+    void evict_InTransaction_ShouldEvictAfterCommitOnly() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        cacheEvictor.evict(adultGift.getId(), adultGift);
+        assertThat(cache(CacheConfig.GIFT_SUGGESTIONS).get(adultGift.getId())).isNotNull();
+
+        // When
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(TransactionSynchronization::afterCommit);
+
+        // Then
+        assertThat(cache(CacheConfig.GIFT_SUGGESTIONS).get(adultGift.getId())).isNull();
+        assertThat(cache(CacheConfig.GIFT_SUGGESTIONS_BY_AGE_GROUP).get(AgeGroup.ADULT)).isNull();
+    }
+
+    @Test
+    void evict_WithNullId_ShouldThrowException() {
+        assertThatThrownBy(() -> cacheEvictor.evict(null, adultGift))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("ID cannot be null");
+    }
+
+    private Cache cache(String name) {
+        return cacheManager.getCache(name);
+    }
+
+    private static GiftSuggestionSnapshot snapshot(GiftSuggestion giftSuggestion) {
+        return GiftSuggestionSnapshot.from(giftSuggestion);
+    }
+
+    private static GiftSuggestion giftSuggestion(String name, AgeGroup ageGroup) {
+        GiftSuggestion giftSuggestion = new GiftSuggestion(
+                name,
+                name + " description",
+                new BigDecimal("20.00"),
+                new BigDecimal("80.00"),
+                ageGroup,
+                Gender.UNISEX,
+                Interest.TECHNOLOGY,
+                Occasion.BIRTHDAY,
+                Relationship.FRIEND,
+                PersonalityType.CREATIVE
+        );
+        giftSuggestion.setId(UUID.randomUUID());
+        return giftSuggestion;
+    }
+}
@@ -0,0 +1,146 @@
+package com.giftservice.service.cache;
+
+import com.giftservice.config.CacheConfig;
+import com.giftservice.entity.GiftSuggestion;
+import com.giftservice.enums.*;
+import com.giftservice.repository.GiftSuggestionRepository;
+import com.giftservice.service.GiftSuggestionService;
+import com.giftservice.service.GiftSuggestionSnapshot;
+import com.giftservice.service.impl.GiftSuggestionServiceImpl;
+import com.giftservice.service.index.GiftSuggestionFacetIndex;
+import com.giftservice.service.recommendation.PrecomputedRecommendations;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Verifies the cache annotations of the gift suggestion service against the real cache configuration.
+ */
+@SpringJUnitConfig({CacheConfig.class, GiftSuggestionServiceImpl.class, GiftSuggestionCacheEvictor.class})
+class GiftSuggestionCachingTest {
+
+    @MockBean
+    private GiftSuggestionRepository giftSuggestionRepository;
+
+    @MockBean
+    private GiftSuggestionFacetIndex facetIndex;
+
+    @MockBean
+    private PrecomputedRecommendations precomputedRecommendations;
+
+    @Autowired
+    private GiftSuggestionService giftSuggestionService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private GiftSuggestion giftSuggestion;
+    private UUID testId;
+
+    @BeforeEach
+    void setUp() {
+        CacheConfig.CACHE_NAMES.forEach(name -> cacheManager.getCache(name).clear());
+
+        testId = UUID.randomUUID();
+        giftSuggestion = new GiftSuggestion(
+                "Test Gift",
+                "Test Description",
+                new BigDecimal("10.00"),
+                new BigDecimal("50.00"),
+                AgeGroup.ADULT,
+                Gender.UNISEX,
+                Interest.TECHNOLOGY,
+                Occasion.BIRTHDAY,
+                Relationship.FRIEND,
+                PersonalityType.CREATIVE
+        );
+        giftSuggestion.setId(testId);
+    }
+
+    @Test
+    void findSnapshotById_CalledTwice_ShouldQueryRepositoryOnce() {
+        // Given
+        when(giftSuggestionRepository.findById(testId)).thenReturn(Optional.of(giftSuggestion));
+
+        // When
+        giftSuggestionService.findSnapshotById(testId);
+        Optional<GiftSuggestionSnapshot> result = giftSuggestionService.findSnapshotById(testId);
+
+        // Then
+        assertThat(result).contains(GiftSuggestionSnapshot.from(giftSuggestion));
+        verify(giftSuggestionRepository, times(1)).findById(testId);
+    }
+
+    @Test
+    void findSnapshotById_WithMissingGiftSuggestion_ShouldNotCacheAbsence() {
+        // Given
+        when(giftSuggestionRepository.findById(testId)).thenReturn(Optional.empty());
+
+        // When
+        giftSuggestionService.findSnapshotById(testId);
+        giftSuggestionService.findSnapshotById(testId);
+
+        // Then
+        verify(giftSuggestionRepository, times(2)).findById(testId);
+    }
+
+    @Test
+    void findById_ShouldReturnEntityWithoutCaching() {
+        // Given
+        when(giftSuggestionRepository.findById(testId)).thenReturn(Optional.of(giftSuggestion));
+
+        // When
+        giftSuggestionService.findById(testId);
+        Optional<GiftSuggestion> result = giftSuggestionService.findById(testId);
+
+        // Then
+        assertThat(result).containsSame(giftSuggestion);
+        verify(giftSuggestionRepository, times(2)).findById(testId);
+    }
+
+    @Test
+    void update_AfterCachedLookups_ShouldReloadAffectedEntries() {
+        // Given
+        when(giftSuggestionRepository.findById(testId)).thenReturn(Optional.of(giftSuggestion));
+        when(giftSuggestionRepository.findByAgeGroup(AgeGroup.ADULT)).thenReturn(List.of(giftSuggestion));
+        when(giftSuggestionRepository.findByAgeGroup(AgeGroup.SENIOR)).thenReturn(List.of());
+        when(giftSuggestionRepository.save(any(GiftSuggestion.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        giftSuggestionService.findSnapshotById(testId);
+        giftSuggestionService.findSnapshotsByAgeGroup(AgeGroup.ADULT);
+        giftSuggestionService.findSnapshotsByAgeGroup(AgeGroup.SENIOR);
+
+        GiftSuggestion updateData = new GiftSuggestion(
+                "Updated Gift",
+                "Updated Description",
+                new BigDecimal("10.00"),
+                new BigDecimal("50.00"),
+                AgeGroup.SENIOR,
+                Gender.UNISEX,
+                Interest.TECHNOLOGY,
+                Occasion.BIRTHDAY,
+                Relationship.FRIEND,
+                PersonalityType.CREATIVE
+        );
+
+        // When
+        giftSuggestionService.update(testId, updateData);
+        giftSuggestionService.findSnapshotsByAgeGroup(AgeGroup.ADULT);
+        giftSuggestionService.findSnapshotsByAgeGroup(AgeGroup.SENIOR);
+
+        // Then
+        verify(giftSuggestionRepository, times(2)).findByAgeGroup(AgeGroup.ADULT);
+        verify(giftSuggestionRepository, times(2)).findByAgeGroup(AgeGroup.SENIOR);
+    }
+}
@@ -0,0 +1,120 @@
+package com.giftservice.service.cache;
+
+import com.giftservice.entity.GiftSuggestion;
+import com.giftservice.enums.*;
+import com.giftservice.service.GiftSuggestionSnapshot;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GiftSuggestionSnapshotCacheTest {
+
+    private GiftSuggestionSnapshotCache cache;
+    private GiftSuggestionSnapshot giftSuggestion;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new GiftSuggestionSnapshotCache("giftSuggestions", Caffeine.newBuilder().build());
+        GiftSuggestion entity = new GiftSuggestion(
+                "Smart Watch",
+                "Smart Watch description",
+                new BigDecimal("20.00"),
+                new BigDecimal("80.00"),
+                AgeGroup.ADULT,
+                Gender.UNISEX,
+                Interest.TECHNOLOGY,
+                Occasion.BIRTHDAY,
+                Relationship.FRIEND,
+                PersonalityType.CREATIVE
+        );
+        entity.setId(UUID.randomUUID());
+        giftSuggestion = GiftSuggestionSnapshot.from(entity);
+        loads = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    void get_WithCachedValue_ShouldNotLoadAgain() {
+        // Given
+        cache.get(giftSuggestion.id(), this::load);
+
+        // When
+        GiftSuggestionSnapshot cached = cache.get(giftSuggestion.id(), this::load);
+
+        // Then
+        assertThat(loads).hasValue(1);
+        assertThat(cached).isEqualTo(giftSuggestion);
+    }
+
+    @Test
+    void evictListsContaining_ShouldEvictOnlyListsWithGiftSuggestion() {
+        // Given
+        cache.get(AgeGroup.ADULT, () -> List.of(giftSuggestion));
+        cache.get(AgeGroup.TEEN, List::of);
+
+        // When
+        cache.evictListsContaining(giftSuggestion.id());
+
+        // Then
+        assertThat(cache.get(AgeGroup.ADULT)).isNull();
+        assertThat(cache.get(AgeGroup.TEEN)).isNotNull();
+    }
+
+    @Test
+    void get_WithLoadOverlappingEviction_ShouldNotKeepLoadedValue() {
+        // When - a write commits and evicts while the previous state is being loaded
+        cache.get(giftSuggestion.id(), () -> {
+            GiftSuggestionSnapshot previousState = load();
+            cache.evictIfPresent(giftSuggestion.id());
+            return previousState;
+        });
+        cache.get(giftSuggestion.id(), this::load);
+
+        // Then
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void get_WithNullValue_ShouldNotCacheAbsence() {
+        // When
+        cache.get(giftSuggestion.id(), () -> null);
+
+        // Then
+        assertThat(cache.get(giftSuggestion.id())).isNull();
+    }
+
+    @Test
+    void get_InReadWriteTransaction_ShouldBypassCache() {
+        // Given
+        cache.get(giftSuggestion.id(), this::load);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // When
+        cache.get(giftSuggestion.id(), this::load);
+        cache.get(UUID.randomUUID(), this::load);
+
+        // Then
+        assertThat(loads).hasValue(3);
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        assertThat(cache.getNativeCache().estimatedSize()).isEqualTo(1);
+    }
+
+    private GiftSuggestionSnapshot load() {
+        loads.incrementAndGet();
+        return giftSuggestion;
+    }
+}
@@ -0,0 +1,316 @@
+package com.giftservice.service.index;
+
+import com.giftservice.entity.GiftSuggestion;
+import com.giftservice.enums.*;
+import com.giftservice.repository.GiftSuggestionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GiftSuggestionFacetIndexTest {
+
+    @Mock
+    private GiftSuggestionRepository giftSuggestionRepository;
+
+    private GiftSuggestionFacetIndex facetIndex;
+
+    private GiftSuggestion adultTechBirthday;
+    private GiftSuggestion teenGamingBirthday;
+    private GiftSuggestion adultArtChristmas;
+
+    @BeforeEach
+    void setUp() {
+        adultTechBirthday = giftSuggestion("Smart Watch", "20.00", "80.00",
+                AgeGroup.ADULT, Interest.TECHNOLOGY, Occasion.BIRTHDAY);
+        teenGamingBirthday = giftSuggestion("Game Controller", "30.00", "60.00",
+                AgeGroup.TEEN, Interest.GAMING, Occasion.BIRTHDAY);
+        adultArtChristmas = giftSuggestion("Paint Set", "150.00", "300.00",
+                AgeGroup.ADULT, Interest.ART, Occasion.CHRISTMAS);
+
+        when(giftSuggestionRepository.findAll())
+                .thenReturn(List.of(adultTechBirthday, teenGamingBirthday, adultArtChristmas));
+
+        facetIndex = new GiftSuggestionFacetIndex(giftSuggestionRepository);
+        facetIndex.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        facetIndex.shutdown();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void count_WithNoCriteria_ShouldCountAllEntries() {
+        assertThat(facetIndex.size()).isEqualTo(3);
+        assertThat(facetIndex.count(null, null, null, null, null, null, null)).isEqualTo(3);
+    }
+
+    @Test
+    void count_WithSingleCriterion_ShouldMatchFacet() {
+        assertThat(facetIndex.count(AgeGroup.ADULT, null, null, null, null, null, null)).isEqualTo(2);
+        assertThat(facetIndex.count(null, null, null, Occasion.BIRTHDAY, null, null, null)).isEqualTo(2);
+        assertThat(facetIndex.count(AgeGroup.BABY, null, null, null, null, null, null)).isZero();
+    }
+
+    @Test
+    void findIds_WithCombinedCriteriaAndBudget_ShouldIntersectFacets() {
+        Page<UUID> page = facetIndex.findIds(AgeGroup.ADULT, Gender.UNISEX, null, null, null, null,
+                new BigDecimal("100.00"), PageRequest.of(0, 10));
+
+        assertThat(page.getContent()).containsExactly(adultTechBirthday.getId());
+        assertThat(page.getTotalElements()).isEqualTo(1);
+    }
+
+    @Test
+    void findIds_WithPagination_ShouldReturnRequestedSlice() {
+        Page<UUID> firstPage = facetIndex.findIds(null, null, null, null, null, null, null, PageRequest.of(0, 2));
+        Page<UUID> secondPage = facetIndex.findIds(null, null, null, null, null, null, null, PageRequest.of(1, 2));
+
+        assertThat(firstPage.getContent()).hasSize(2);
+        assertThat(secondPage.getContent()).hasSize(1);
+        assertThat(secondPage.getTotalElements()).isEqualTo(3);
+        assertThat(firstPage.getContent()).doesNotContainAnyElementsOf(secondPage.getContent());
+    }
+
+    @Test
+    void findIds_WithUnpagedRequest_ShouldReturnAllMatches() {
+        Page<UUID> page = facetIndex.findIds(AgeGroup.ADULT, null, null, null, null, null, null, Pageable.unpaged());
+
+        assertThat(page.getContent())
+                .containsExactlyInAnyOrder(adultTechBirthday.getId(), adultArtChristmas.getId());
+        assertThat(page.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    void findIdsByPriceRange_WithBoundsBeyondCentsRange_ShouldSaturate() {
+        assertThat(facetIndex.findIdsByPriceRange(new BigDecimal("-1E+30"), new BigDecimal("1E+30")))
+                .hasSize(3);
+        assertThat(facetIndex.count(null, null, null, null, null, null, new BigDecimal("1E+30"))).isEqualTo(3);
+        assertThat(facetIndex.count(null, null, null, null, null, null, new BigDecimal("-1E+30"))).isZero();
+    }
+
+    @Test
+    void findIdsByPriceRange_ShouldReturnOverlappingPriceRanges() {
+        assertThat(facetIndex.findIdsByPriceRange(new BigDecimal("65.00"), new BigDecimal("100.00")))
+                .containsExactly(adultTechBirthday.getId());
+        assertThat(facetIndex.findIdsByPriceRange(new BigDecimal("50.00"), new BigDecimal("150.00")))
+                .containsExactlyInAnyOrder(adultTechBirthday.getId(), teenGamingBirthday.getId(),
+                        adultArtChristmas.getId());
+        assertThat(facetIndex.findIdsByPriceRange(new BigDecimal("1.00"), new BigDecimal("10.00"))).isEmpty();
+    }
+
+    @Test
+    void findIdsByPriceRange_AfterWrite_ShouldReflectNewPrices() {
+        facetIndex.findIdsByPriceRange(new BigDecimal("1.00"), new BigDecimal("10.00"));
+        teenGamingBirthday.setMinPrice(new BigDecimal("5.00"));
+
+        facetIndex.recordWrite(teenGamingBirthday);
+
+        assertThat(facetIndex.findIdsByPriceRange(new BigDecimal("1.00"), new BigDecimal("10.00")))
+                .containsExactly(teenGamingBirthday.getId());
+    }
+
+    @Test
+    void findIdsByPriceRange_WithManyWrites_ShouldRebuildPriceIndexInBackground() throws InterruptedException {
+        List<UUID> cheapIds = new ArrayList<>();
+        for (int i = 0; i <= GiftSuggestionFacetIndex.PRICE_INDEX_DELTA_LIMIT; i++) {
+            GiftSuggestion cheap = giftSuggestion("Cheap " + i, "1.00", "5.00",
+                    AgeGroup.CHILD, Interest.ART, Occasion.BIRTHDAY);
+            facetIndex.recordWrite(cheap);
+            cheapIds.add(cheap.getId());
+        }
+        adultArtChristmas.setMinPrice(new BigDecimal("2.00"));
+        facetIndex.recordWrite(adultArtChristmas);
+        List<UUID> expectedIds = new ArrayList<>(cheapIds);
+        expectedIds.add(adultArtChristmas.getId());
+
+        // Written slots are answered before the rebuilt index is installed
+        assertThat(facetIndex.findIdsByPriceRange(new BigDecimal("1.00"), new BigDecimal("5.00")))
+                .containsExactlyInAnyOrderElementsOf(expectedIds);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (facetIndex.priceIndexDeltaSize() > GiftSuggestionFacetIndex.PRICE_INDEX_DELTA_LIMIT
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(facetIndex.priceIndexDeltaSize()).isLessThanOrEqualTo(GiftSuggestionFacetIndex.PRICE_INDEX_DELTA_LIMIT);
+        assertThat(facetIndex.findIdsByPriceRange(new BigDecimal("1.00"), new BigDecimal("5.00")))
+                .containsExactlyInAnyOrderElementsOf(expectedIds);
+        assertThat(facetIndex.count(null, null, null, null, null, null, new BigDecimal("5.00")))
+                .isEqualTo(expectedIds.size());
+    }
+
+    @Test
+    void findIds_WithSortedPageable_ShouldThrowException() {
+        assertThatThrownBy(() -> facetIndex.findIds(null, null, null, null, null, null, null,
+                PageRequest.of(0, 10, Sort.by("name"))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void recordWrite_WithoutTransaction_ShouldReindexImmediately() {
+        teenGamingBirthday.setAgeGroup(AgeGroup.ADULT);
+
+        facetIndex.recordWrite(teenGamingBirthday);
+
+        assertThat(facetIndex.count(AgeGroup.ADULT, null, null, null, null, null, null)).isEqualTo(3);
+        assertThat(facetIndex.count(AgeGroup.TEEN, null, null, null, null, null, null)).isZero();
+    }
+
+    @Test
+    void recordDelete_WithoutTransaction_ShouldRemoveEntry() {
+        facetIndex.recordDelete(adultArtChristmas.getId());
+
+        assertThat(facetIndex.size()).isEqualTo(2);
+        assertThat(facetIndex.count(null, null, Interest.ART, null, null, null, null)).isZero();
+    }
+
+    @Test
+    void recordWrite_InTransaction_ShouldApplyAfterCommitOnly() {
+        TransactionSynchronizationManager.initSynchronization();
+        GiftSuggestion newGift = giftSuggestion("Board Game", "15.00", "40.00",
+                AgeGroup.CHILD, Interest.GAMING, Occasion.CHRISTMAS);
+
+        facetIndex.recordWrite(newGift);
+
+        assertThat(facetIndex.isUsable()).isFalse();
+        assertThat(facetIndex.size()).isEqualTo(3);
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        assertThat(facetIndex.isUsable()).isTrue();
+        assertThat(facetIndex.count(AgeGroup.CHILD, null, null, null, null, null, null)).isEqualTo(1);
+    }
+
+    @Test
+    void recordWrite_InRolledBackTransaction_ShouldDiscardChange() {
+        TransactionSynchronizationManager.initSynchronization();
+        facetIndex.recordDelete(adultTechBirthday.getId());
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(facetIndex.isUsable()).isTrue();
+        assertThat(facetIndex.size()).isEqualTo(3);
+    }
+
+    @Test
+    void rebuild_WithWritesCommittedDuringSnapshot_ShouldReplayThem() {
+        GiftSuggestion newGift = giftSuggestion("Board Game", "15.00", "40.00",
+                AgeGroup.CHILD, Interest.GAMING, Occasion.CHRISTMAS);
+        when(giftSuggestionRepository.findAll()).thenAnswer(invocation -> {
+            // Committed after the snapshot was read, so missing from it
+            facetIndex.recordWrite(newGift);
+            facetIndex.recordDelete(adultArtChristmas.getId());
+            return List.of(adultTechBirthday, teenGamingBirthday, adultArtChristmas);
+        });
+
+        facetIndex.rebuild();
+
+        assertThat(facetIndex.size()).isEqualTo(3);
+        assertThat(facetIndex.count(AgeGroup.CHILD, null, null, null, null, null, null)).isEqualTo(1);
+        assertThat(facetIndex.count(null, null, Interest.ART, null, null, null, null)).isZero();
+    }
+
+    @Test
+    void rank_ShouldReturnHighestScoresInDescendingOrder() {
+        FacetScores scores = new FacetScores(
+                scores(AgeGroup.values().length, AgeGroup.ADULT.ordinal(), 1.0),
+                new double[Gender.values().length],
+                scores(Interest.values().length, Interest.GAMING.ordinal(), 2.0),
+                new double[Occasion.values().length],
+                new double[Relationship.values().length],
+                new double[PersonalityType.values().length],
+                null, 0);
+
+        GiftSuggestionFacetIndex.Ranking ranking = facetIndex.rank(scores, 2, System.nanoTime() + 1_000_000_000L);
+
+        assertThat(ranking.complete()).isTrue();
+        assertThat(ranking.entries()).extracting(GiftSuggestionFacetIndex.ScoredId::id)
+                .containsExactly(teenGamingBirthday.getId(), adultTechBirthday.getId());
+        assertThat(ranking.entries()).extracting(GiftSuggestionFacetIndex.ScoredId::score)
+                .containsExactly(2.0, 1.0);
+    }
+
+    @Test
+    void rank_WithBudget_ShouldScorePricesAboveBudgetPartially() {
+        FacetScores scores = new FacetScores(
+                new double[AgeGroup.values().length],
+                new double[Gender.values().length],
+                new double[Interest.values().length],
+                new double[Occasion.values().length],
+                new double[Relationship.values().length],
+                new double[PersonalityType.values().length],
+                new BigDecimal("75.00"), 1.0);
+
+        GiftSuggestionFacetIndex.Ranking ranking = facetIndex.rank(scores, 3, System.nanoTime() + 1_000_000_000L);
+
+        assertThat(ranking.entries()).extracting(GiftSuggestionFacetIndex.ScoredId::score)
+                .containsExactly(1.0, 1.0, 0.5);
+        assertThat(ranking.entries().get(2).id()).isEqualTo(adultArtChristmas.getId());
+    }
+
+    @Test
+    void rank_WithInvalidLimit_ShouldThrowException() {
+        FacetScores scores = new FacetScores(
+                new double[AgeGroup.values().length],
+                new double[Gender.values().length],
+                new double[Interest.values().length],
+                new double[Occasion.values().length],
+                new double[Relationship.values().length],
+                new double[PersonalityType.values().length],
+                null, 0);
+
+        assertThatThrownBy(() -> facetIndex.rank(scores, 0, System.nanoTime()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static double[] scores(int length, int ordinal, double score) {
+        double[] scores = new double[length];
+        scores[ordinal] = score;
+        return scores;
+    }
+
+    private static GiftSuggestion giftSuggestion(String name, String minPrice, String maxPrice,
+                                                 AgeGroup ageGroup, Interest interest, Occasion occasion) {
+        GiftSuggestion giftSuggestion = new GiftSuggestion(
+                name,
+                name + " description",
+                new BigDecimal(minPrice),
+                new BigDecimal(maxPrice),
+                ageGroup,
+                Gender.UNISEX,
+                interest,
+                occasion,
+                Relationship.FRIEND,
+                PersonalityType.CREATIVE
+        );
+        giftSuggestion.setId(UUID.randomUUID());
+        return giftSuggestion;
+    }
+}
@@ -0,0 +1,82 @@
+package com.giftservice.service.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LongObjectHashMapTest {
+
+    @Test
+    void put_ShouldReplaceExistingValue() {
+        LongObjectHashMap<String> map = new LongObjectHashMap<>();
+
+        assertThat(map.put(42L, "first")).isNull();
+        assertThat(map.put(42L, "second")).isEqualTo("first");
+
+        assertThat(map.get(42L)).isEqualTo("second");
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    void put_WithNullValue_ShouldThrowException() {
+        LongObjectHashMap<String> map = new LongObjectHashMap<>();
+
+        assertThatThrownBy(() -> map.put(1L, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void operations_ShouldMatchHashMapUnderRandomWorkload() {
+        LongObjectHashMap<Long> map = new LongObjectHashMap<>();
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            // Few distinct keys, so that growing, colliding and removing all occur
+            long key = random.nextInt(2_000) - 1_000L;
+            switch (random.nextInt(3)) {
+                case 0 -> assertThat(map.put(key, (long) i)).isEqualTo(expected.put(key, (long) i));
+                case 1 -> assertThat(map.remove(key)).isEqualTo(expected.remove(key));
+                default -> assertThat(map.get(key)).isEqualTo(expected.get(key));
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        Map<Long, Long> actual = new HashMap<>();
+        map.forEach(actual::put);
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void removeIf_ShouldRemoveMatchingEntriesOnly() {
+        LongObjectHashMap<Long> map = new LongObjectHashMap<>();
+        for (long key = 0; key < 1_000; key++) {
+            map.put(key, key);
+        }
+
+        int removed = map.removeIf((key, value) -> value % 3 == 0);
+
+        assertThat(removed).isEqualTo(334);
+        assertThat(map.size()).isEqualTo(666);
+        for (long key = 0; key < 1_000; key++) {
+            assertThat(map.get(key)).isEqualTo(key % 3 == 0 ? null : key);
+        }
+    }
+
+    @Test
+    void clear_ShouldRemoveAllEntries() {
+        LongObjectHashMap<String> map = new LongObjectHashMap<>(4);
+        map.put(1L, "one");
+        map.put(2L, "two");
+
+        map.clear();
+
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.get(1L)).isNull();
+    }
+}
@@ -0,0 +1,58 @@
+package com.giftservice.service.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PriceCentsTest {
+
+    @Test
+    void of_ShouldConvertStoredPricesExactly() {
+        assertThat(PriceCents.of(new BigDecimal("19.99"))).isEqualTo(1999);
+        assertThat(PriceCents.of(new BigDecimal("20"))).isEqualTo(2000);
+        assertThat(PriceCents.of(new BigDecimal("99999999.99"))).isEqualTo(9_999_999_999L);
+    }
+
+    @Test
+    void of_WithMoreDecimals_ShouldRoundHalfUpLikeTheColumn() {
+        assertThat(PriceCents.of(new BigDecimal("19.994"))).isEqualTo(1999);
+        assertThat(PriceCents.of(new BigDecimal("19.995"))).isEqualTo(2000);
+    }
+
+    @Test
+    void floorOfAndCeilingOf_ShouldRoundBudgetBoundsTowardsMatchingSide() {
+        BigDecimal bound = new BigDecimal("10.005");
+
+        assertThat(PriceCents.floorOf(bound)).isEqualTo(1000);
+        assertThat(PriceCents.ceilingOf(bound)).isEqualTo(1001);
+        assertThat(PriceCents.floorOf(new BigDecimal("10.00"))).isEqualTo(1000);
+        assertThat(PriceCents.ceilingOf(new BigDecimal("10.00"))).isEqualTo(1000);
+    }
+
+    @Test
+    void toBigDecimal_ShouldRestorePriceWithTwoDecimals() {
+        assertThat(PriceCents.toBigDecimal(1999)).isEqualTo(new BigDecimal("19.99"));
+        assertThat(PriceCents.toBigDecimal(PriceCents.of(new BigDecimal("5")))).isEqualTo(new BigDecimal("5.00"));
+    }
+
+    @Test
+    void floorOfAndCeilingOf_BeyondLongRange_ShouldSaturate() {
+        assertThat(PriceCents.floorOf(new BigDecimal("1E+30"))).isEqualTo(Long.MAX_VALUE);
+        assertThat(PriceCents.ceilingOf(new BigDecimal("1E+30"))).isEqualTo(Long.MAX_VALUE);
+        assertThat(PriceCents.floorOf(new BigDecimal("-1E+30"))).isEqualTo(Long.MIN_VALUE);
+        assertThat(PriceCents.ceilingOf(new BigDecimal("-1E+30"))).isEqualTo(Long.MIN_VALUE);
+        assertThat(PriceCents.floorOf(new BigDecimal("92233720368547758.07"))).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void of_WithInvalidPrice_ShouldThrowException() {
+        assertThatThrownBy(() -> PriceCents.of(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Price cannot be null");
+        assertThatThrownBy(() -> PriceCents.of(new BigDecimal("1E+30")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
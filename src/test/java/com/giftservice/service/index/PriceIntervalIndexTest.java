@@ -0,0 +1,96 @@
+package com.giftservice.service.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PriceIntervalIndexTest {
+
+    @Test
+    void collectOverlapping_ShouldMatchLinearScan() {
+        Random random = new Random(7);
+        int capacity = 500;
+        long[] minPrices = new long[capacity];
+        long[] maxPrices = new long[capacity];
+        BitSet liveSlots = new BitSet();
+        for (int slot = 0; slot < capacity; slot++) {
+            // Leave gaps, as the facet index does after deletes
+            if (random.nextInt(5) > 0) {
+                minPrices[slot] = random.nextInt(10_000);
+                maxPrices[slot] = minPrices[slot] + random.nextInt(5_000);
+                liveSlots.set(slot);
+            }
+        }
+
+        PriceIntervalIndex index = PriceIntervalIndex.build(liveSlots, minPrices, maxPrices);
+
+        for (int query = 0; query < 1_000; query++) {
+            long minBudget = random.nextInt(12_000);
+            long maxBudget = minBudget + random.nextInt(3_000);
+
+            BitSet expected = new BitSet();
+            BitSet expectedAffordable = new BitSet();
+            for (int slot = liveSlots.nextSetBit(0); slot >= 0; slot = liveSlots.nextSetBit(slot + 1)) {
+                if (minPrices[slot] <= maxBudget) {
+                    expectedAffordable.set(slot);
+                    if (maxPrices[slot] >= minBudget) {
+                        expected.set(slot);
+                    }
+                }
+            }
+
+            BitSet overlapping = new BitSet();
+            index.collectOverlapping(minBudget, maxBudget, overlapping);
+            BitSet affordable = new BitSet();
+            index.collectAffordable(maxBudget, affordable);
+
+            assertThat(overlapping).isEqualTo(expected);
+            assertThat(affordable).isEqualTo(expectedAffordable);
+        }
+    }
+
+    @Test
+    void collectAffordable_WithPricesBeyondPackedRange_ShouldSortByMinimumPrice() {
+        BitSet liveSlots = new BitSet();
+        liveSlots.set(0, 3);
+        long[] minPrices = {Long.MAX_VALUE / 2, 1_000, Long.MAX_VALUE / 4};
+        long[] maxPrices = {Long.MAX_VALUE, 2_000, Long.MAX_VALUE};
+
+        PriceIntervalIndex index = PriceIntervalIndex.build(liveSlots, minPrices, maxPrices);
+
+        BitSet affordable = new BitSet();
+        index.collectAffordable(Long.MAX_VALUE / 4, affordable);
+        assertThat(affordable.stream()).containsExactly(1, 2);
+    }
+
+    @Test
+    void collectOverlapping_WithEmptyIndex_ShouldFindNothing() {
+        PriceIntervalIndex index = PriceIntervalIndex.build(new BitSet(), new long[0], new long[0]);
+
+        BitSet result = new BitSet();
+        index.collectOverlapping(0, 1_000, result);
+
+        assertThat(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    void collectOverlapping_ShouldIncludeTouchingBounds() {
+        BitSet liveSlots = new BitSet();
+        liveSlots.set(0);
+        PriceIntervalIndex index = PriceIntervalIndex.build(liveSlots, new long[] {1_000}, new long[] {2_000});
+
+        BitSet below = new BitSet();
+        index.collectOverlapping(100, 1_000, below);
+        BitSet above = new BitSet();
+        index.collectOverlapping(2_000, 3_000, above);
+        BitSet outside = new BitSet();
+        index.collectOverlapping(2_001, 3_000, outside);
+
+        assertThat(below.get(0)).isTrue();
+        assertThat(above.get(0)).isTrue();
+        assertThat(outside.isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,57 @@
+package com.giftservice.service.pagination;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ContinuationTokenTest {
+
+    @Test
+    void encodeAndDecode_ShouldRoundTrip() {
+        // Given
+        ContinuationToken token = new ContinuationToken(LocalDateTime.of(2024, 5, 17, 10, 30, 15, 123456000),
+                UUID.randomUUID());
+
+        // When
+        ContinuationToken decoded = ContinuationToken.decode(token.encode());
+
+        // Then
+        assertThat(decoded).isEqualTo(token);
+    }
+
+    @Test
+    void encode_ShouldProduceUrlSafeToken() {
+        // Given
+        ContinuationToken token = new ContinuationToken(LocalDateTime.now(), UUID.randomUUID());
+
+        // When
+        String encoded = token.encode();
+
+        // Then
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void constructor_ShouldTruncateToDatabasePrecision() {
+        // When
+        ContinuationToken token = new ContinuationToken(LocalDateTime.of(2024, 1, 1, 0, 0, 0, 123456789),
+                UUID.randomUUID());
+
+        // Then
+        assertThat(token.createdDate().getNano()).isEqualTo(123456000);
+    }
+
+    @Test
+    void decode_WithMalformedToken_ShouldThrowException() {
+        assertThatThrownBy(() -> ContinuationToken.decode("not a token"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ContinuationToken.decode("bm8tc2VwYXJhdG9y"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ContinuationToken.decode(""))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
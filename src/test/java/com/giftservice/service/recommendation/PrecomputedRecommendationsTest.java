@@ -0,0 +1,148 @@
+package com.giftservice.service.recommendation;
+
+import com.giftservice.entity.GiftSuggestion;
+import com.giftservice.enums.*;
+import com.giftservice.repository.GiftSuggestionRepository;
+import com.giftservice.service.index.GiftSuggestionFacetIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PrecomputedRecommendationsTest {
+
+    @Mock
+    private GiftSuggestionRepository giftSuggestionRepository;
+
+    private PrecomputedRecommendations precomputedRecommendations;
+
+    private GiftSuggestion adultTech;
+    private GiftSuggestion teenGaming;
+    private RecipientProfile adultProfile;
+
+    @BeforeEach
+    void setUp() {
+        adultTech = giftSuggestion("Smart Watch", AgeGroup.ADULT, Interest.TECHNOLOGY);
+        teenGaming = giftSuggestion("Game Controller", AgeGroup.TEEN, Interest.GAMING);
+        when(giftSuggestionRepository.findAll()).thenReturn(List.of(adultTech, teenGaming));
+
+        GiftSuggestionFacetIndex facetIndex = new GiftSuggestionFacetIndex(giftSuggestionRepository);
+        facetIndex.rebuild();
+        precomputedRecommendations = new PrecomputedRecommendations(facetIndex, 10);
+
+        adultProfile = new RecipientProfile(AgeGroup.ADULT, null, Interest.TECHNOLOGY, null, null, null, null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void isPrecomputable_WithBudget_ShouldReturnFalse() {
+        RecipientProfile withBudget = new RecipientProfile(AgeGroup.ADULT, null, null, null, null, null,
+                new BigDecimal("50.00"));
+
+        assertThat(PrecomputedRecommendations.isPrecomputable(adultProfile)).isTrue();
+        assertThat(PrecomputedRecommendations.isPrecomputable(withBudget)).isFalse();
+    }
+
+    @Test
+    void refresh_ShouldPrecomputeRepeatedlyRequestedProfilesOnly() {
+        // Given
+        long hotKey = ProfileKey.of(adultProfile);
+        long coldKey = ProfileKey.of(AgeGroup.TEEN, null, null, null, null, null);
+        precomputedRecommendations.recordRequest(hotKey);
+        precomputedRecommendations.recordRequest(hotKey);
+        precomputedRecommendations.recordRequest(coldKey);
+
+        // When
+        precomputedRecommendations.refresh();
+
+        // Then
+        assertThat(precomputedRecommendations.find(coldKey, 10)).isEmpty();
+        assertThat(precomputedRecommendations.find(hotKey, 10)).hasValueSatisfying(ranking -> {
+            assertThat(ranking).extracting(GiftSuggestionFacetIndex.ScoredId::id)
+                    .containsExactly(adultTech.getId(), teenGaming.getId());
+            assertThat(ranking.get(0).score()).isEqualTo(1.0);
+        });
+        assertThat(precomputedRecommendations.find(hotKey, 1)).hasValueSatisfying(ranking ->
+                assertThat(ranking).hasSize(1));
+    }
+
+    @Test
+    void recordWrite_ShouldInvalidateAffectedProfilesOnly() {
+        // Given
+        long key = precompute(adultProfile);
+
+        // When
+        precomputedRecommendations.recordDelete(UUID.randomUUID());
+
+        // Then
+        assertThat(precomputedRecommendations.find(key, 10)).isPresent();
+
+        // When
+        precomputedRecommendations.recordWrite(teenGaming);
+
+        // Then
+        assertThat(precomputedRecommendations.find(key, 10)).isEmpty();
+    }
+
+    @Test
+    void recordDelete_InTransaction_ShouldInvalidateAgainAfterCommit() {
+        // Given
+        long key = precompute(adultProfile);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        precomputedRecommendations.recordDelete(adultTech.getId());
+        assertThat(precomputedRecommendations.find(key, 10)).isEmpty();
+
+        // A concurrent refresh still sees the committed state before this transaction commits
+        precompute(adultProfile);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(TransactionSynchronization::afterCommit);
+
+        // Then
+        assertThat(precomputedRecommendations.find(key, 10)).isEmpty();
+    }
+
+    private long precompute(RecipientProfile profile) {
+        long key = ProfileKey.of(profile);
+        precomputedRecommendations.recordRequest(key);
+        precomputedRecommendations.recordRequest(key);
+        precomputedRecommendations.refresh();
+        return key;
+    }
+
+    private static GiftSuggestion giftSuggestion(String name, AgeGroup ageGroup, Interest interest) {
+        GiftSuggestion giftSuggestion = new GiftSuggestion(
+                name,
+                name + " description",
+                new BigDecimal("20.00"),
+                new BigDecimal("80.00"),
+                ageGroup,
+                Gender.UNISEX,
+                interest,
+                Occasion.BIRTHDAY,
+                Relationship.FRIEND,
+                PersonalityType.CREATIVE
+        );
+        giftSuggestion.setId(UUID.randomUUID());
+        return giftSuggestion;
+    }
+}
@@ -0,0 +1,70 @@
+package com.giftservice.service.recommendation;
+
+import com.giftservice.enums.*;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProfileKeyTest {
+
+    @Test
+    void of_WithFullProfile_ShouldRoundTrip() {
+        RecipientProfile profile = new RecipientProfile(AgeGroup.SENIOR, Gender.NON_BINARY, Interest.BEAUTY,
+                Occasion.JUST_BECAUSE, Relationship.BOSS, PersonalityType.MODERN, null);
+
+        assertThat(ProfileKey.toProfile(ProfileKey.of(profile))).isEqualTo(profile);
+    }
+
+    @Test
+    void of_WithPartialProfile_ShouldKeepWildcards() {
+        RecipientProfile partial = new RecipientProfile(null, Gender.FEMALE, null, Occasion.BIRTHDAY,
+                null, null, null);
+        RecipientProfile empty = new RecipientProfile(null, null, null, null, null, null, null);
+
+        assertThat(ProfileKey.toProfile(ProfileKey.of(partial))).isEqualTo(partial);
+        assertThat(ProfileKey.toProfile(ProfileKey.of(empty))).isEqualTo(empty);
+    }
+
+    @Test
+    void of_ShouldDistinguishWildcardFromFirstValue() {
+        long wildcard = ProfileKey.of(null, null, null, null, null, null);
+        long firstValues = ProfileKey.of(AgeGroup.BABY, Gender.MALE, Interest.SPORTS, Occasion.BIRTHDAY,
+                Relationship.FAMILY, PersonalityType.EXTROVERT);
+
+        assertThat(wildcard).isNotEqualTo(firstValues);
+    }
+
+    @Test
+    void of_ShouldIgnoreBudget() {
+        RecipientProfile withBudget = new RecipientProfile(AgeGroup.ADULT, null, null, null, null, null,
+                new BigDecimal("50.00"));
+        RecipientProfile withoutBudget = new RecipientProfile(AgeGroup.ADULT, null, null, null, null, null, null);
+
+        assertThat(ProfileKey.of(withBudget)).isEqualTo(ProfileKey.of(withoutBudget));
+    }
+
+    @Test
+    void of_ShouldBeUniqueAcrossAllSingleAttributeProfiles() {
+        Set<Long> keys = new HashSet<>();
+        int profiles = 1;
+        keys.add(ProfileKey.of(null, null, null, null, null, null));
+        for (AgeGroup ageGroup : AgeGroup.values()) {
+            keys.add(ProfileKey.of(ageGroup, null, null, null, null, null));
+            profiles++;
+        }
+        for (Interest interest : Interest.values()) {
+            keys.add(ProfileKey.of(null, null, interest, null, null, null));
+            profiles++;
+        }
+        for (PersonalityType personalityType : PersonalityType.values()) {
+            keys.add(ProfileKey.of(null, null, null, null, null, personalityType));
+            profiles++;
+        }
+
+        assertThat(keys).hasSize(profiles);
+    }
+}